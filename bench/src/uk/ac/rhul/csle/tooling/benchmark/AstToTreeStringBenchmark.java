@@ -0,0 +1,35 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+import uk.ac.rhul.csle.tooling.trees.GIFTNode;
+
+/**
+ * Measures the conversion of the AST of the preprocessed file into the tree
+ * string format written to the AST files.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class AstToTreeStringBenchmark extends StageBenchmark {
+
+  /**
+   * The root of the AST of the input string
+   */
+  private GIFTNode astTreeRoot;
+
+  @Setup
+  public void setup() throws IOException, InvalidParseException {
+    load();
+    astTreeRoot = transforms.toAST(deriveInput().clone(), input);
+  }
+
+  @Benchmark
+  public String astToTreeString() {
+    return astTreeRoot.toTreeString();
+  }
+}
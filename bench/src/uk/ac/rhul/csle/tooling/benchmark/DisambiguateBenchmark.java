@@ -0,0 +1,37 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import uk.ac.rhul.csle.tooling.lexer.TokenTriple;
+
+/**
+ * Measures <code>MultiLexer.disambiguate</code> on the TWE set the lexer
+ * constructed for the preprocessed file.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class DisambiguateBenchmark extends StageBenchmark {
+
+  /**
+   * The undisambiguated TWE set of the input string
+   */
+  private Set<TokenTriple> triples;
+
+  @Setup
+  public void setup() throws IOException {
+    load();
+    // Keep the lexer's own (packed) TWE set, so that the packed
+    // disambiguation is measured rather than the generic fallback
+    triples = lexInput();
+  }
+
+  @Benchmark
+  public Set<TokenTriple> disambiguate() {
+    return lex.disambiguate(triples);
+  }
+}
@@ -0,0 +1,41 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+
+/**
+ * Measures {@link uk.ac.rhul.csle.tooling.parsing.reduction.EmbeddedTreeReductor#filterSPPF()}.
+ * Filtering suppresses packed nodes in place, so the file is parsed again
+ * before every invocation.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class FilterSPPFBenchmark extends StageBenchmark {
+
+  /**
+   * The TWE set representation of the input string
+   */
+  private String tok;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    load();
+    tok = tokeniseInput();
+  }
+
+  @Setup(Level.Invocation)
+  public void parse() throws InvalidParseException {
+    parseInput(tok);
+  }
+
+  @Benchmark
+  public void filterSPPF() throws InvalidParseException {
+    reductor.filterSPPF();
+  }
+}
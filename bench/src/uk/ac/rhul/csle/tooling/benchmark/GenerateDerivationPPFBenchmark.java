@@ -0,0 +1,30 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+import uk.ac.rhul.csle.tooling.trees.GIFTNode;
+
+/**
+ * Measures {@link uk.ac.rhul.csle.tooling.parsing.reduction.EmbeddedTreeReductor#generateDerivationPPF()}
+ * on the filtered ESPPF of the preprocessed file.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class GenerateDerivationPPFBenchmark extends StageBenchmark {
+
+  @Setup
+  public void setup() throws IOException, InvalidParseException {
+    load();
+    deriveInput();
+  }
+
+  @Benchmark
+  public GIFTNode generateDerivationPPF() {
+    return reductor.generateDerivationPPF();
+  }
+}
@@ -0,0 +1,53 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import uk.ac.rhul.csle.tooling.CSCompiler.CSDFAMap;
+import uk.ac.rhul.csle.tooling.CSCompiler.CSLexer;
+import uk.ac.rhul.csle.tooling.lexer.RegularLexer;
+import uk.ac.rhul.csle.tooling.lexer.TokenTriple;
+
+/**
+ * Measures the construction of the TWE set of the preprocessed file by
+ * <code>ProductLexer</code> with a <code>CSDFAMap</code>, and by the original
+ * <code>RegularLexer</code>, which runs the automaton of each token
+ * separately, for comparison. The lexers are run through
+ * <code>lexSegmentedWithoutSideEffects</code>, which is
+ * <code>lexSegmented</code> without the disambiguation step, so that
+ * {@link DisambiguateBenchmark} can measure that separately.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class LexBenchmark extends StageBenchmark {
+
+  /**
+   * The interpretive lexer, set up in the same way as by
+   * <code>CSTreeBuilder</code>
+   */
+  private RegularLexer regular;
+
+  @Setup
+  public void setup() throws IOException {
+    load();
+    regular = new RegularLexer(new CSDFAMap());
+    CSLexer.longestMatchesCS(regular);
+    CSLexer.equalPriorityMatchesCS(regular);
+  }
+
+  @Benchmark
+  public Set<TokenTriple> lexSegmented() {
+    return lexInput();
+  }
+
+  @Benchmark
+  public Set<TokenTriple> regularLexSegmented() {
+    regular.resetLexer();
+    regular.lexSegmentedWithoutSideEffects(file, input);
+    return regular.getTriples();
+  }
+}
@@ -0,0 +1,49 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import uk.ac.rhul.csle.tooling.lexing.PackedTripleSet;
+import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+
+/**
+ * Measures <code>CSParser.parse</code> on the TWE set representation of the
+ * preprocessed file, and on the TWE set itself handed over by
+ * {@link uk.ac.rhul.csle.tooling.CSCompiler.CSTWESetParser}.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class ParseBenchmark extends StageBenchmark {
+
+  /**
+   * The TWE set representation of the input string
+   */
+  private String tok;
+
+  /**
+   * The disambiguated TWE set of the input string
+   */
+  private PackedTripleSet triples;
+
+  @Setup
+  public void setup() throws IOException {
+    load();
+    tok = tokeniseInput();
+    triples = (PackedTripleSet) lex.disambiguate(lexInput());
+  }
+
+  @Benchmark
+  public boolean parse() throws InvalidParseException {
+    parseInput(tok);
+    return parser.getInLanguage();
+  }
+
+  @Benchmark
+  public boolean parseTWESet() {
+    parser.parse(triples, input.length() + 1);
+    return parser.getInLanguage();
+  }
+}
@@ -0,0 +1,28 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler;
+
+/**
+ * Measures {@link uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler#initialProcessor(String)}
+ * on the unprocessed file.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class PreprocessBenchmark extends StageBenchmark {
+
+  @Setup
+  public void setup() throws IOException {
+    load();
+  }
+
+  @Benchmark
+  public String initialProcessor() {
+    return CSCompiler.initialProcessor(source);
+  }
+}
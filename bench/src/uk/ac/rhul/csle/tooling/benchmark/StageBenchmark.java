@@ -0,0 +1,167 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler;
+import uk.ac.rhul.csle.tooling.CSCompiler.CSDFAMap;
+import uk.ac.rhul.csle.tooling.CSCompiler.CSDerivationReductor;
+import uk.ac.rhul.csle.tooling.CSCompiler.CSLexer;
+import uk.ac.rhul.csle.tooling.CSCompiler.CSTWESetParser;
+import uk.ac.rhul.csle.tooling.CSCompiler.CSTransformations;
+import uk.ac.rhul.csle.tooling.lexer.TokenTriple;
+import uk.ac.rhul.csle.tooling.lexing.ProductLexer;
+import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+import uk.ac.rhul.csle.tooling.parsing.reduction.EmbeddedTreeReductor;
+import uk.ac.rhul.csle.tooling.trees.GIFTNode;
+
+/**
+ * The common state of the pipeline stage benchmarks. Each benchmark is run
+ * once for every file named by the <code>file</code> parameter, which defaults
+ * to a selection of the <code>testSuite</code> strings and can be overridden
+ * on the JMH command line (<code>-p file=testSuite/Foo.cs,...</code>). Relative
+ * file names are resolved against the <code>bench.root</code> system
+ * property, or the working directory if it is not set. Files in a
+ * <code>Preprocessed</code> directory are taken to have been preprocessed
+ * already, and are given to the stages as they are.
+ * <p>
+ * Subclasses measure a single stage, running the stages before it during setup
+ * so that only the stage of interest is timed.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class StageBenchmark {
+
+  /**
+   * The C# file to run the stage on
+   */
+  @Param({ "testSuite/many-locals.cs", "testSuite/testStringFull.cs", "testSuite/ackermann.cs" })
+  public String file;
+
+  /**
+   * The contents of the file
+   */
+  protected String source;
+
+  /**
+   * The contents of the file after {@link CSCompiler#initialProcessor(String)}
+   * (the contents themselves for a file that is already preprocessed)
+   */
+  protected String input;
+
+  /**
+   * The parser used by the stages
+   */
+  protected CSTWESetParser parser;
+
+  /**
+   * The lexer used by the stages
+   */
+  protected ProductLexer lex;
+
+  /**
+   * The derivation tree reduction scheme used by the stages
+   */
+  protected EmbeddedTreeReductor reductor;
+
+  /**
+   * The GIFT transformations used by the stages
+   */
+  protected CSTransformations transforms;
+
+  /**
+   * Reads the file and constructs a fresh pipeline, in the same way as
+   * <code>CSTreeBuilder</code>.
+   *
+   * @throws IOException
+   *           If the file cannot be read
+   */
+  protected void load() throws IOException {
+    final String root = System.getProperty("bench.root", ".");
+    final Path path = Paths.get(root).resolve(file);
+    source = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    // The preprocessed copies in testSuite/Preprocessed are exactly what
+    // initialProcessor makes of the originals
+    final Path directory = path.getParent();
+    final boolean preprocessed = directory != null && directory.getFileName() != null
+            && directory.getFileName().toString().equals("Preprocessed");
+    input = preprocessed ? source : CSCompiler.initialProcessor(source);
+    parser = new CSTWESetParser();
+    final CSDFAMap DFAs = new CSDFAMap();
+    lex = new ProductLexer(DFAs, CSLexer.compiledSchemeCS(DFAs.getTokens()));
+    reductor = new CSDerivationReductor(parser);
+    reductor.setInputString(input);
+    transforms = new CSTransformations();
+  }
+
+  /**
+   * Runs the lexer on the input string
+   *
+   * @return The (undisambiguated) TWE set of the input string
+   */
+  protected Set<TokenTriple> lexInput() {
+    lex.resetLexer();
+    lex.lexSegmentedWithoutSideEffects(file, input);
+    return lex.getTriples();
+  }
+
+  /**
+   * Runs the lexer and lexical disambiguation on the input string
+   *
+   * @return The TWE set representation passed to the parser
+   */
+  protected String tokeniseInput() {
+    return lex.toTok(lex.disambiguate(lexInput()));
+  }
+
+  /**
+   * Parses the input string, leaving the ESPPF in the parser
+   *
+   * @param tok
+   *          The TWE set representation of the input string
+   * @throws InvalidParseException
+   *           If the input string is not in the language
+   */
+  protected void parseInput(String tok) throws InvalidParseException {
+    parser.parse(tok);
+    if (!parser.getInLanguage()) {
+      throw new InvalidParseException();
+    }
+  }
+
+  /**
+   * Runs every stage up to and including the construction of the derivation
+   * tree
+   *
+   * @return The root of the derivation tree
+   * @throws InvalidParseException
+   *           If the input string cannot be tokenised or parsed
+   */
+  protected GIFTNode deriveInput() throws InvalidParseException {
+    parseInput(tokeniseInput());
+    reductor.filterSPPF();
+    return reductor.generateDerivationPPF();
+  }
+}
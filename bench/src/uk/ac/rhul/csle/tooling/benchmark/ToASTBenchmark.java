@@ -0,0 +1,48 @@
+package uk.ac.rhul.csle.tooling.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+import uk.ac.rhul.csle.tooling.trees.GIFTNode;
+
+/**
+ * Measures {@link uk.ac.rhul.csle.tooling.CSCompiler.CSTransformations#toAST(GIFTNode, String)}
+ * on the derivation tree of the preprocessed file. The transformations
+ * rewrite the tree in place, so a fresh copy of the derivation tree is made
+ * before every invocation.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class ToASTBenchmark extends StageBenchmark {
+
+  /**
+   * The root of the derivation tree of the input string
+   */
+  private GIFTNode derivationTreeRoot;
+
+  /**
+   * The copy of the derivation tree that is transformed by the next invocation
+   */
+  private GIFTNode tree;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException, InvalidParseException {
+    load();
+    derivationTreeRoot = deriveInput();
+  }
+
+  @Setup(Level.Invocation)
+  public void copy() {
+    tree = derivationTreeRoot.clone();
+  }
+
+  @Benchmark
+  public GIFTNode toAST() {
+    return transforms.toAST(tree, input);
+  }
+}
@@ -31,14 +31,12 @@ fi
 shift $(($OPTIND - 1))
 
 if [ "$recursive" = true ]; then
-    for f in $input_directory/*.cs ; do
-        echo $f
-        if [ "$suppress" = true ]; then
-            java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar:multilexer.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler -D$output_directory $f &> /dev/null;
-        else
-            java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar:multilexer.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler -d -D$output_directory $f &> $output_directory/$(basename $f).log;
-        fi
-    done
+    # All files in the directory are processed by a single JVM
+    if [ "$suppress" = true ]; then
+        java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar:multilexer.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler -D$output_directory $input_directory &> /dev/null;
+    else
+        java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar:multilexer.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler -d $output_directory/$(basename $input_directory).csv -D$output_directory $input_directory &> $output_directory/$(basename $input_directory).log;
+    fi
 else
     if [ "$suppress" = true ]; then
         java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar:multilexer.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler -D$output_directory $1 &> /dev/null;
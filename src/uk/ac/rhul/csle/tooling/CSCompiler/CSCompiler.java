@@ -6,6 +6,13 @@ import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -15,10 +22,13 @@ import org.apache.commons.cli.Options;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.cli.PosixParser;
 
-import uk.ac.rhul.csle.tooling.CSCompiler.preprocessing.CSProcessorMap;
+import uk.ac.rhul.csle.tooling.CSCompiler.preprocessing.CSLayoutProcessor;
 import uk.ac.rhul.csle.tooling.io.IOReadWrite;
-import uk.ac.rhul.csle.tooling.lexer.DFAMap;
 import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+import uk.ac.rhul.csle.tooling.preprocessing.SourcePositionMap;
+import uk.ac.rhul.csle.tooling.profiling.LexicalStatistics;
+import uk.ac.rhul.csle.tooling.profiling.ParseStatistics;
+import uk.ac.rhul.csle.tooling.profiling.PipelineProfile;
 import uk.ac.rhul.csle.tooling.trees.TreeBuilder;
 
 /**
@@ -38,8 +48,33 @@ public class CSCompiler {
    * <ul>
    * <li><code>-D</code> <em>output_directory</em> - Tells the program to use
    * <em>output_directory</em> as the output directory.</li>
-   * <li><code>-d</code> - If present, tells the program to display additional
-   * debugging information
+   * <li><code>-d</code> <em>debug_file</em> - If present, tells the program to
+   * display additional debugging information, and to append the per-stage
+   * profile of each file to <em>debug_file</em> (as JSON if its name ends with
+   * <code>.json</code>, as CSV otherwise)
+   * <li><code>-s</code> <em>statistics_file</em> - Tells the program to append
+   * the lexical ambiguity statistics of each file (see
+   * {@link LexicalStatistics}) to <em>statistics_file</em> (as JSON if its name
+   * ends with <code>.json</code>, as CSV otherwise)
+   * <li><code>-e</code> <em>parse_statistics_file</em> - Tells the program to
+   * append the statistics of the parse of each file (see
+   * {@link ParseStatistics}) to <em>parse_statistics_file</em> (as JSON if its
+   * name ends with <code>.json</code>, as CSV otherwise)
+   * <li><code>-c</code> <em>sppf_cache_directory</em> - Tells the program to
+   * save the filtered SPPF of each file in <em>sppf_cache_directory</em>, and
+   * to build the AST of a file that has not changed since from its saved SPPF
+   * rather than parsing it again (see {@link TreeBuilder#setSPPFCache(Path)}).
+   * Saved SPPFs are not reused if <code>-s</code> or <code>-e</code> is given.
+   * <li><code>-j</code> <em>threads</em> - Tells the program to process the
+   * input files using <em>threads</em> worker threads.</li>
+   * <li><code>-S</code> <em>port</em> - Tells the program to run as a server
+   * listening on <em>port</em> of the loopback interface (see
+   * {@link CSParseServer}) instead of processing files. The number of parsers
+   * kept resident is given by <code>-j</code>.</li>
+   * <li><code>-p</code> - Tells the program to append the line and column of
+   * each node in the original file to its label in the AST files.</li>
+   * <li><code>-L</code> - Tells the program to lex the lines of each long file
+   * in parallel when the files are processed one at a time.</li>
    * </ul>
    * 
    * @return An Apache CLI Options instantiation.
@@ -56,16 +91,55 @@ public class CSCompiler {
     OptionBuilder.hasArg();
     OptionBuilder.withDescription("Debug mode");
     options.addOption(OptionBuilder.create('d'));
+
+    OptionBuilder.withArgName("statistics_file");
+    OptionBuilder.hasArg();
+    OptionBuilder.withDescription("Append lexical ambiguity statistics to statistics_file");
+    options.addOption(OptionBuilder.create('s'));
+
+    OptionBuilder.withArgName("parse_statistics_file");
+    OptionBuilder.hasArg();
+    OptionBuilder.withDescription("Append parse statistics to parse_statistics_file");
+    options.addOption(OptionBuilder.create('e'));
+
+    OptionBuilder.withArgName("sppf_cache_directory");
+    OptionBuilder.hasArg();
+    OptionBuilder.withDescription("Cache the parse forest of each file in sppf_cache_directory");
+    options.addOption(OptionBuilder.create('c'));
+
+    OptionBuilder.withArgName("threads");
+    OptionBuilder.hasArg();
+    OptionBuilder.withDescription("Process the input files with threads worker threads");
+    options.addOption(OptionBuilder.create('j'));
+
+    OptionBuilder.withArgName("port");
+    OptionBuilder.hasArg();
+    OptionBuilder.withDescription("Run as a parse server on port");
+    options.addOption(OptionBuilder.create('S'));
+
+    OptionBuilder.withDescription("Annotate AST nodes with their original line and column");
+    options.addOption(OptionBuilder.create('p'));
+
+    OptionBuilder.withDescription("Lex the lines of each file in parallel");
+    options.addOption(OptionBuilder.create('L'));
     return options;
   }
 
   /**
-   * The main function which takes a C# string and outputs an AST.
+   * The main function which takes one or more C# strings and outputs an AST for
+   * each of them.
+   * <p>
+   * Every argument may either be a file or a directory, in which case all of
+   * the <code>.cs</code> files in that directory are processed. All of the
+   * files are processed in this JVM by a single <code>CSTreeBuilder</code>, so
+   * the parser, lexer and reductor are only constructed (and warmed up) once.
+   * When more than one file is given a summary of which files succeeded and
+   * which failed is displayed at the end.
    * 
    * @param args
-   *          The command line string (expects a filename as well as zero or
-   *          more command line flags as defined by
-   *          <code>createCommandOptions()</code>
+   *          The command line string (expects one or more filenames or
+   *          directories as well as zero or more command line flags as defined
+   *          by <code>createCommandOptions()</code>
    */
   public static void main(String[] args) {
     // Process command line options
@@ -73,29 +147,61 @@ public class CSCompiler {
     String debug_file = "";
     final Options options = createCommandOptions();
     boolean debug = false;
+    int threads = 1;
+    int port = -1;
     CommandLineParser parser;
     CommandLine line;
-    String input = "";
+    List<String> filenames;
     try {
       parser = new PosixParser();
       line = parser.parse(options, args);
-      input = IOReadWrite.readFile(line.getArgs()[0]);
+      if (line.hasOption("j")) {
+        threads = Integer.parseInt(line.getOptionValue("j"));
+        if (threads < 1) {
+          throw new ParseException("The number of threads must be positive.");
+        }
+      }
+      if (line.hasOption("S")) {
+        port = Integer.parseInt(line.getOptionValue("S"));
+        filenames = null;
+      } else {
+        if (line.getArgs().length == 0) {
+          throw new ParseException("No input files specified.");
+        }
+        filenames = collectInputFiles(line.getArgs());
+      }
+    } catch (NumberFormatException e) {
+      System.err.println("The number of threads and the port must be integers.");
+      final HelpFormatter formatter = new HelpFormatter();
+      formatter.printHelp(
+              "java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler (FILE|DIRECTORY)...",
+              options);
+      return;
     } catch (IOException e) {
       System.err.println("File not found or cannot be opened.");
       final HelpFormatter formatter = new HelpFormatter();
       formatter.printHelp(
-              "java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler FILE",
+              "java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler (FILE|DIRECTORY)...",
               options);
       return;
 
     } catch (final ParseException e) {
       final HelpFormatter formatter = new HelpFormatter();
       formatter.printHelp(
-              "java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler FILE",
+              "java -Dfile.encoding=UTF-8 -classpath bin:commons-cli-1.2.jar:gll.jar uk.ac.rhul.csle.tooling.CSCompiler.CSCompiler (FILE|DIRECTORY)...",
               options);
       return;
     }
 
+    if (port != -1) {
+      try {
+        new CSParseServer(port, threads).serve();
+      } catch (final IOException e) {
+        System.err.println("Unable to start server: " + e.getLocalizedMessage());
+      }
+      return;
+    }
+
     if (line.hasOption("D")) {
       output_directory = line.getOptionValue("D");
     }
@@ -103,13 +209,25 @@ public class CSCompiler {
       debug_file = line.getOptionValue("d");
       debug = true;
     }
+    final String statistics_file = line.hasOption("s") ? line.getOptionValue("s") : null;
+    final String parse_statistics_file = line.hasOption("e") ? line.getOptionValue("e") : null;
+    final Path sppf_cache_directory = line.hasOption("c") ? Paths.get(line.getOptionValue("c")) : null;
+    final CompileOptions compileOptions = new CompileOptions().setOutputDirectory(output_directory)
+            .setDebugFile(debug ? debug_file : null).setStatisticsFile(statistics_file)
+            .setParseStatisticsFile(parse_statistics_file).setSPPFCacheDirectory(sppf_cache_directory)
+            .setPositions(line.hasOption("p"));
     if (output_directory.equals(debug_file)) {
       System.err.println("Debug file cannot be the same as the output directory.");
       return;
     }
-    final String unqualifiedFilename = line.getArgs()[0].substring(
-            line.getArgs()[0].lastIndexOf('/') == -1 ? 0 : line.getArgs()[0].lastIndexOf('/') + 1,
-            line.getArgs()[0].lastIndexOf(".") == -1 ? line.getArgs().length : line.getArgs()[0].lastIndexOf("."));
+    if (output_directory.equals(statistics_file)) {
+      System.err.println("Statistics file cannot be the same as the output directory.");
+      return;
+    }
+    if (output_directory.equals(parse_statistics_file)) {
+      System.err.println("Parse statistics file cannot be the same as the output directory.");
+      return;
+    }
     // Create the output directory if it does not exist
     try {
       Files.createDirectories(new File(output_directory).toPath());
@@ -117,34 +235,270 @@ public class CSCompiler {
       System.err.println("Unable to create output directory.");
       return;
     }
+    if (sppf_cache_directory != null) {
+      try {
+        Files.createDirectories(sppf_cache_directory);
+      } catch (IOException e1) {
+        System.err.println("Unable to create SPPF cache directory.");
+        return;
+      }
+      if (statistics_file != null || parse_statistics_file != null) {
+        System.err.println("Statistics are being recorded, so the SPPF cache will be written but not read.");
+      }
+    }
+
+    if (threads > 1 && filenames.size() > 1) {
+      // Run the main body with one pipeline per worker thread
+      printSummary(filenames,
+              new CSParallelCompiler(filenames, threads, compileOptions).compileAll());
+      return;
+    }
+
+    // Run the main body, reusing the same pipeline for every file
+    final CSTreeBuilder cstb = new CSTreeBuilder(new CSTWESetParser(), debug);
+    cstb.setParallelLexing(line.hasOption("L"));
+    compileOptions.configure(cstb);
+    final Map<String, String> failures = new LinkedHashMap<>();
+    for (int i = 0; i < filenames.size(); i++) {
+      final String filename = filenames.get(i);
+      final String failure = compileFile(cstb, filename, compileOptions);
+      if (failure != null) {
+        failures.put(filename, failure);
+      }
+      if (filenames.size() > 1) {
+        System.out.printf("[%d/%d] %s: %s%n", i + 1, filenames.size(), filename,
+                failure == null ? "OK" : "FAILED (" + failure + ")");
+      }
+    }
+
+    if (filenames.size() > 1) {
+      printSummary(filenames, failures);
+    }
+  }
+
+  /**
+   * Expands the given list of command line arguments into the list of files to
+   * process. Files are kept in the order given, and each directory is replaced
+   * by the <code>.cs</code> files it contains in alphabetical order.
+   *
+   * @param paths
+   *          The file and directory names given on the command line
+   * @return The list of files to process
+   * @throws IOException
+   *           If one of the given paths does not exist or a directory cannot
+   *           be read
+   */
+  public static List<String> collectInputFiles(String... paths) throws IOException {
+    final List<String> filenames = new ArrayList<>();
+    for (final String path : paths) {
+      final File file = new File(path);
+      if (file.isDirectory()) {
+        final File[] sources = file.listFiles((dir, name) -> name.endsWith(".cs"));
+        if (sources == null) {
+          throw new IOException("Unable to read directory " + path);
+        }
+        Arrays.sort(sources);
+        for (final File source : sources) {
+          if (source.isFile()) {
+            filenames.add(source.getPath());
+          }
+        }
+      } else if (file.isFile()) {
+        filenames.add(path);
+      } else {
+        throw new IOException("File not found " + path);
+      }
+    }
+    return filenames;
+  }
+
+  /**
+   * Reads a single C# file, constructs its AST with the given
+   * <code>TreeBuilder</code> and writes the AST to
+   * <em>output_directory</em>/<em>name</em>.ast. Errors are reported to the
+   * console and returned rather than thrown so that a batch run can carry on
+   * with the remaining files.
+   *
+   * @param cstb
+   *          The <code>TreeBuilder</code> to use (it is reset before use, and
+   *          should have been set up with
+   *          {@link CompileOptions#configure(CSTreeBuilder)} if it is a
+   *          <code>CSTreeBuilder</code>)
+   * @param filename
+   *          The path of the C# file to process
+   * @param options
+   *          The output directory, statistics files and AST format to use
+   * @return <code>null</code> if the file was processed successfully, and a
+   *         short description of the failure otherwise
+   */
+  public static String compileFile(TreeBuilder cstb, String filename, CompileOptions options) {
+    final String debug_file = options.getDebugFile();
+    final String statistics_file = options.getStatisticsFile();
+    final String parse_statistics_file = options.getParseStatisticsFile();
+    final String unqualifiedFilename = getUnqualifiedFilename(filename);
+    final String input;
+    try {
+      input = IOReadWrite.readFile(filename);
+    } catch (final IOException e) {
+      System.err.println("File not found or cannot be opened.");
+      return "unable to read file";
+    }
 
     try {
-      // Run the main body
-      final TreeBuilder cstb = new CSTreeBuilder(new CSParser(), debug);
-      cstb.generateAST(unqualifiedFilename, initialProcessor(input));
-      final int directoryEndIndex = line.getArgs()[0].lastIndexOf("/");
+      cstb.setProfiling(debug_file != null);
+      cstb.generateASTFromSource(unqualifiedFilename, input, Paths.get(filename));
 
       // Write out files
-      if (debug) {
-        final PrintWriter debugger = new PrintWriter(new BufferedWriter(new FileWriter(debug_file, true)));
-        debugger.println(line.getArgs()[0].substring(directoryEndIndex != -1 ? directoryEndIndex + 1 : 0,
-                line.getArgs()[0].length()) + "," + cstb.getRemainingDerivations() + "," + cstb.getDPPFCount() + ","
-                + cstb.getASTCount());
-        debugger.close();
+      if (debug_file != null) {
+        writeProfile(debug_file, filename.substring(filename.lastIndexOf('/') + 1), cstb.getProfile());
+      }
+      if (statistics_file != null && cstb.getLexicalStatistics() != null) {
+        writeLexicalStatistics(statistics_file, filename.substring(filename.lastIndexOf('/') + 1),
+                cstb.getLexicalStatistics());
+      }
+      if (parse_statistics_file != null && cstb.getParseStatistics() != null) {
+        writeParseStatistics(parse_statistics_file, filename.substring(filename.lastIndexOf('/') + 1),
+                cstb.getParseStatistics());
       }
 
-      IOReadWrite.writeFile(output_directory + "/" + line.getArgs()[0]
-              .substring(directoryEndIndex != -1 ? directoryEndIndex : 0, line.getArgs()[0].lastIndexOf(".")) + ".ast",
-              cstb.astToTreeString());
-
+      IOReadWrite.writeFile(options.getOutputDirectory() + "/" + unqualifiedFilename + ".ast",
+              options.getPositions() ? cstb.astToTreeStringWithPositions() : cstb.astToTreeString());
     } catch (final InvalidParseException e) {
       System.err.println("Compilation terminated due to unresolved errors in parsing process (see above).");
-      return;
+      return "unresolved errors in parsing process";
     } catch (final IOException e) {
       System.err.println("Unable to write file");
-      return;
+      return "unable to write file";
+    } catch (final RuntimeException e) {
+      // One malformed file should not bring down the rest of a batch run
+      System.err.println("Compilation terminated due to an internal error: " + e);
+      return "internal error (" + e + ")";
+    } catch (final StackOverflowError e) {
+      // Deeply nested input overflows the recursive tree walks; the builder
+      // may have been left part way through a file, so start it afresh
+      cstb.reset();
+      System.err.println("Compilation terminated due to a stack overflow (input nested too deeply).");
+      return "stack overflow";
     }
+    return null;
+  }
 
+  /**
+   * Appends the profile of a single file to the debug file. If the name of the
+   * debug file ends with <code>.json</code> the profile is written as a JSON
+   * object on a line of its own, otherwise it is written as a CSV line (and
+   * the CSV header is written first if the file is empty).
+   *
+   * @param debug_file
+   *          The file to append to
+   * @param name
+   *          The name of the file the profile is for
+   * @param profile
+   *          The profile to write
+   * @throws IOException
+   *           If the debug file cannot be written
+   */
+  private static void writeProfile(String debug_file, String name, PipelineProfile profile) throws IOException {
+    final boolean json = debug_file.endsWith(".json");
+    appendRecord(debug_file, json ? profile.toJSON(name) : profile.toCSV(name),
+            json ? null : PipelineProfile.csvHeader());
+  }
+
+  /**
+   * Appends the lexical statistics of a single file to the statistics file, in
+   * the same way as {@link CSCompiler#writeProfile(String, String, PipelineProfile)}
+   *
+   * @param statistics_file
+   *          The file to append to
+   * @param name
+   *          The name of the file the statistics are for
+   * @param statistics
+   *          The statistics to write
+   * @throws IOException
+   *           If the statistics file cannot be written
+   */
+  private static void writeLexicalStatistics(String statistics_file, String name, LexicalStatistics statistics)
+          throws IOException {
+    final boolean json = statistics_file.endsWith(".json");
+    appendRecord(statistics_file, json ? statistics.toJSON(name) : statistics.toCSV(name),
+            json ? null : statistics.csvHeader());
+  }
+
+  /**
+   * Appends the parse statistics of a single file to the parse statistics
+   * file, in the same way as
+   * {@link CSCompiler#writeProfile(String, String, PipelineProfile)}
+   *
+   * @param parse_statistics_file
+   *          The file to append to
+   * @param name
+   *          The name of the file the statistics are for
+   * @param statistics
+   *          The statistics to write
+   * @throws IOException
+   *           If the parse statistics file cannot be written
+   */
+  private static void writeParseStatistics(String parse_statistics_file, String name, ParseStatistics statistics)
+          throws IOException {
+    final boolean json = parse_statistics_file.endsWith(".json");
+    appendRecord(parse_statistics_file, json ? statistics.toJSON(name) : statistics.toCSV(name),
+            json ? null : ParseStatistics.csvHeader());
+  }
+
+  /**
+   * Appends a record to a file, writing a header line first if the file is
+   * empty
+   *
+   * @param file
+   *          The file to append to
+   * @param record
+   *          The record to write
+   * @param header
+   *          The header line, or <code>null</code> if the file has no header
+   * @throws IOException
+   *           If the file cannot be written
+   */
+  private static void appendRecord(String file, String record, String header) throws IOException {
+    // Several worker threads may share the same file
+    synchronized (CSCompiler.class) {
+      final boolean empty = !new File(file).exists() || new File(file).length() == 0;
+      final PrintWriter writer = new PrintWriter(new BufferedWriter(new FileWriter(file, true)));
+      if (empty && header != null) {
+        writer.println(header);
+      }
+      writer.println(record);
+      writer.close();
+    }
+  }
+
+  /**
+   * Returns the name of the given file without its directory or extension.
+   *
+   * @param filename
+   *          The path of a file
+   * @return The unqualified name of the file
+   */
+  private static String getUnqualifiedFilename(String filename) {
+    final String name = filename.substring(filename.lastIndexOf('/') + 1);
+    return name.lastIndexOf('.') == -1 ? name : name.substring(0, name.lastIndexOf('.'));
+  }
+
+  /**
+   * Displays a summary of a batch run, listing every file that could not be
+   * processed along with the reason.
+   *
+   * @param filenames
+   *          The files that were processed
+   * @param failures
+   *          A mapping from each file that failed to a description of the
+   *          failure
+   */
+  private static void printSummary(List<String> filenames, Map<String, String> failures) {
+    System.out.printf("%nProcessed %d files: %d succeeded, %d failed.%n", filenames.size(),
+            filenames.size() - failures.size(), failures.size());
+    for (final Map.Entry<String, String> failure : failures.entrySet()) {
+      System.out.printf("  FAILED %s: %s%n", failure.getKey(), failure.getValue());
+    }
   }
 
   /**
@@ -153,52 +507,34 @@ public class CSCompiler {
    * <p>
    * The output of this function is a reformatted C# string consisting of only
    * sequences of characters that are non-layout, delimited by new-line
-   * characters.
+   * characters. The layout is recognised in a single left-to-right pass by
+   * {@link CSLayoutProcessor}, following the tokens described by
+   * <code>CSProcessorMap</code>.
    * 
    * @param input
    *          The C# string to process
    * @return The initially processed string
    */
   public static String initialProcessor(String input) {
-    final DFAMap processor = new CSProcessorMap();
-    int i = 0;
-    final StringBuilder newString = new StringBuilder("");
-    // We only care about identifying the layout tokens so we can use a
-    // traditional longest-match lexer.
-    while (i < input.length()) {
-      boolean whitespaceCaptured = false;
-      final int startIndex = i;
-      int longestEndIndex = i + 1;
-      for (final String token : processor.getTokens()) {
-        int endIndex = i;
-        while (i < input.length() && processor.applyTransition(token, input.charAt(i))) {
-          i++;
-          if (processor.atAcceptingState(token)) {
-            endIndex = i;
-            // We might be looking at a character or string literal instead in
-            // which case we simply want to copy it over
-            if (processor.isLayout(token)) {
-              whitespaceCaptured = true;
-            }
-          }
-        }
-        processor.reset(token);
-        if (endIndex > longestEndIndex) {
-          longestEndIndex = endIndex;
-        }
-        i = startIndex;
-      }
-      // If this portion of the input string was not captured by a layout token
-      // then we simply copy it over. Note that if the string is also not
-      // matched by string and character literal, then we simply copy a single
-      // character over.
-      if (!whitespaceCaptured) {
-        newString.append(input.substring(startIndex, longestEndIndex));
-      } else {
-        newString.append('\n');
-      }
-      i = longestEndIndex;
-    }
-    return newString.toString().replaceAll("\n+", "\n").trim();
+    return CSLayoutProcessor.process(input);
   }
+
+  /**
+   * Processes the given C# string as described in
+   * {@link CSCompiler#initialProcessor(String)}, recording the position in
+   * <code>input</code> of each character of the result in
+   * <code>positions</code>, so that extents in the processed string can be
+   * translated back to lines and columns of the original string.
+   *
+   * @param input
+   *          The C# string to process
+   * @param positions
+   *          The map to record the original positions in (constructed for
+   *          <code>input</code>)
+   * @return The initially processed string
+   */
+  public static String initialProcessor(String input, SourcePositionMap positions) {
+    return CSLayoutProcessor.process(input, positions);
+  }
+
 }
@@ -3,17 +3,21 @@ package uk.ac.rhul.csle.tooling.CSCompiler;
 import java.util.Arrays;
 import java.util.stream.Collectors;
 
-import uk.ac.rhul.csle.tooling.lexer.BasicDFAMap;
+import uk.ac.rhul.csle.tooling.lexing.CompiledDFAMap;
 
 /**
  * This class represents a finite-state automaton implementation of the C# 1.2
  * lexical specification. This implementation is hand-written and should not be
  * taken to be a model implementation.
+ * <p>
+ * The automata are compiled into transition tables when the map is constructed
+ * (see <code>CompiledDFAMap</code>), so that lexing does not search the
+ * transition lists for every input character.
  *
  * @author Robert Michael Walsh
  *
  */
-public class CSDFAMap extends BasicDFAMap {
+public class CSDFAMap extends CompiledDFAMap {
 
   /*
    * (non-Javadoc)
@@ -72,7 +76,7 @@ public class CSDFAMap extends BasicDFAMap {
     /*
      * character_literal : '\'' [any unicode character] '\''
      */
-    final DFA c_l = new DFA(20);
+    final DFA c_l = new RecordingDFA(20);
 
     c_l.addTransition(0, 1, '\'');
     c_l.addAllUnicodeTransition(1, 2, '\'', '\\', '\r', '\n');
@@ -121,7 +125,7 @@ public class CSDFAMap extends BasicDFAMap {
      * comment : ('/' '/' [any unicode character] | '/' '*' ([any unicode
      * character except *] | '*'+ [any unicode character except /])* '*'+ '/'
      */
-    final DFA comment = new DFA(8);
+    final DFA comment = new RecordingDFA(8);
 
     comment.addTransition(0, 1, '/');
     comment.addTransition(1, 2, '/');
@@ -147,7 +151,7 @@ public class CSDFAMap extends BasicDFAMap {
      * [0-9a-fA-F] [0-9a-fA-F] ([0-9a-fA-F] [0-9a-fA-F] [0-9a-fA-F] [0-9a-fA-F]
      * [0-9a-fA-F])?)*
      */
-    final DFA id = new DFA(12);
+    final DFA id = new RecordingDFA(12);
 
     id.addTransition(0, 1, '@');
     id.addTransition(1, 2, 'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R',
@@ -188,7 +192,7 @@ public class CSDFAMap extends BasicDFAMap {
      * integer_literal : ([0-9]+ | '0' ('x'|'X') [0-9a-fA-F]+) (('u'|'U')
      * ('l'|'L')? | ('l'|'L') ('u'|'U')?)?
      */
-    final DFA i_l = new DFA(8);
+    final DFA i_l = new RecordingDFA(8);
 
     i_l.addTransition(0, 1, '1', '2', '3', '4', '5', '6', '7', '8', '9');
     i_l.addTransition(1, 1, '0', '1', '2', '3', '4', '5', '6', '7', '8', '9');
@@ -218,7 +222,7 @@ public class CSDFAMap extends BasicDFAMap {
     /*
      * new_line : ('\r' '\n'? | '\n' )
      */
-    final DFA n_l = new DFA(3);
+    final DFA n_l = new RecordingDFA(3);
 
     n_l.addTransition(0, 1, '\r');
     n_l.addTransition(0, 2, '\n');
@@ -234,7 +238,7 @@ public class CSDFAMap extends BasicDFAMap {
      * (('e'|'E') ('+'|'-')? [0-9]+)? ('f'|'F'|'d'|'D'|'m'|'M')?) | [0-9]+
      * ('e'|'E') ('+'|'-')? [0-9]+ ('f'|'F'|'d'|'D'|'m'|'M') )
      */
-    final DFA r_l = new DFA(8);
+    final DFA r_l = new RecordingDFA(8);
 
     r_l.addTransition(0, 1, '0', '1', '2', '3', '4', '5', '6', '7', '8', '9');
     r_l.addTransition(0, 2, '.');
@@ -262,7 +266,7 @@ public class CSDFAMap extends BasicDFAMap {
      * string_literal : '"' [any unicode character except " \ or new-line]* '"'
      * | '@' '"' ([any unicode character except "] | '"' '"')* '"'
      */
-    final DFA s_l = new DFA(19);
+    final DFA s_l = new RecordingDFA(19);
 
     s_l.addTransition(0, 1, '"');
     s_l.addTransition(0, 16, '@');
@@ -318,7 +322,7 @@ public class CSDFAMap extends BasicDFAMap {
     /*
      * whitespace : ( ' ' | '\t' | '\v' | '\f')
      */
-    final DFA whitespace = new DFA(2);
+    final DFA whitespace = new RecordingDFA(2);
 
     whitespace.addTransition(0, 1, ' ', '\t', '\f');
     whitespace.addAcceptingState(1);
@@ -0,0 +1,2080 @@
+package uk.ac.rhul.csle.tooling.CSCompiler;
+
+import uk.ac.rhul.csle.tooling.lexing.DisambiguationScheme;
+import uk.ac.rhul.csle.tooling.lexing.PackedTripleSet;
+import uk.ac.rhul.csle.tooling.lexing.ProductLexer;
+
+/*******************************************************************************
+*
+* CSGeneratedLexer.java
+*
+* Generated by uk.ac.rhul.csle.tooling.lexing.LexerGenerator from uk.ac.rhul.csle.tooling.CSCompiler.CSDFAMap.
+* Do not edit: run the GenerateLexer target of the Ant build instead.
+*
+*******************************************************************************/
+/**
+ * A <code>ProductLexer</code> specialised for the tokens of <code>uk.ac.rhul.csle.tooling.CSCompiler.CSDFAMap</code>,
+ * with the product automaton of the tokens compiled into static tables.
+ */
+public class CSGeneratedLexer extends ProductLexer {
+
+  /**
+   * The tokens, indexed by token number
+   */
+  public static final String[] TOKENS = { "whitespace", "comment", "identifier", "abstract", "as",
+          "base", "bool", "break", "byte", "case", "catch", "char", "checked", "class", "const",
+          "continue", "decimal", "default", "delegate", "do", "double", "else", "enum", "event",
+          "explicit", "extern", "false", "finally", "fixed", "float", "for", "foreach", "goto", "if",
+          "implicit", "in", "int", "interface", "internal", "is", "lock", "long", "namespace", "new",
+          "object", "operator", "out", "override", "params", "private", "protected", "public",
+          "readonly", "ref", "return", "sbyte", "sealed", "short", "stackalloc", "static", "string",
+          "struct", "switch", "this", "throw", "try", "typeof", "uint", "ulong", "unchecked",
+          "unsafe", "ushort", "using", "virtual", "void", "volatile", "while", "method",
+          "integer_literal", "real_literal", "true", "character_literal", "string_literal", ".", ",",
+          "(", ")", "[", "]", "++", "--", "new_line", "+", "-", "!", "*", "/", "%", "|", "<<", ">>",
+          "<", ">", "<=", ">=", "==", "!=", "&", "^", "&&", "||", "?", ":", ";", "=", "+=", "-=",
+          "*=", "/=", "%=", "&=", "|=", "^=", "<<=", ">>=", "{", "}", "~", "assembly", "module",
+          "field", "param", "property", "type", "add", "remove", "get", "set", "null_literal" };
+
+  /**
+   * The layout tokens
+   */
+  public static final String[] LAYOUT_TOKENS = { "whitespace", "new_line", "comment" };
+
+  /**
+   * The number of character classes
+   */
+  private static final int CLASS_COUNT = 67;
+
+  /**
+   * The target of the transition from each state on each class (-1 if every
+   * token is dead), indexed by <em>state * CLASS_COUNT + class</em>
+   */
+  private static final int[] TRANSITIONS = decode(
+          "\000\002\003\004\005\006\007\010\011\012\013\014\015\016\017\020\021\022\023\024\025\026\027\030" +
+          "\031\032\033\033\033\033\033\033\033\033\034\000\035\036\037 !\"#$%\033&\033\033'()*+,-./01\033\033" +
+          "2345\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\003\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\0006\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\006\006\000\000\0067\006\006\006\006\006\006\006\006\006\006\006\006\006\006" +
+          "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\0068\006\006\006\006\006\006\006\006\006" +
+          "\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\006\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\0009\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000:\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000;\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000<<\000\000<<<<\000<<<<<<<<<<<<<<<<<<<<<<<<<<=<<<<<<<<<<<<<<<" +
+          "<<<<<<<<<<<<<<<\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000>\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "?\000\000\000\000\000\000\000\000\000@\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000A\000\000\000\000\000\000\000B\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000CC\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000D\000\000\000" +
+          "\000E\000\000\000\000\000F\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000G\000\023\023\000\000\000\000" +
+          "\000\000\000\000HI\000\000H\000J\000\000\000\000\000\000\000HIH\000\000\000\000\000\000H\000\000" +
+          "\000\000\000\000\000\000\000J\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000G\000\023\023\000\000\000\000\000\000\000\000HI\000KHL\000\000\000\000\000\000\000" +
+          "\000HIH\000\000\000\000\000KH\000\000\000\000\000\000L\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000MN\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000O\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000PQ\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000R\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033" +
+          "\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000T\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033U\033V\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033W\033\033\033\033\033\033\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000" +
+          "\033\033\033\033\033\033\033\033\000S\000\000X\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "Y\033Z\033\033\033\033\033\033[\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\\\033\033\033\033\033\033]\033\033\033^\033\033_\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033`\033\033\033\033" +
+          "\033\033\033\033\033a\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033b\033c\033\033\033\033" +
+          "\033\033d\033e\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000f\033\033" +
+          "\033\033\033\033\033g\033\033h\033\033i\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000" +
+          "\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033j\033\033\033\033\033\033\033\033" +
+          "\033k\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033l\033\033\033\033\033\033mn\033\033\033o\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033p\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000" +
+          "\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033q\033\033\033\033\033\033\033\033" +
+          "\033r\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000s\033\033\033t\033\033\033\033\033\033\033\033\033\033\033\033\033\033u\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033v\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033w\033\033\033xy\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000z\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033{\033\033|\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\033\033\033\033}\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033" +
+          "\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033~\033\033\u007f\033" +
+          "\033\u0080\033\033\033\033\033\033\033\033\033\033\u0081\033\033\u0082\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\u0083\033\033\033" +
+          "\033\033\033\033\033\u0084\033\033\033\033\033\033\u0085\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\u0086\033\033\u0087\033\u0088\033" +
+          "\033\033\u0089\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\u008a\033\033\033\033\033\u008b\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\u008c\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u008d\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\u008e\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\006\000\000\006\000\000\000\000\000\000\000\000\006\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\u008f\000\000\006\000\000\006\006\000\000\000\006\000\000\000\000\000\000\000" +
+          "\006\000\000\006\000\006\u0090\006\000\u0091\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\u0092\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\u0093\000\000\u0093\000\000\000\000\000\000\000\000\u0093\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\u0094\000\000\u0093\000\000\u0093\u0093\000\000\000\u0093\000\000\000\000" +
+          "\000\000\000\u0093\000\000\u0093\000\u0093\u0095\u0093\000\u0096\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000CC\000\000\000\000\000\000\000\000HI\000" +
+          "\000H\000\000\000\000\000\000\000\000\000HIH\000\000\000\000\000\000H\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0098\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\000EE\000\000EEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEEE" +
+          "EEEEEEEEEEEEEEEEEEEEEEEEEEEE\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000CC\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\u0099\000\u0099\000\000\u009a\u009a\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\u009b\u009b\000\000\000\000\000\000\000\u009b\u009b\u009b\000\000\000\000\000" +
+          "\000\000\000\000\u009b\u009b\u009b\u009b\u009b\u009b\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u009c\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u009c\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\u009c\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\u009c\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\u009d\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\u009e\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000RRRRR\u009fRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRRR\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\u00a0\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\u00a1\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00a2\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\u00a3\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\u00a4\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00a5\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\u00a6\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u00a7\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\u00a8\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00a9\u00aa" +
+          "\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u00ab" +
+          "\033\033\033\u00ac\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000" +
+          "\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u00ad\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000" +
+          "\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\u00ae\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033" +
+          "\033\033\000S\000\000\033\033\u00af\033\033\u00b0\033\033\033\033\033\u00b1\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00b2\033\033\033\033" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033" +
+          "\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\u00b3\033\033\033\033\033\033\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000" +
+          "\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\u00b4\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033" +
+          "\033\033\033\000S\000\000\033\033\033\033\u00b5\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00b6\033\033\u00b7\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033" +
+          "\033\033\033\033\033\033\u00b8\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u00b9\033\033\033\033\033\033" +
+          "\033\033\u00ba\033\033\033\033\033\033\033\033\u00bb\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00bc\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00bd\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00be\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u00bf\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00c0\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00c1\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\u00c2\033\033\033\033\033\033\033\033\033\033\u00c3\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00c4\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\u00c5\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\u00c6\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\u00c7\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u00c8\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\033\033\033\033\033\033\u00c9\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u00ca\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\u00cb\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\u00cc\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\u00cd\033\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\u00ce" +
+          "\033\033\033\033\033\u00cf\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\u00d0\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\u00d1\033\033\033\033\u00d2\033\033\033\033\033\033\u00d3\033\033\033\033\033\u00d4" +
+          "\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00d5\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000" +
+          "\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u00d6\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\u00d7\033\033\033\033\033\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000" +
+          "\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\u00d8\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033" +
+          "\033\033\000S\000\000\u00d9\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00da\033" +
+          "\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000" +
+          "\033\033\033\033\033\033\033\033\u00db\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033" +
+          "\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033" +
+          "\033\033\u00dc\033\033\033\033\033\033\033\u00dd\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u00de\033\033\033\u00df\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00e0" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\u00e1\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\u00e2\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u00e3\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\u00e4\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\u00e5\u00e6\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00e7\033\033\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\033\033\033\033\033\u00e8\033\033\u00e9\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\u00ea\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\u00eb\u00eb\000\000\000\000\000\000\000\u00eb\u00eb\u00eb\000\000\000\000\000\000" +
+          "\000\000\000\u00eb\u00eb\u00eb\u00eb\u00eb\u00eb\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\u00ec\u00ec\000\000\000\000\000\000\000\u00ec\u00ec\u00ec\000\000\000\000\000\000" +
+          "\000\000\000\u00ec\u00ec\u00ec\u00ec\u00ec\u00ec\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\u00ed\u00ed\000\000\000\000\000\000\000\u00ed\u00ed\u00ed\000\000\000\000\000\000" +
+          "\000\000\000\u00ed\u00ed\u00ed\u00ed\u00ed\u00ed\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0092\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u00ee\u00ee\000\000\000" +
+          "\000\000\000\000\u00ee\u00ee\u00ee\000\000\000\000\000\000\000\000\000\u00ee\u00ee\u00ee\u00ee\u00ee" +
+          "\u00ee\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u00ef\u00ef\000\000\000\000" +
+          "\000\000\000\u00ef\u00ef\u00ef\000\000\000\000\000\000\000\000\000\u00ef\u00ef\u00ef\u00ef\u00ef" +
+          "\u00ef\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u00f0\u00f0\000\000\000\000" +
+          "\000\000\000\u00f0\u00f0\u00f0\000\000\000\000\000\000\000\000\000\u00f0\u00f0\u00f0\u00f0\u00f0" +
+          "\u00f0\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0098\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\000\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u0098\u00f1\u00f1" +
+          "\u00f1\u00f1\u00f2\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1" +
+          "\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1" +
+          "\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1\u00f1" +
+          "\u00f1\u00f1\u00f1\u00f1\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\u009a\u009a\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u009a\u009a\000" +
+          "\000\000\000\000\000\000\000H\000\000\000H\000\000\000\000\000\000\000\000\000H\000H\000\000\000" +
+          "\000\000\000H\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\u009b\u009b\000\000\000\000\000\000\000\u009b\u009b" +
+          "\u009b\000K\000L\000\000\000\000\000\u009b\u009b\u009b\u009b\u009b\u009b\000\000\000\000\000K\000" +
+          "\000\000\000\000\000\000L\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000R\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\u00f3\u00f3\000\000\000\000\000\000\000\u00f3\u00f3" +
+          "\u00f3\000\000\000\000\000\000\000\000\000\u00f3\u00f3\u00f3\u00f3\u00f3\u00f3\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\u00f4\u00f4\000\000\000\000\000\000\000\u00f4\u00f4" +
+          "\u00f4\000\000\000\000\000\000\000\000\000\u00f4\u00f4\u00f4\u00f4\u00f4\u00f4\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\u00f5\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u00f6" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u00f7\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u00f8\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\u00f9\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u00fa" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u00fb\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\u00fc\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u00fd\033\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u00fe\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\u00ff\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\u0100\u0101\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\u0102\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u0103\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0104\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\u0105\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\u0106\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u0107\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\u0108\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u0109\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\u010a\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\u010b\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\u010c\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\u010d\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\u010e\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u010f\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0110\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0111\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\u0112\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0113\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\u0114\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\u0115\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\u0116\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u0117\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\u0118\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\u0119\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u011a\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\u011b\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\u011c\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u011d\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\u011e\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u011f\033\033\u0120\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u0121\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\u0122\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0123\033\033\033\033\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0124\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u0125\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u0126\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\u0127\033\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u0128\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u0129\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\u012a\033\033\033\033\033\033" +
+          "\033\033\033\033\u012b\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u012c\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u012d\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\u012e\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\u012f\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\033\u0130\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u0131\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\u0132\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\u0133\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u0134\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\u0135\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\u0136\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033" +
+          "\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0137\033\033" +
+          "\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033" +
+          "\u0138\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000" +
+          "\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u0139\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033" +
+          "\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u013a\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\u013b\u013b\000\000\000\000\000\000\000\u013b\u013b\u013b\000\000\000" +
+          "\000\000\000\000\000\000\u013b\u013b\u013b\u013b\u013b\u013b\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\u013c\u013c\000\000\000\000\000\000\000\u013c\u013c\u013c\000\000\000" +
+          "\000\000\000\000\000\000\u013c\u013c\u013c\u013c\u013c\u013c\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\006\006\000\000\000\000\000\000\000\006\006\006\000\000\000\000\000" +
+          "\000\000\000\000\006\006\006\006\006\006\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\u013d\u013d\000\000\000\000\000\000\000\u013d\u013d\u013d\000\000\000\000\000\000\000\000" +
+          "\000\u013d\u013d\u013d\u013d\u013d\u013d\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\u013e\u013e\000\000\000\000\000\000\000\u013e\u013e\u013e\000\000\000\000\000\000\000\000" +
+          "\000\u013e\u013e\u013e\u013e\u013e\u013e\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0092\000\000\000\000\000\000" +
+          "\000\000\u013f\u013f\000\000\000\000\000\000\000\u013f\u013f\u013f\000\000\000\000\000\000\000\000" +
+          "\000\u013f\u013f\u013f\u013f\u013f\u013f\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0098\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097" +
+          "\u0097\u0097\u0097\u0097\u0097\u0097\u0097\u0097\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\u0140\u0140\000\000\000\000\000\000\000\u0140\u0140\u0140\000\000\000\000\000\000\000\000\000" +
+          "\u0140\u0140\u0140\u0140\u0140\u0140\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\u0141\u0141\000\000\000\000\000\000\000\u0141\u0141\u0141\000\000\000\000\000\000\000\000\000" +
+          "\u0141\u0141\u0141\u0141\u0141\u0141\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S",
+          "\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0142\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u0143\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\u0144\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\u0145\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\u0146\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\u0147\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\u0148\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\u0149\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u014a\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u014b\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\u014c\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\u014d\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\u014e\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\u014f\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\u0150\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0151\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\u0152\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\u0153\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\u0154" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u0155\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\u0156\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\u0157\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\u0158\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\u0159\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\u015a\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\u015b\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u015c\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u015d\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\u015e\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\u015f\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u0160\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0161\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\u0162\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\u0163\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\u0164\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\u0165\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\u0166\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\u0167\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\u0168\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u0169\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\u016a\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\u016b\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u016c\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u016d\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\u016e\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u016f\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0170\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\u0171\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0172\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\u0173\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0174\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\u0175\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u0176\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0177\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\u0178\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0179\u0179\000\000\000" +
+          "\000\000\000\000\u0179\u0179\u0179\000\000\000\000\000\000\000\000\000\u0179\u0179\u0179\u0179\u0179" +
+          "\u0179\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u017a\u017a\000\000\000\000" +
+          "\000\000\000\u017a\u017a\u017a\000\000\000\000\000\000\000\000\000\u017a\u017a\u017a\u017a\u017a" +
+          "\u017a\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u017b\u017b\000\000\000\000" +
+          "\000\000\000\u017b\u017b\u017b\000\000\000\000\000\000\000\000\000\u017b\u017b\u017b\u017b\u017b" +
+          "\u017b\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u017c\u017c\000\000\000\000" +
+          "\000\000\000\u017c\u017c\u017c\000\000\000\000\000\000\000\000\000\u017c\u017c\u017c\u017c\u017c" +
+          "\u017c\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\u0092\000\000\000\000\000\000\000\000\u017d\u017d\000\000\000\000" +
+          "\000\000\000\u017d\u017d\u017d\000\000\000\000\000\000\000\000\000\u017d\u017d\u017d\u017d\u017d" +
+          "\u017d\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u017e\u017e\000\000\000\000" +
+          "\000\000\000\u017e\u017e\u017e\000\000\000\000\000\000\000\000\000\u017e\u017e\u017e\u017e\u017e" +
+          "\u017e\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u017f\u017f\000\000\000\000" +
+          "\000\000\000\u017f\u017f\u017f\000\000\000\000\000\000\000\000\000\u017f\u017f\u017f\u017f\u017f" +
+          "\u017f\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\u0180\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\u0181\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0182\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u0183\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\u0184\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u0185\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\u0186\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0187" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\u0188\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\033\033\033\033\033\033\033\033\033\033\033\033\033\u0189\033\033\033\033\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u018a\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033" +
+          "\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u018b\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033" +
+          "\033\033\033\033\000S\000\000\033\033\u018c\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000" +
+          "\000\033\033\033\033\033\u018d\033\033\033\033\033\033\033\u018e\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\u018f" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u0190\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0191" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0192\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0193\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\u0194\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\u0195\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u0196\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\u0197\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u0198\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\u0199\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\u019a\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\u019b\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\u019c\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\u019d\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u019e\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\u019f\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\u01a0\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01a1\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\u01a2\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\u01a3\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u01a4\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\u01a5\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01a6\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u01a7\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\u01a8\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\u0090\u0090\000\000\000\000\000\000\000\u0090\u0090\u0090\000\000\000\000\000\000\000\000\000\u0090" +
+          "\u0090\u0090\u0090\u0090\u0090\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\006" +
+          "\006\000\000\000\000\000\000\000\006\006\006\000\000\000\000\000\000\000\000\000\006\006\006\006" +
+          "\006\006\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0095\u0095\000\000\000" +
+          "\000\000\000\000\u0095\u0095\u0095\000\000\000\000\000\000\000\000\000\u0095\u0095\u0095\u0095\u0095" +
+          "\u0095\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u01a9\u01a9\000\000\000\000" +
+          "\000\000\000\u01a9\u01a9\u01a9\000\000\000\000\000\000\000\000\000\u01a9\u01a9\u01a9\u01a9\u01a9" +
+          "\u01a9\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\u0092\000\000\000\000\000\000\000\000\u01aa\u01aa\000\000\000\000" +
+          "\000\000\000\u01aa\u01aa\u01aa\000\000\000\000\000\000\000\000\000\u01aa\u01aa\u01aa\u01aa\u01aa" +
+          "\u01aa\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u00a1\u00a1\000\000\000\000" +
+          "\000\000\000\u00a1\u00a1\u00a1\000\000\000\000\000\000\000\000\000\u00a1\u00a1\u00a1\u00a1\u00a1" +
+          "\u00a1\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000" +
+          "\000\000\033\033\033\000\000\000\000\000\000\000\000\000\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\u01ab\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\u01ac\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\u01ad" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u01ae\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u01af\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01b0\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01b1\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\u01b2\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01b3\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\u01b4\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\u01b5\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\u01b6\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\u01b7\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\u01b8\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\u01b9\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\u01ba\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\u01bb\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\u01bc\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\u01bd\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\u01be\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\u01bf\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\u01c0\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000" +
+          "S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000" +
+          "\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033" +
+          "\033\u01c1\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033" +
+          "\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\u01c2\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\u0092\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\u0092\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\u01c3\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u01c4\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\u01c5\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\u01c6\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01c7\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01c8\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\u01c9\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\u01ca\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\u01cb\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01cc\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\u01cd\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\u01ce\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\u01cf\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01d0\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\u01d1\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u01d2\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\u01d3\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\u01d4\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\u01d5\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\u01d6\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\u01d7\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\u01d8\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000" +
+          "\000\000\000\000\000\033\033\033\033\033\033\033\033\000S\000\000\033\033\u01d9\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033" +
+          "\033\033\033\033\033\033\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\033\033\033\033\033\033\000\000\000\000\000\000\000\000\000\000\000\000\000\000" +
+          "\000\000\000\000\000\000\000\000\033\033\000\000\000\000\000\000\000\033\033\033\033\033\033\033" +
+          "\033\000S\000\000\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033\033" +
+          "\033\033\033\033\000\000\000\000\000");
+
+  /**
+   * The tokens accepted in each state, in ascending order
+   */
+  private static final int[][] ACCEPTING_TOKENS = {
+          {},
+          {0},
+          {91},
+          {91},
+          {94},
+          {},
+          {97},
+          {107},
+          {},
+          {85},
+          {86},
+          {95},
+          {92},
+          {84},
+          {93},
+          {83},
+          {96},
+          {78},
+          {78},
+          {112},
+          {113},
+          {101},
+          {114},
+          {102},
+          {111},
+          {},
+          {2},
+          {87},
+          {88},
+          {108},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {125},
+          {98},
+          {126},
+          {127},
+          {106},
+          {82},
+          {},
+          {119},
+          {109},
+          {120},
+          {},
+          {},
+          {117},
+          {89},
+          {115},
+          {90},
+          {116},
+          {79},
+          {},
+          {1},
+          {118},
+          {},
+          {79},
+          {},
+          {},
+          {78},
+          {78},
+          {99},
+          {103},
+          {105},
+          {104},
+          {100},
+          {},
+          {},
+          {122},
+          {2},
+          {2},
+          {2, 4},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 19},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 33},
+          {2},
+          {2, 35},
+          {2, 39},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {121},
+          {110},
+          {},
+          {},
+          {},
+          {81},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {79},
+          {78},
+          {78},
+          {123},
+          {124},
+          {82},
+          {},
+          {},
+          {2},
+          {2, 134},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 30},
+          {2, 136},
+          {2},
+          {2},
+          {2, 36},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 43},
+          {2},
+          {2},
+          {2},
+          {2, 46},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 53},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 137},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 65},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {1},
+          {},
+          {},
+          {2},
+          {2},
+          {2, 5},
+          {2, 6},
+          {2},
+          {2, 8},
+          {2, 9},
+          {2},
+          {2, 11},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 21},
+          {2, 22},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 32},
+          {2},
+          {2},
+          {2, 40},
+          {2, 41},
+          {2},
+          {2},
+          {2},
+          {2, 138},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 63},
+          {2},
+          {2, 80},
+          {2, 133},
+          {2, 67},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 74},
+          {2},
+          {2},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {2},
+          {2},
+          {2, 7},
+          {2, 10},
+          {2},
+          {2, 13},
+          {2, 14},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 23},
+          {2},
+          {2},
+          {2, 26},
+          {2, 130},
+          {2},
+          {2, 28},
+          {2, 29},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 131},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 55},
+          {2},
+          {2, 57},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 64},
+          {2},
+          {2, 68},
+          {2},
+          {2},
+          {2},
+          {2, 72},
+          {2},
+          {2},
+          {2, 76},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 20},
+          {2},
+          {2, 25},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 77},
+          {2, 129},
+          {2},
+          {2, 44},
+          {2},
+          {2},
+          {2, 48},
+          {2},
+          {2},
+          {2},
+          {2, 51},
+          {2},
+          {2, 135},
+          {2, 54},
+          {2, 56},
+          {2},
+          {2, 59},
+          {2, 60},
+          {2, 61},
+          {2, 62},
+          {2, 66},
+          {2},
+          {2, 70},
+          {2, 71},
+          {2},
+          {2},
+          {},
+          {},
+          {2},
+          {2},
+          {2, 12},
+          {2},
+          {2, 16},
+          {2, 17},
+          {2},
+          {2},
+          {2, 27},
+          {2, 31},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 49},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2},
+          {2, 73},
+          {2},
+          {2, 3},
+          {2, 128},
+          {2, 15},
+          {2, 18},
+          {2, 24},
+          {2, 34},
+          {2},
+          {2, 38},
+          {2},
+          {2, 45},
+          {2, 47},
+          {2, 132},
+          {2},
+          {2, 52},
+          {2},
+          {2},
+          {2, 75},
+          {2, 37},
+          {2, 42},
+          {2, 50},
+          {2},
+          {2, 69},
+          {2, 58},
+  };
+
+  /**
+   * The fingerprint of the product automaton the tables were generated from
+   */
+  private static final int AUTOMATON_FINGERPRINT = -120723680;
+
+  /**
+   * Constructs a new <code>CSGeneratedLexer</code> with no lexical disambiguation rules
+   */
+  public CSGeneratedLexer() {
+    this(new DisambiguationScheme.Builder(TOKENS).build());
+  }
+
+  /**
+   * Constructs a new <code>CSGeneratedLexer</code> with the rules of the given lexical
+   * disambiguation scheme
+   *
+   * @param scheme
+   *          A lexical disambiguation scheme compiled for <code>TOKENS</code>
+   */
+  public CSGeneratedLexer(DisambiguationScheme scheme) {
+    super(TOKENS.clone(), LAYOUT_TOKENS.clone(), scheme);
+  }
+
+  @Override
+  protected int getAutomatonFingerprint() {
+    return AUTOMATON_FINGERPRINT;
+  }
+
+  /**
+   * Returns the class of the given character
+   *
+   * @param c
+   *          A character
+   * @return The class of <code>c</code>
+   */
+  private static int classOf(char c) {
+    switch (c) {
+    case 0: case 1: case 2: case 3: case 4: case 5: case 6: case 7: case 8: case 11: case 14: case 15: case 16:
+    case 17: case 18: case 19: case 20: case 21: case 22: case 23: case 24: case 25: case 26: case 27: case 28:
+    case 29: case 30: case 31: case '#': case '$': case '`': case 127:
+      return 0;
+    case 9: case 12: case ' ':
+      return 1;
+    case 10:
+      return 2;
+    case 13:
+      return 3;
+    case '!':
+      return 4;
+    case '"':
+      return 5;
+    case '%':
+      return 6;
+    case '&':
+      return 7;
+    case '\'':
+      return 8;
+    case '(':
+      return 9;
+    case ')':
+      return 10;
+    case '*':
+      return 11;
+    case '+':
+      return 12;
+    case ',':
+      return 13;
+    case '-':
+      return 14;
+    case '.':
+      return 15;
+    case '/':
+      return 16;
+    case '0':
+      return 17;
+    case '1': case '2': case '3': case '4': case '5': case '6': case '7': case '8': case '9':
+      return 18;
+    case ':':
+      return 19;
+    case ';':
+      return 20;
+    case '<':
+      return 21;
+    case '=':
+      return 22;
+    case '>':
+      return 23;
+    case '?':
+      return 24;
+    case '@':
+      return 25;
+    case 'A': case 'B': case 'C':
+      return 26;
+    case 'D': case 'F':
+      return 27;
+    case 'E':
+      return 28;
+    case 'G': case 'H': case 'I': case 'J': case 'K': case 'N': case 'O': case 'P': case 'Q': case 'R': case 'S':
+    case 'T': case 'V': case 'W': case 'Y': case 'Z': case '_': case 'q': case 'z':
+      return 29;
+    case 'L':
+      return 30;
+    case 'M':
+      return 31;
+    case 'U':
+      return 32;
+    case 'X':
+      return 33;
+    case '[':
+      return 34;
+    case '\\':
+      return 35;
+    case ']':
+      return 36;
+    case '^':
+      return 37;
+    case 'a':
+      return 38;
+    case 'b':
+      return 39;
+    case 'c':
+      return 40;
+    case 'd':
+      return 41;
+    case 'e':
+      return 42;
+    case 'f':
+      return 43;
+    case 'g':
+      return 44;
+    case 'h':
+      return 45;
+    case 'i':
+      return 46;
+    case 'j':
+      return 47;
+    case 'k':
+      return 48;
+    case 'l':
+      return 49;
+    case 'm':
+      return 50;
+    case 'n':
+      return 51;
+    case 'o':
+      return 52;
+    case 'p':
+      return 53;
+    case 'r':
+      return 54;
+    case 's':
+      return 55;
+    case 't':
+      return 56;
+    case 'u':
+      return 57;
+    case 'v':
+      return 58;
+    case 'w':
+      return 59;
+    case 'x':
+      return 60;
+    case 'y':
+      return 61;
+    case '{':
+      return 62;
+    case '|':
+      return 63;
+    case '}':
+      return 64;
+    case '~':
+      return 65;
+    default:
+      return Character.isDefined(c) ? 0 : 66;
+    }
+  }
+
+  @Override
+  protected String match(String segment, int offset, PackedTripleSet out) {
+    final int length = segment.length();
+    final boolean[] reachable = new boolean[length + 1];
+    reachable[0] = true;
+    int highest = 0;
+    for (int start = 0; start < length; start++) {
+      if (!reachable[start]) {
+        continue;
+      }
+      int state = TRANSITIONS[classOf(segment.charAt(start))];
+      if (state == -1) {
+        continue;
+      }
+      final int left = offset == 0 || start > 0 ? start + offset : start + offset - 1;
+      int i = start;
+      while (state != -1) {
+        final int[] accepted = ACCEPTING_TOKENS[state];
+        if (accepted.length != 0) {
+          for (final int token : accepted) {
+            out.add(token, left, i + 1 + offset);
+          }
+          reachable[i + 1] = true;
+          if (i + 1 > highest) {
+            highest = i + 1;
+          }
+        }
+        i++;
+        state = i < length ? TRANSITIONS[state * CLASS_COUNT + classOf(segment.charAt(i))] : -1;
+      }
+    }
+
+    if (highest < length) {
+      out.clear();
+      return String.format("Lexical analysis failed at input position %d.%nFailure occurred at:%n%s%n^%n",
+              highest + offset, segment.substring(highest, highest + 20 > length ? length : highest + 20));
+    }
+    return null;
+  }
+
+  /**
+   * Decodes a table held as characters, each one more than its entry
+   *
+   * @param chunks
+   *          The parts of the encoded table
+   * @return The table
+   */
+  private static int[] decode(String... chunks) {
+    int length = 0;
+    for (final String chunk : chunks) {
+      length += chunk.length();
+    }
+    final int[] table = new int[length];
+    int index = 0;
+    for (final String chunk : chunks) {
+      for (int i = 0; i < chunk.length(); i++) {
+        table[index++] = chunk.charAt(i) - 1;
+      }
+    }
+    return table;
+  }
+}
@@ -1,6 +1,12 @@
 package uk.ac.rhul.csle.tooling.CSCompiler;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import uk.ac.rhul.csle.tooling.lexer.MultiLexer;
+import uk.ac.rhul.csle.tooling.lexing.DisambiguationRules;
+import uk.ac.rhul.csle.tooling.lexing.DisambiguationScheme;
 
 /**
  * Maintains the functions which define the lexical disambiguation rules used
@@ -11,6 +17,65 @@ import uk.ac.rhul.csle.tooling.lexer.MultiLexer;
  */
 public class CSLexer {
 
+  /**
+   * The most recently compiled scheme, shared by every caller of
+   * {@link CSLexer#compiledSchemeCS(String[])} for the same tokens
+   */
+  private static DisambiguationScheme compiled;
+
+  /**
+   * The most recently compiled rule groups, shared by every caller of
+   * {@link CSLexer#compiledRuleGroupsCS(String[])} for the same tokens
+   */
+  private static Map<String, DisambiguationScheme> compiledGroups;
+
+  /**
+   * Returns the C# lexical disambiguation scheme (the rules of both
+   * {@link CSLexer#longestMatchesCS(MultiLexer)} and
+   * {@link CSLexer#equalPriorityMatchesCS(MultiLexer)}) compiled for
+   * the given tokens. The scheme is compiled once and shared, so the same
+   * scheme is returned to every thread that asks for the same tokens.
+   *
+   * @param tokens
+   *          The tokens of the lexer, indexed by token number
+   * @return The compiled scheme
+   */
+  public static synchronized DisambiguationScheme compiledSchemeCS(String[] tokens) {
+    if (compiled == null || !compiled.isFor(tokens)) {
+      final DisambiguationScheme.Builder builder = new DisambiguationScheme.Builder(tokens);
+      addLongestMatches(builder);
+      addEqualPriorityMatches(builder);
+      compiled = builder.build();
+    }
+    return compiled;
+  }
+
+  /**
+   * Returns the two groups of C# lexical disambiguation rules, each compiled
+   * on its own for the given tokens: <code>longestMatches</code> (the rules of
+   * {@link CSLexer#longestMatchesCS(MultiLexer)}) and
+   * <code>equalPriorityMatches</code> (the rules of
+   * {@link CSLexer#equalPriorityMatchesCS(MultiLexer)}). The groups are
+   * compiled once and shared.
+   *
+   * @param tokens
+   *          The tokens of the lexer, indexed by token number
+   * @return The compiled scheme of each group, keyed by the name of the group
+   */
+  public static synchronized Map<String, DisambiguationScheme> compiledRuleGroupsCS(String[] tokens) {
+    if (compiledGroups == null || !compiledGroups.get("longestMatches").isFor(tokens)) {
+      final Map<String, DisambiguationScheme> groups = new LinkedHashMap<>();
+      final DisambiguationScheme.Builder longest = new DisambiguationScheme.Builder(tokens);
+      addLongestMatches(longest);
+      groups.put("longestMatches", longest.build());
+      final DisambiguationScheme.Builder priority = new DisambiguationScheme.Builder(tokens);
+      addEqualPriorityMatches(priority);
+      groups.put("equalPriorityMatches", priority.build());
+      compiledGroups = Collections.unmodifiableMap(groups);
+    }
+    return compiledGroups;
+  }
+
   /**
    * A function that initialises all lexical longest match rules
    *
@@ -18,6 +83,26 @@ public class CSLexer {
    *          The lexer to initialise the longest match rules for
    */
   public static void longestMatchesCS(MultiLexer lex) {
+    addLongestMatches(DisambiguationRules.of(lex));
+  }
+
+  /**
+   * A function that initialises all lexical priority rules
+   *
+   * @param lex
+   *          The lexer to initialise the priority rules for
+   */
+  public static void equalPriorityMatchesCS(MultiLexer lex) {
+    addEqualPriorityMatches(DisambiguationRules.of(lex));
+  }
+
+  /**
+   * Defines all lexical longest match rules
+   *
+   * @param lex
+   *          The lexer or scheme to define the longest match rules for
+   */
+  private static void addLongestMatches(DisambiguationRules lex) {
     lex.addLeftLongestGrouping("/", "comment");
     lex.addLeftLongestGrouping("whitespace");
     lex.addLeftLongestGrouping("new_line");
@@ -123,12 +208,12 @@ public class CSLexer {
   }
 
   /**
-   * A function that initialises all lexical priority rules
+   * Defines all lexical priority rules
    *
    * @param lex
-   *          The lexer to initialise the priority rules for
+   *          The lexer or scheme to define the priority rules for
    */
-  public static void equalPriorityMatchesCS(MultiLexer lex) {
+  private static void addEqualPriorityMatches(DisambiguationRules lex) {
 
     lex.addRestrictedPriorityGrouping("identifier", "abstract");
     lex.addRestrictedPriorityGrouping("identifier", "as");
@@ -203,7 +288,6 @@ public class CSLexer {
     lex.addRestrictedPriorityGrouping("identifier", "void");
     lex.addRestrictedPriorityGrouping("identifier", "volatile");
     lex.addRestrictedPriorityGrouping("identifier", "while");
-    lex.addRestrictedPriorityGrouping("identifier", "boolean_literal");
     lex.addRestrictedPriorityGrouping("identifier", "true");
     lex.addRestrictedPriorityGrouping("identifier", "false");
     lex.addRestrictedPriorityGrouping("identifier", "null_literal");
@@ -0,0 +1,159 @@
+package uk.ac.rhul.csle.tooling.CSCompiler;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import uk.ac.rhul.csle.tooling.trees.TreeBuilder;
+
+/**
+ * Processes a list of C# files using several worker threads.
+ * <p>
+ * A <code>CSParser</code> holds all of its parse state in instance fields, so
+ * every worker thread is given its own <code>CSTreeBuilder</code> pipeline
+ * (parser, lexer, reductor and transformations) which it reuses for every file
+ * it processes. Files are distributed through a <code>ForkJoinPool</code>, so
+ * an idle worker steals work from a busy one rather than waiting for it to
+ * finish a fixed share of the list.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class CSParallelCompiler {
+
+  /**
+   * The files to process
+   */
+  private final List<String> filenames;
+
+  /**
+   * The options each file is processed with
+   */
+  private final CompileOptions options;
+
+  /**
+   * The pool of worker threads
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * The pipeline owned by each worker thread
+   */
+  private final ThreadLocal<TreeBuilder> builders;
+
+  /**
+   * The description of the failure for each file (<code>null</code> for files
+   * that were processed successfully), indexed in the same order as
+   * <code>filenames</code>
+   */
+  private final String[] failures;
+
+  /**
+   * The number of files processed so far, used for progress reporting
+   */
+  private final AtomicInteger completed;
+
+  /**
+   * Constructs a <code>CSParallelCompiler</code> for the given files.
+   *
+   * @param filenames
+   *          The files to process
+   * @param threads
+   *          The number of worker threads to use
+   * @param options
+   *          The options to process each file with
+   */
+  public CSParallelCompiler(List<String> filenames, int threads, CompileOptions options) {
+    this.filenames = filenames;
+    this.options = options;
+    pool = new ForkJoinPool(threads);
+    builders = ThreadLocal.withInitial(() -> {
+      final CSTreeBuilder builder = new CSTreeBuilder(new CSTWESetParser(), options.getDebugFile() != null);
+      options.configure(builder);
+      return builder;
+    });
+    failures = new String[filenames.size()];
+    completed = new AtomicInteger();
+  }
+
+  /**
+   * Processes every file and shuts down the worker threads.
+   *
+   * @return A mapping from each file that could not be processed to a short
+   *         description of the failure, in the order the files were given
+   */
+  public Map<String, String> compileAll() {
+    try {
+      pool.invoke(new CompileTask(0, filenames.size()));
+    } finally {
+      pool.shutdown();
+    }
+
+    final Map<String, String> failed = new LinkedHashMap<>();
+    for (int i = 0; i < failures.length; i++) {
+      if (failures[i] != null) {
+        failed.put(filenames.get(i), failures[i]);
+      }
+    }
+    return failed;
+  }
+
+  /**
+   * A task that processes the files in the range <code>[from, to)</code>,
+   * splitting the range in half until a single file remains.
+   */
+  private class CompileTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 4471023418263385312L;
+
+    /**
+     * The index of the first file in the range
+     */
+    private final int from;
+
+    /**
+     * The index after the last file in the range
+     */
+    private final int to;
+
+    /**
+     * Constructs a task for the files in the range <code>[from, to)</code>
+     *
+     * @param from
+     *          The index of the first file in the range
+     * @param to
+     *          The index after the last file in the range
+     */
+    CompileTask(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        final int middle = (from + to) >>> 1;
+        invokeAll(new CompileTask(from, middle), new CompileTask(middle, to));
+        return;
+      }
+      if (to - from == 1) {
+        final String filename = filenames.get(from);
+        try {
+          failures[from] = CSCompiler.compileFile(builders.get(), filename, options);
+        } catch (final Error e) {
+          // An error escaping one file must not abandon the rest of the pool's
+          // work; the worker's pipeline may be left inconsistent, so it is
+          // replaced before the next file
+          builders.remove();
+          System.err.println("Compilation terminated due to an internal error: " + e);
+          failures[from] = "internal error (" + e + ")";
+        }
+        System.out.printf("[%d/%d] %s: %s%n", completed.incrementAndGet(), filenames.size(), filename,
+                failures[from] == null ? "OK" : "FAILED (" + failures[from] + ")");
+      }
+    }
+  }
+}
@@ -0,0 +1,454 @@
+package uk.ac.rhul.csle.tooling.CSCompiler;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+
+/**
+ * A long-running server which keeps a pool of <code>CSTreeBuilder</code>
+ * pipelines resident and answers parse requests over a TCP socket bound to the
+ * loopback interface, so that clients do not pay for JVM start-up, class
+ * loading and JIT warm-up on every call.
+ * <p>
+ * Each connection may send any number of requests. A request is a single line
+ * of ASCII text, optionally followed by a body:
+ * <ul>
+ * <li><code>PARSE</code> <em>name</em> <em>length</em> - followed by
+ * <em>length</em> bytes of UTF-8 encoded C# source, where <em>length</em> is
+ * at most {@value #MAX_REQUEST_BODY_LENGTH}. Answers with the AST in tree
+ * string format.</li>
+ * <li><code>PARSEBIN</code> <em>name</em> <em>length</em> - as
+ * <code>PARSE</code>, but answers with the AST in the binary form described by
+ * {@link uk.ac.rhul.csle.tooling.trees.BaseDerivationNode#writeTree(java.io.DataOutput)}
+ * .</li>
+ * <li><code>STATUS</code> - answers with the number of builders, the number
+ * of requests being parsed, the number of requests waiting in the queue, the
+ * queue capacity and the number of completed and failed requests.</li>
+ * <li><code>QUIT</code> - closes the connection.</li>
+ * <li><code>SHUTDOWN</code> - stops the server.</li>
+ * </ul>
+ * Every response is a line <code>OK</code>, <code>ERROR</code> or
+ * <code>BUSY</code> followed by the length of the payload in bytes, and then
+ * the payload itself. <code>BUSY</code> is returned when the request queue is
+ * full.
+ * <p>
+ * Each connection is served by a thread of its own and has at most one
+ * request in progress, so the number of open connections is limited to the
+ * number of builders plus the queue capacity. This bounds both the number of
+ * threads and the memory held by request bodies. A connection made while the
+ * limit is reached is answered with <code>BUSY</code> and closed at once.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class CSParseServer {
+
+  /**
+   * The default number of requests that may wait for a free builder, per
+   * builder in the pool
+   */
+  public static final int DEFAULT_QUEUE_CAPACITY_PER_BUILDER = 4;
+
+  /**
+   * The longest request line that will be accepted
+   */
+  private static final int MAX_REQUEST_LINE_LENGTH = 1024;
+
+  /**
+   * The longest request body that will be accepted, so that a client cannot
+   * make the server allocate an arbitrarily large buffer
+   */
+  public static final int MAX_REQUEST_BODY_LENGTH = 64 << 20;
+
+  /**
+   * The socket that connections are accepted on
+   */
+  private final ServerSocket serverSocket;
+
+  /**
+   * The builders that are not currently in use
+   */
+  private final BlockingQueue<CSTreeBuilder> builders;
+
+  /**
+   * The total number of builders in the pool
+   */
+  private final int builderCount;
+
+  /**
+   * The maximum number of requests that may wait for a free builder
+   */
+  private final int queueCapacity;
+
+  /**
+   * The worker threads that run parse requests (one per builder)
+   */
+  private final ThreadPoolExecutor parsers;
+
+  /**
+   * The threads that read requests from, and write responses to, each
+   * connection (one per open connection, up to <code>maxConnections</code>)
+   */
+  private final ThreadPoolExecutor connections;
+
+  /**
+   * The maximum number of connections that are served at once
+   */
+  private final int maxConnections;
+
+  /**
+   * The number of requests that have been answered successfully
+   */
+  private final AtomicLong completed;
+
+  /**
+   * The number of parse requests that have failed
+   */
+  private final AtomicLong failed;
+
+  /**
+   * True until the server is shut down
+   */
+  private volatile boolean running;
+
+  /**
+   * Constructs a <code>CSParseServer</code> listening on the given port of the
+   * loopback interface, with <code>builderCount</code> pipelines and
+   * {@link CSParseServer#DEFAULT_QUEUE_CAPACITY_PER_BUILDER} waiting requests
+   * per pipeline.
+   *
+   * @param port
+   *          The port to listen on (0 chooses a free port)
+   * @param builderCount
+   *          The number of <code>CSTreeBuilder</code> pipelines to keep
+   *          resident
+   * @throws IOException
+   *           If the socket cannot be opened
+   */
+  public CSParseServer(int port, int builderCount) throws IOException {
+    this(port, builderCount, builderCount * DEFAULT_QUEUE_CAPACITY_PER_BUILDER);
+  }
+
+  /**
+   * Constructs a <code>CSParseServer</code> listening on the given port of the
+   * loopback interface.
+   *
+   * @param port
+   *          The port to listen on (0 chooses a free port)
+   * @param builderCount
+   *          The number of <code>CSTreeBuilder</code> pipelines to keep
+   *          resident
+   * @param queueCapacity
+   *          The number of requests that may wait for a free pipeline before
+   *          further requests are answered with <code>BUSY</code>
+   * @throws IOException
+   *           If the socket cannot be opened
+   */
+  public CSParseServer(int port, int builderCount, int queueCapacity) throws IOException {
+    this.builderCount = builderCount;
+    this.queueCapacity = queueCapacity;
+    builders = new ArrayBlockingQueue<>(builderCount);
+    for (int i = 0; i < builderCount; i++) {
+      builders.add(new CSTreeBuilder(new CSTWESetParser()));
+    }
+    parsers = new ThreadPoolExecutor(builderCount, builderCount, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<Runnable>(queueCapacity));
+    // A connection waits for its request to be answered before sending
+    // another, so any more connections than this could only be told BUSY
+    maxConnections = builderCount + queueCapacity;
+    connections = new ThreadPoolExecutor(maxConnections, maxConnections, 0, TimeUnit.MILLISECONDS,
+            new SynchronousQueue<Runnable>());
+    completed = new AtomicLong();
+    failed = new AtomicLong();
+    serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+    running = true;
+  }
+
+  /**
+   * Returns the port this server is listening on
+   *
+   * @return The port this server is listening on
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Returns the number of parse requests waiting for a free builder
+   *
+   * @return The number of queued parse requests
+   */
+  public int getQueueDepth() {
+    return parsers.getQueue().size();
+  }
+
+  /**
+   * Returns the number of parse requests currently being parsed
+   *
+   * @return The number of active parse requests
+   */
+  public int getActiveCount() {
+    return parsers.getActiveCount();
+  }
+
+  /**
+   * Accepts connections until the server is shut down.
+   */
+  public void serve() {
+    System.out.printf("Listening on %s:%d with %d builders.%n", serverSocket.getInetAddress().getHostAddress(),
+            getPort(), builderCount);
+    while (running) {
+      try {
+        final Socket socket = serverSocket.accept();
+        try {
+          connections.execute(() -> handleConnection(socket));
+        } catch (final RejectedExecutionException e) {
+          refuseConnection(socket);
+        }
+      } catch (final IOException e) {
+        if (running) {
+          System.err.println("Unable to accept connection: " + e.getLocalizedMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops accepting connections and shuts down the worker threads. Requests
+   * that are already queued are still answered.
+   */
+  public void shutdown() {
+    running = false;
+    try {
+      serverSocket.close();
+    } catch (final IOException e) {
+      System.err.println("Unable to close server socket: " + e.getLocalizedMessage());
+    }
+    parsers.shutdown();
+    connections.shutdown();
+  }
+
+  /**
+   * Answers requests on the given connection until the client closes it or
+   * sends <code>QUIT</code>.
+   *
+   * @param socket
+   *          The connection to serve
+   */
+  private void handleConnection(Socket socket) {
+    try (Socket s = socket;
+            InputStream in = new BufferedInputStream(s.getInputStream());
+            OutputStream out = new BufferedOutputStream(s.getOutputStream())) {
+      final DataInputStream data = new DataInputStream(in);
+      String request;
+      while ((request = readLine(in)) != null) {
+        final String[] fields = request.trim().split(" ");
+        switch (fields[0]) {
+          case "PARSE": // fall-through
+          case "PARSEBIN":
+            if (fields.length != 3) {
+              respond(out, "ERROR", "Expected " + fields[0] + " name length");
+              break;
+            }
+            int length;
+            try {
+              length = Integer.parseInt(fields[2]);
+            } catch (final NumberFormatException e) {
+              length = -1;
+            }
+            if (length < 0 || length > MAX_REQUEST_BODY_LENGTH) {
+              respond(out, "ERROR", "Invalid length " + fields[2] + " (at most " + MAX_REQUEST_BODY_LENGTH + " bytes)");
+              break;
+            }
+            final byte[] body = new byte[length];
+            data.readFully(body);
+            parseRequest(out, fields[1], new String(body, StandardCharsets.UTF_8), fields[0].equals("PARSEBIN"));
+            break;
+          case "STATUS":
+            respond(out, "OK", String.format("builders=%d active=%d queued=%d capacity=%d completed=%d failed=%d%n",
+                    builderCount, getActiveCount(), getQueueDepth(), queueCapacity, completed.get(), failed.get()));
+            break;
+          case "QUIT":
+            return;
+          case "SHUTDOWN":
+            respond(out, "OK", "");
+            shutdown();
+            return;
+          default:
+            respond(out, "ERROR", "Unknown request " + fields[0]);
+        }
+      }
+    } catch (final EOFException | SocketException e) {
+      // The client went away part way through a request
+    } catch (final IOException e) {
+      System.err.println("Connection failed: " + e.getLocalizedMessage());
+    }
+  }
+
+  /**
+   * Answers a connection that cannot be served because every connection
+   * thread is in use with <code>BUSY</code>, and closes it
+   *
+   * @param socket
+   *          The connection to refuse
+   */
+  private void refuseConnection(Socket socket) {
+    try (Socket s = socket; OutputStream out = s.getOutputStream()) {
+      respond(out, "BUSY", "Too many connections (" + maxConnections + " connections)");
+    } catch (final IOException e) {
+      // The client went away first
+    }
+  }
+
+  /**
+   * Queues a parse request and writes the response once it has been parsed.
+   *
+   * @param out
+   *          The connection to write the response to
+   * @param name
+   *          The name of the string being parsed (for error reporting)
+   * @param source
+   *          The C# string to parse
+   * @param binary
+   *          If true the AST is returned in binary form, otherwise it is
+   *          returned in tree string format
+   * @throws IOException
+   *           If the response cannot be written
+   */
+  private void parseRequest(OutputStream out, String name, String source, boolean binary) throws IOException {
+    final Future<byte[]> result;
+    try {
+      result = parsers.submit(() -> parse(name, source, binary));
+    } catch (final RejectedExecutionException e) {
+      if (parsers.isShutdown()) {
+        respond(out, "ERROR", "Server is shutting down");
+      } else {
+        respond(out, "BUSY", "Request queue is full (" + queueCapacity + " requests)");
+      }
+      return;
+    }
+    try {
+      respond(out, "OK", result.get());
+      completed.incrementAndGet();
+    } catch (final ExecutionException e) {
+      failed.incrementAndGet();
+      if (e.getCause() instanceof InvalidParseException) {
+        respond(out, "ERROR", "Unable to parse " + name);
+      } else {
+        respond(out, "ERROR", "Internal error: " + e.getCause());
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      respond(out, "ERROR", "Interrupted");
+    }
+  }
+
+  /**
+   * Parses the given string using a builder from the pool.
+   *
+   * @param name
+   *          The name of the string being parsed (for error reporting)
+   * @param source
+   *          The C# string to parse
+   * @param binary
+   *          If true the AST is returned in binary form, otherwise it is
+   *          returned in tree string format
+   * @return The encoded AST
+   * @throws InvalidParseException
+   *           If the string cannot be parsed
+   * @throws InterruptedException
+   *           If the thread is interrupted while waiting for a builder
+   */
+  private byte[] parse(String name, String source, boolean binary) throws InvalidParseException, InterruptedException {
+    final CSTreeBuilder builder = builders.take();
+    try {
+      builder.generateASTFromSource(name, source);
+      return binary ? builder.astToBinary() : builder.astToTreeString().getBytes(StandardCharsets.UTF_8);
+    } finally {
+      // Do not keep the trees or the lexemes of this request alive while the
+      // builder is idle
+      builder.reset();
+      builder.getSymbolTable().clear();
+      builders.add(builder);
+    }
+  }
+
+  /**
+   * Writes a response with a text payload.
+   *
+   * @param out
+   *          The connection to write to
+   * @param status
+   *          The status of the response
+   * @param payload
+   *          The payload of the response
+   * @throws IOException
+   *           If the response cannot be written
+   */
+  private static void respond(OutputStream out, String status, String payload) throws IOException {
+    respond(out, status, payload.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Writes a response.
+   *
+   * @param out
+   *          The connection to write to
+   * @param status
+   *          The status of the response
+   * @param payload
+   *          The payload of the response
+   * @throws IOException
+   *           If the response cannot be written
+   */
+  private static void respond(OutputStream out, String status, byte[] payload) throws IOException {
+    out.write((status + " " + payload.length + "\n").getBytes(StandardCharsets.US_ASCII));
+    out.write(payload);
+    out.flush();
+  }
+
+  /**
+   * Reads a single request line, without the terminating new-line.
+   *
+   * @param in
+   *          The connection to read from
+   * @return The line read, or <code>null</code> if the connection was closed
+   * @throws IOException
+   *           If the connection cannot be read or the line is too long
+   */
+  private static String readLine(InputStream in) throws IOException {
+    final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    int c;
+    while ((c = in.read()) != '\n') {
+      if (c == -1) {
+        return line.size() == 0 ? null : line.toString("US-ASCII");
+      }
+      if (line.size() == MAX_REQUEST_LINE_LENGTH) {
+        throw new IOException("Request line too long");
+      }
+      line.write(c);
+    }
+    return line.toString("US-ASCII");
+  }
+}
@@ -9,279 +9,285 @@ import uk.ac.rhul.csle.text.Text;
 *
 *******************************************************************************/
 public class CSParser extends uk.ac.rhul.csle.gll.GLLHashPool {
-	private static boolean[] ARTSet1;
-	private static boolean[] ARTSet2;
-	private static boolean[] ARTSet3;
-	private static boolean[] ARTSet4;
-	private static boolean[] ARTSet5;
-	private static boolean[] ARTSet6;
-	private static boolean[] ARTSet7;
-	private static boolean[] ARTSet8;
-	private static boolean[] ARTSet9;
-	private static boolean[] ARTSet10;
-	private static boolean[] ARTSet11;
-	private static boolean[] ARTSet12;
-	private static boolean[] ARTSet13;
-	private static boolean[] ARTSet14;
-	private static boolean[] ARTSet15;
-	private static boolean[] ARTSet16;
-	private static boolean[] ARTSet17;
-	private static boolean[] ARTSet18;
-	private static boolean[] ARTSet19;
-	private static boolean[] ARTSet20;
-	private static boolean[] ARTSet21;
-	private static boolean[] ARTSet22;
-	private static boolean[] ARTSet23;
-	private static boolean[] ARTSet24;
-	private static boolean[] ARTSet25;
-	private static boolean[] ARTSet26;
-	private static boolean[] ARTSet27;
-	private static boolean[] ARTSet28;
-	private static boolean[] ARTSet29;
-	private static boolean[] ARTSet30;
-	private static boolean[] ARTSet31;
-	private static boolean[] ARTSet32;
-	private static boolean[] ARTSet33;
-	private static boolean[] ARTSet34;
-	private static boolean[] ARTSet35;
-	private static boolean[] ARTSet36;
-	private static boolean[] ARTSet37;
-	private static boolean[] ARTSet38;
-	private static boolean[] ARTSet39;
-	private static boolean[] ARTSet40;
-	private static boolean[] ARTSet41;
-	private static boolean[] ARTSet42;
-	private static boolean[] ARTSet43;
-	private static boolean[] ARTSet44;
-	private static boolean[] ARTSet45;
-	private static boolean[] ARTSet46;
-	private static boolean[] ARTSet47;
-	private static boolean[] ARTSet48;
-	private static boolean[] ARTSet49;
-	private static boolean[] ARTSet50;
-	private static boolean[] ARTSet51;
-	private static boolean[] ARTSet52;
-	private static boolean[] ARTSet53;
-	private static boolean[] ARTSet54;
-	private static boolean[] ARTSet55;
-	private static boolean[] ARTSet56;
-	private static boolean[] ARTSet57;
-	private static boolean[] ARTSet58;
-	private static boolean[] ARTSet59;
-	private static boolean[] ARTSet60;
-	private static boolean[] ARTSet61;
-	private static boolean[] ARTSet62;
-	private static boolean[] ARTSet63;
-	private static boolean[] ARTSet64;
-	private static boolean[] ARTSet65;
-	private static boolean[] ARTSet66;
-	private static boolean[] ARTSet67;
-	private static boolean[] ARTSet68;
-	private static boolean[] ARTSet69;
-	private static boolean[] ARTSet70;
-	private static boolean[] ARTSet71;
-	private static boolean[] ARTSet72;
-	private static boolean[] ARTSet73;
-	private static boolean[] ARTSet74;
-	private static boolean[] ARTSet75;
-	private static boolean[] ARTSet76;
-	private static boolean[] ARTSet77;
-	private static boolean[] ARTSet78;
-	private static boolean[] ARTSet79;
-	private static boolean[] ARTSet80;
-	private static boolean[] ARTSet81;
-	private static boolean[] ARTSet82;
-	private static boolean[] ARTSet83;
-	private static boolean[] ARTSet84;
-	private static boolean[] ARTSet85;
-	private static boolean[] ARTSet86;
-	private static boolean[] ARTSet87;
-	private static boolean[] ARTSet88;
-	private static boolean[] ARTSet89;
-	private static boolean[] ARTSet90;
-	private static boolean[] ARTSet91;
-	private static boolean[] ARTSet92;
-	private static boolean[] ARTSet93;
-	private static boolean[] ARTSet94;
-	private static boolean[] ARTSet95;
-	private static boolean[] ARTSet96;
-	private static boolean[] ARTSet97;
-	private static boolean[] ARTSet100;
-	private static boolean[] ARTSet101;
-	private static boolean[] ARTSet102;
-	private static boolean[] ARTSet103;
-	private static boolean[] ARTSet104;
-	private static boolean[] ARTSet105;
-	private static boolean[] ARTSet106;
-	private static boolean[] ARTSet107;
-	private static boolean[] ARTSet108;
-	private static boolean[] ARTSet109;
-	private static boolean[] ARTSet110;
-	private static boolean[] ARTSet111;
-	private static boolean[] ARTSet112;
-	private static boolean[] ARTSet113;
-	private static boolean[] ARTSet114;
-	private static boolean[] ARTSet115;
-	private static boolean[] ARTSet116;
-	private static boolean[] ARTSet117;
-	private static boolean[] ARTSet118;
-	private static boolean[] ARTSet119;
-	private static boolean[] ARTSet120;
-	private static boolean[] ARTSet121;
-	private static boolean[] ARTSet122;
-	private static boolean[] ARTSet123;
-	private static boolean[] ARTSet124;
-	private static boolean[] ARTSet125;
-	private static boolean[] ARTSet126;
-	private static boolean[] ARTSet127;
-	private static boolean[] ARTSet128;
-	private static boolean[] ARTSet129;
-	private static boolean[] ARTSet130;
-	private static boolean[] ARTSet131;
-	private static boolean[] ARTSet132;
-	private static boolean[] ARTSet133;
-	private static boolean[] ARTSet134;
-	private static boolean[] ARTSet135;
-	private static boolean[] ARTSet136;
-	private static boolean[] ARTSet137;
-	private static boolean[] ARTSet138;
-	private static boolean[] ARTSet139;
-	private static boolean[] ARTSet140;
-	private static boolean[] ARTSet141;
-	private static boolean[] ARTSet142;
-	private static boolean[] ARTSet143;
-	private static boolean[] ARTSet144;
-	private static boolean[] ARTSet145;
-	private static boolean[] ARTSet146;
-	private static boolean[] ARTSet147;
-	private static boolean[] ARTSet148;
-	private static boolean[] ARTSet149;
-	private static boolean[] ARTSet150;
-	private static boolean[] ARTSet151;
-	private static boolean[] ARTSet152;
-	private static boolean[] ARTSet153;
-	private static boolean[] ARTSet154;
-	private static boolean[] ARTSet155;
-	private static boolean[] ARTSet156;
-	private static boolean[] ARTSet157;
-	private static boolean[] ARTSet158;
-	private static boolean[] ARTSet159;
-	private static boolean[] ARTSet160;
-	private static boolean[] ARTSet161;
-	private static boolean[] ARTSet162;
-	private static boolean[] ARTSet163;
-	private static boolean[] ARTSet164;
-	private static boolean[] ARTSet165;
-	private static boolean[] ARTSet166;
-	private static boolean[] ARTSet167;
-	private static boolean[] ARTSet168;
-	private static boolean[] ARTSet169;
-	private static boolean[] ARTSet170;
-	private static boolean[] ARTSet171;
-	private static boolean[] ARTSet172;
-	private static boolean[] ARTSet173;
-	private static boolean[] ARTSet174;
-	private static boolean[] ARTSet175;
-	private static boolean[] ARTSet176;
-	private static boolean[] ARTSet177;
-	private static boolean[] ARTSet178;
-	private static boolean[] ARTSet179;
-	private static boolean[] ARTSet180;
-	private static boolean[] ARTSet181;
-	private static boolean[] ARTSet182;
-	private static boolean[] ARTSet183;
-	private static boolean[] ARTSet184;
-	private static boolean[] ARTSet185;
-	private static boolean[] ARTSet186;
-	private static boolean[] ARTSet187;
-	private static boolean[] ARTSet188;
-	private static boolean[] ARTSet189;
-	private static boolean[] ARTSet190;
-	private static boolean[] ARTSet191;
-	private static boolean[] ARTSet192;
-	private static boolean[] ARTSet193;
-	private static boolean[] ARTSet194;
-	private static boolean[] ARTSet195;
-	private static boolean[] ARTSet196;
-	private static boolean[] ARTSet197;
-	private static boolean[] ARTSet198;
-	private static boolean[] ARTSet199;
-	private static boolean[] ARTSet200;
-	private static boolean[] ARTSet201;
-	private static boolean[] ARTSet202;
-	private static boolean[] ARTSet203;
-	private static boolean[] ARTSet204;
-	private static boolean[] ARTSet205;
-	private static boolean[] ARTSet206;
-	private static boolean[] ARTSet207;
-	private static boolean[] ARTSet208;
-	private static boolean[] ARTSet209;
-	private static boolean[] ARTSet210;
-	private static boolean[] ARTSet211;
-	private static boolean[] ARTSet212;
-	private static boolean[] ARTSet213;
-	private static boolean[] ARTSet214;
-	private static boolean[] ARTSet215;
-	private static boolean[] ARTSet216;
-	private static boolean[] ARTSet217;
-	private static boolean[] ARTSet218;
-	private static boolean[] ARTSet219;
-	private static boolean[] ARTSet220;
-	private static boolean[] ARTSet221;
-	private static boolean[] ARTSet222;
-	private static boolean[] ARTSet223;
-	private static boolean[] ARTSet224;
-	private static boolean[] ARTSet225;
-	private static boolean[] ARTSet226;
-	private static boolean[] ARTSet227;
-	private static boolean[] ARTSet228;
-	private static boolean[] ARTSet229;
-	private static boolean[] ARTSet231;
-	private static boolean[] ARTSet232;
-	private static boolean[] ARTSet233;
-	private static boolean[] ARTSet234;
-	private static boolean[] ARTSet235;
-	private static boolean[] ARTSet236;
-	private static boolean[] ARTSet237;
-	private static boolean[] ARTSet238;
-	private static boolean[] ARTSet239;
-	private static boolean[] ARTSet240;
-	private static boolean[] ARTSet241;
-	private static boolean[] ARTSet242;
-	private static boolean[] ARTSet243;
-	private static boolean[] ARTSet244;
-	private static boolean[] ARTSet245;
-	private static boolean[] ARTSet246;
-	private static boolean[] ARTSet247;
-	private static boolean[] ARTSet248;
-	private static boolean[] ARTSet249;
-	private static boolean[] ARTSet250;
-	private static boolean[] ARTSet251;
-	private static boolean[] ARTSet252;
-	private static boolean[] ARTSet253;
-	private static boolean[] ARTSet254;
-	private static boolean[] ARTSet255;
-	private static boolean[] ARTSet256;
-	private static boolean[] ARTSet257;
-	private static boolean[] ARTSet258;
-	private static boolean[] ARTSet259;
-	private static boolean[] ARTSet260;
-	private static boolean[] ARTSet261;
-	private static boolean[] ARTSet262;
-	private static boolean[] ARTSet263;
-	private static boolean[] ARTSet264;
-	private static boolean[] ARTSet265;
-	private static boolean[] ARTSet266;
-	private static boolean[] ARTSet267;
-	private static boolean[] ARTSet268;
-	private static boolean[] ARTSet269;
-	private static boolean[] ARTSet270;
-	private static boolean[] ARTSet271;
-	private static boolean[] ARTSet272;
-	private static boolean[] ARTSet273;
-	private static boolean[] ARTSet274;
-	private static boolean[] ARTSet275;
-	private static boolean[] ARTSet276;
+	// NOTE: This class is generated by ART, but the ARTSet fields below have been
+	// changed by hand from static to per-instance fields. Every constructor
+	// re-creates them, so as static fields one parser being constructed could
+	// blank the sets under another parser running on a different thread. A
+	// regenerated parser must have the same change made, or CSCompiler -j and
+	// the parse server will no longer be thread-safe.
+	private boolean[] ARTSet1;
+	private boolean[] ARTSet2;
+	private boolean[] ARTSet3;
+	private boolean[] ARTSet4;
+	private boolean[] ARTSet5;
+	private boolean[] ARTSet6;
+	private boolean[] ARTSet7;
+	private boolean[] ARTSet8;
+	private boolean[] ARTSet9;
+	private boolean[] ARTSet10;
+	private boolean[] ARTSet11;
+	private boolean[] ARTSet12;
+	private boolean[] ARTSet13;
+	private boolean[] ARTSet14;
+	private boolean[] ARTSet15;
+	private boolean[] ARTSet16;
+	private boolean[] ARTSet17;
+	private boolean[] ARTSet18;
+	private boolean[] ARTSet19;
+	private boolean[] ARTSet20;
+	private boolean[] ARTSet21;
+	private boolean[] ARTSet22;
+	private boolean[] ARTSet23;
+	private boolean[] ARTSet24;
+	private boolean[] ARTSet25;
+	private boolean[] ARTSet26;
+	private boolean[] ARTSet27;
+	private boolean[] ARTSet28;
+	private boolean[] ARTSet29;
+	private boolean[] ARTSet30;
+	private boolean[] ARTSet31;
+	private boolean[] ARTSet32;
+	private boolean[] ARTSet33;
+	private boolean[] ARTSet34;
+	private boolean[] ARTSet35;
+	private boolean[] ARTSet36;
+	private boolean[] ARTSet37;
+	private boolean[] ARTSet38;
+	private boolean[] ARTSet39;
+	private boolean[] ARTSet40;
+	private boolean[] ARTSet41;
+	private boolean[] ARTSet42;
+	private boolean[] ARTSet43;
+	private boolean[] ARTSet44;
+	private boolean[] ARTSet45;
+	private boolean[] ARTSet46;
+	private boolean[] ARTSet47;
+	private boolean[] ARTSet48;
+	private boolean[] ARTSet49;
+	private boolean[] ARTSet50;
+	private boolean[] ARTSet51;
+	private boolean[] ARTSet52;
+	private boolean[] ARTSet53;
+	private boolean[] ARTSet54;
+	private boolean[] ARTSet55;
+	private boolean[] ARTSet56;
+	private boolean[] ARTSet57;
+	private boolean[] ARTSet58;
+	private boolean[] ARTSet59;
+	private boolean[] ARTSet60;
+	private boolean[] ARTSet61;
+	private boolean[] ARTSet62;
+	private boolean[] ARTSet63;
+	private boolean[] ARTSet64;
+	private boolean[] ARTSet65;
+	private boolean[] ARTSet66;
+	private boolean[] ARTSet67;
+	private boolean[] ARTSet68;
+	private boolean[] ARTSet69;
+	private boolean[] ARTSet70;
+	private boolean[] ARTSet71;
+	private boolean[] ARTSet72;
+	private boolean[] ARTSet73;
+	private boolean[] ARTSet74;
+	private boolean[] ARTSet75;
+	private boolean[] ARTSet76;
+	private boolean[] ARTSet77;
+	private boolean[] ARTSet78;
+	private boolean[] ARTSet79;
+	private boolean[] ARTSet80;
+	private boolean[] ARTSet81;
+	private boolean[] ARTSet82;
+	private boolean[] ARTSet83;
+	private boolean[] ARTSet84;
+	private boolean[] ARTSet85;
+	private boolean[] ARTSet86;
+	private boolean[] ARTSet87;
+	private boolean[] ARTSet88;
+	private boolean[] ARTSet89;
+	private boolean[] ARTSet90;
+	private boolean[] ARTSet91;
+	private boolean[] ARTSet92;
+	private boolean[] ARTSet93;
+	private boolean[] ARTSet94;
+	private boolean[] ARTSet95;
+	private boolean[] ARTSet96;
+	private boolean[] ARTSet97;
+	private boolean[] ARTSet100;
+	private boolean[] ARTSet101;
+	private boolean[] ARTSet102;
+	private boolean[] ARTSet103;
+	private boolean[] ARTSet104;
+	private boolean[] ARTSet105;
+	private boolean[] ARTSet106;
+	private boolean[] ARTSet107;
+	private boolean[] ARTSet108;
+	private boolean[] ARTSet109;
+	private boolean[] ARTSet110;
+	private boolean[] ARTSet111;
+	private boolean[] ARTSet112;
+	private boolean[] ARTSet113;
+	private boolean[] ARTSet114;
+	private boolean[] ARTSet115;
+	private boolean[] ARTSet116;
+	private boolean[] ARTSet117;
+	private boolean[] ARTSet118;
+	private boolean[] ARTSet119;
+	private boolean[] ARTSet120;
+	private boolean[] ARTSet121;
+	private boolean[] ARTSet122;
+	private boolean[] ARTSet123;
+	private boolean[] ARTSet124;
+	private boolean[] ARTSet125;
+	private boolean[] ARTSet126;
+	private boolean[] ARTSet127;
+	private boolean[] ARTSet128;
+	private boolean[] ARTSet129;
+	private boolean[] ARTSet130;
+	private boolean[] ARTSet131;
+	private boolean[] ARTSet132;
+	private boolean[] ARTSet133;
+	private boolean[] ARTSet134;
+	private boolean[] ARTSet135;
+	private boolean[] ARTSet136;
+	private boolean[] ARTSet137;
+	private boolean[] ARTSet138;
+	private boolean[] ARTSet139;
+	private boolean[] ARTSet140;
+	private boolean[] ARTSet141;
+	private boolean[] ARTSet142;
+	private boolean[] ARTSet143;
+	private boolean[] ARTSet144;
+	private boolean[] ARTSet145;
+	private boolean[] ARTSet146;
+	private boolean[] ARTSet147;
+	private boolean[] ARTSet148;
+	private boolean[] ARTSet149;
+	private boolean[] ARTSet150;
+	private boolean[] ARTSet151;
+	private boolean[] ARTSet152;
+	private boolean[] ARTSet153;
+	private boolean[] ARTSet154;
+	private boolean[] ARTSet155;
+	private boolean[] ARTSet156;
+	private boolean[] ARTSet157;
+	private boolean[] ARTSet158;
+	private boolean[] ARTSet159;
+	private boolean[] ARTSet160;
+	private boolean[] ARTSet161;
+	private boolean[] ARTSet162;
+	private boolean[] ARTSet163;
+	private boolean[] ARTSet164;
+	private boolean[] ARTSet165;
+	private boolean[] ARTSet166;
+	private boolean[] ARTSet167;
+	private boolean[] ARTSet168;
+	private boolean[] ARTSet169;
+	private boolean[] ARTSet170;
+	private boolean[] ARTSet171;
+	private boolean[] ARTSet172;
+	private boolean[] ARTSet173;
+	private boolean[] ARTSet174;
+	private boolean[] ARTSet175;
+	private boolean[] ARTSet176;
+	private boolean[] ARTSet177;
+	private boolean[] ARTSet178;
+	private boolean[] ARTSet179;
+	private boolean[] ARTSet180;
+	private boolean[] ARTSet181;
+	private boolean[] ARTSet182;
+	private boolean[] ARTSet183;
+	private boolean[] ARTSet184;
+	private boolean[] ARTSet185;
+	private boolean[] ARTSet186;
+	private boolean[] ARTSet187;
+	private boolean[] ARTSet188;
+	private boolean[] ARTSet189;
+	private boolean[] ARTSet190;
+	private boolean[] ARTSet191;
+	private boolean[] ARTSet192;
+	private boolean[] ARTSet193;
+	private boolean[] ARTSet194;
+	private boolean[] ARTSet195;
+	private boolean[] ARTSet196;
+	private boolean[] ARTSet197;
+	private boolean[] ARTSet198;
+	private boolean[] ARTSet199;
+	private boolean[] ARTSet200;
+	private boolean[] ARTSet201;
+	private boolean[] ARTSet202;
+	private boolean[] ARTSet203;
+	private boolean[] ARTSet204;
+	private boolean[] ARTSet205;
+	private boolean[] ARTSet206;
+	private boolean[] ARTSet207;
+	private boolean[] ARTSet208;
+	private boolean[] ARTSet209;
+	private boolean[] ARTSet210;
+	private boolean[] ARTSet211;
+	private boolean[] ARTSet212;
+	private boolean[] ARTSet213;
+	private boolean[] ARTSet214;
+	private boolean[] ARTSet215;
+	private boolean[] ARTSet216;
+	private boolean[] ARTSet217;
+	private boolean[] ARTSet218;
+	private boolean[] ARTSet219;
+	private boolean[] ARTSet220;
+	private boolean[] ARTSet221;
+	private boolean[] ARTSet222;
+	private boolean[] ARTSet223;
+	private boolean[] ARTSet224;
+	private boolean[] ARTSet225;
+	private boolean[] ARTSet226;
+	private boolean[] ARTSet227;
+	private boolean[] ARTSet228;
+	private boolean[] ARTSet229;
+	private boolean[] ARTSet231;
+	private boolean[] ARTSet232;
+	private boolean[] ARTSet233;
+	private boolean[] ARTSet234;
+	private boolean[] ARTSet235;
+	private boolean[] ARTSet236;
+	private boolean[] ARTSet237;
+	private boolean[] ARTSet238;
+	private boolean[] ARTSet239;
+	private boolean[] ARTSet240;
+	private boolean[] ARTSet241;
+	private boolean[] ARTSet242;
+	private boolean[] ARTSet243;
+	private boolean[] ARTSet244;
+	private boolean[] ARTSet245;
+	private boolean[] ARTSet246;
+	private boolean[] ARTSet247;
+	private boolean[] ARTSet248;
+	private boolean[] ARTSet249;
+	private boolean[] ARTSet250;
+	private boolean[] ARTSet251;
+	private boolean[] ARTSet252;
+	private boolean[] ARTSet253;
+	private boolean[] ARTSet254;
+	private boolean[] ARTSet255;
+	private boolean[] ARTSet256;
+	private boolean[] ARTSet257;
+	private boolean[] ARTSet258;
+	private boolean[] ARTSet259;
+	private boolean[] ARTSet260;
+	private boolean[] ARTSet261;
+	private boolean[] ARTSet262;
+	private boolean[] ARTSet263;
+	private boolean[] ARTSet264;
+	private boolean[] ARTSet265;
+	private boolean[] ARTSet266;
+	private boolean[] ARTSet267;
+	private boolean[] ARTSet268;
+	private boolean[] ARTSet269;
+	private boolean[] ARTSet270;
+	private boolean[] ARTSet271;
+	private boolean[] ARTSet272;
+	private boolean[] ARTSet273;
+	private boolean[] ARTSet274;
+	private boolean[] ARTSet275;
+	private boolean[] ARTSet276;
 
 	/* Start of artLabel enumeration */
 	public static final int ART_X_EOS = 0;
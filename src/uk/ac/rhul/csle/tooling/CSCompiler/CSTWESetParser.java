@@ -0,0 +1,398 @@
+package uk.ac.rhul.csle.tooling.CSCompiler;
+
+import java.util.Arrays;
+
+import uk.ac.rhul.csle.text.Text;
+import uk.ac.rhul.csle.text.TextLevel;
+import uk.ac.rhul.csle.tooling.lexing.PackedTripleSet;
+import uk.ac.rhul.csle.tooling.parsing.CompactSPPF;
+import uk.ac.rhul.csle.tooling.parsing.CompactingParser;
+import uk.ac.rhul.csle.tooling.parsing.GLLInputSets;
+import uk.ac.rhul.csle.tooling.parsing.TWESetParser;
+
+/**
+ * The ART-generated C# parser, extended to read its input directly from the
+ * lexer's TWE set.
+ * <p>
+ * The GLL input structures are built by {@link GLLInputSets}. The lexer's
+ * token numbers are mapped to the labels of the grammar once for each set of
+ * token names, rather than looking up the name of every triple. The input
+ * structures are kept and reloaded for each parse, like the pool and hash
+ * tables of <code>GLLHashPool</code>, so a parser kept for a batch of files
+ * reaches its steady-state size once.
+ * <p>
+ * After a parse that used a large part of the pool, the SPPF can be copied
+ * into a {@link CompactSPPF} and the pool released (see
+ * {@link CSTWESetParser#compactSPPF()}), so that the GSS, descriptors and pop
+ * elements are not kept alive while the trees are built. The SPPF accessors
+ * read the copy until the next parse, as they do a copy loaded with
+ * {@link CSTWESetParser#loadSPPF(CompactSPPF)}. The hash tables of
+ * <code>GLLHashPool</code> are private, so they are kept for the next parse.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class CSTWESetParser extends CSParser implements TWESetParser, CompactingParser {
+
+  /**
+   * The TWE set to be read by the next call to <code>lexLexicalSets</code>, or
+   * <code>null</code> if the input is <code>toTok</code> text
+   */
+  private PackedTripleSet pendingTriples;
+
+  /**
+   * The input length that goes with <code>pendingTriples</code>
+   */
+  private int pendingInputLength;
+
+  /**
+   * The token names for which <code>labels</code> was built
+   */
+  private String[] labelledTokenNames;
+
+  /**
+   * The label of each token number in <code>labelledTokenNames</code>, or -1
+   * if the token is not a terminal of the grammar
+   */
+  private int[] labels;
+
+  /**
+   * The GLL input structures, reloaded for each parse
+   */
+  private final GLLInputSets inputSets = new GLLInputSets();
+
+  /**
+   * The default number of pool elements above which the SPPF is compacted
+   * (16MB of pool)
+   */
+  public static final int DEFAULT_COMPACTION_THRESHOLD = 1 << 22;
+
+  /**
+   * The number of pool elements a parse must use before its SPPF is compacted
+   */
+  private int compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+  /**
+   * The compacted SPPF of the last parse, or <code>null</code> if the SPPF is
+   * still held in the pool
+   */
+  private CompactSPPF sppf;
+
+  /**
+   * Constructs a <code>CSTWESetParser</code> with the default text handler
+   */
+  public CSTWESetParser() {
+    super();
+  }
+
+  /**
+   * Constructs a <code>CSTWESetParser</code> with the given text handler
+   *
+   * @param text
+   *          The text handler for messages from the parser
+   */
+  public CSTWESetParser(Text text) {
+    super(text);
+  }
+
+  @Override
+  public void parse(PackedTripleSet triples, int inputLength) {
+    pendingTriples = triples;
+    pendingInputLength = inputLength;
+    try {
+      parse("");
+    } finally {
+      pendingTriples = null;
+    }
+  }
+
+  /**
+   * Sets the number of pool elements a parse must use before
+   * {@link CSTWESetParser#compactSPPF()} copies its SPPF out of the pool
+   *
+   * @param compactionThreshold
+   *          The number of pool elements (0 to compact after every parse)
+   */
+  public void setCompactionThreshold(int compactionThreshold) {
+    this.compactionThreshold = compactionThreshold;
+  }
+
+  /**
+   * Returns the compacted SPPF of the last parse
+   *
+   * @return The compacted SPPF, or <code>null</code> if the SPPF of the last
+   *         parse has not been compacted
+   */
+  public CompactSPPF getCompactSPPF() {
+    return sppf;
+  }
+
+  /**
+   * If the last parse used at least the compaction threshold of pool
+   * elements, copies its SPPF into a {@link CompactSPPF} and releases the
+   * whole pool, which <code>GLLHashPool</code> reallocates for the next parse.
+   * Otherwise the pool is kept, and only the blocks left over from earlier,
+   * larger parses are released.
+   */
+  @Override
+  public void compactSPPF() {
+    if (sppf != null || pool == null) {
+      return;
+    }
+    if (getFirstUnusedElement() >= compactionThreshold) {
+      sppf = new CompactSPPF(this);
+      pool = null;
+    } else {
+      // Blocks past the current allocation point are always replaced before
+      // they are used again
+      for (int block = ((getFirstUnusedElement() - 1) >>> poolAddressOffset) + 1; block < pool.length; block++) {
+        pool[block] = null;
+      }
+    }
+  }
+
+  @Override
+  public void loadSPPF(CompactSPPF sppf) {
+    this.sppf = sppf;
+    inLanguage = true;
+  }
+
+  @Override
+  public int getGrammarFingerprint() {
+    int fingerprint = Arrays.hashCode(artLabelStrings);
+    fingerprint = 31 * fingerprint + Arrays.hashCode(artKindOfs);
+    fingerprint = 31 * fingerprint + Arrays.hashCode(lhsL);
+    return fingerprint;
+  }
+
+  @Override
+  protected void initialise() {
+    sppf = null;
+    super.initialise();
+  }
+
+  /**
+   * Loads the GLL input structures from the pending TWE set if there is one,
+   * otherwise reads the input as <code>toTok</code> text.
+   */
+  @Override
+  protected boolean lexLexicalSets() {
+    if (pendingTriples == null) {
+      return super.lexLexicalSets();
+    }
+    try {
+      inputSets.load(pendingTriples, pendingInputLength, labelsOf(pendingTriples.getTokenNames()), ART_L_EOS,
+              ART_L_EPSILON);
+    } catch (final IllegalArgumentException e) {
+      text.printf(TextLevel.ERROR, "%s\n", e.getMessage());
+      return false;
+    }
+    inputLength = pendingInputLength;
+    inputPairBuffer = inputSets.getPairBuffer();
+    inputPairIndex = inputSets.getPairIndex();
+    inputFirstPairAtLeftExtent = inputSets.getFirstPairAtLeftExtent();
+    inputSuccessorBuffer = inputSets.getSuccessorBuffer();
+    inputSuccessorIndex = inputSets.getSuccessorIndex();
+    return true;
+  }
+
+  /**
+   * Returns the label of each of the given token names, looking them up in
+   * the same way as <code>GLLSupport</code> does for <code>toTok</code> text
+   *
+   * @param tokenNames
+   *          The name of each token number
+   * @return The label of each token number, or -1 for a name that is not a
+   *         terminal of the grammar
+   */
+  private int[] labelsOf(String[] tokenNames) {
+    if (tokenNames != labelledTokenNames) {
+      labels = new int[tokenNames.length];
+      Arrays.fill(labels, -1);
+      for (int token = 0; token < tokenNames.length; token++) {
+        for (int label = 1; label < ART_L_EPSILON; label++) {
+          if (artLabelStrings[label].equals(tokenNames[token].trim())) {
+            labels[token] = label;
+            break;
+          }
+        }
+      }
+      labelledTokenNames = tokenNames;
+    }
+    return labels;
+  }
+
+  // The SPPF accessors read the compacted SPPF once there is one
+
+  @Override
+  public int sppfRoot() {
+    return sppf != null ? sppf.sppfRoot() : super.sppfRoot();
+  }
+
+  @Override
+  public int sppfNodeLabel(int element) {
+    return sppf != null ? sppf.sppfNodeLabel(element) : super.sppfNodeLabel(element);
+  }
+
+  @Override
+  public int sppfNodeLeftExtent(int element) {
+    return sppf != null ? sppf.sppfNodeLeftExtent(element) : super.sppfNodeLeftExtent(element);
+  }
+
+  @Override
+  public int sppfNodeRightExtent(int element) {
+    return sppf != null ? sppf.sppfNodeRightExtent(element) : super.sppfNodeRightExtent(element);
+  }
+
+  @Override
+  public int sppfNodePackNodeList(int element) {
+    return sppf != null ? sppf.sppfNodePackNodeList(element) : super.sppfNodePackNodeList(element);
+  }
+
+  @Override
+  public int sppfNodeArity(int element) {
+    return sppf != null ? sppf.sppfNodeArity(element) : super.sppfNodeArity(element);
+  }
+
+  @Override
+  public boolean sppfNodeVisited(int element) {
+    return sppf != null ? sppf.sppfNodeVisited(element) : super.sppfNodeVisited(element);
+  }
+
+  @Override
+  public void sppfNodeResetVisited(int element) {
+    if (sppf != null) {
+      sppf.sppfNodeResetVisited(element);
+    } else {
+      super.sppfNodeResetVisited(element);
+    }
+  }
+
+  @Override
+  public void sppfNodeSetVisited(int element) {
+    if (sppf != null) {
+      sppf.sppfNodeSetVisited(element);
+    } else {
+      super.sppfNodeSetVisited(element);
+    }
+  }
+
+  @Override
+  public boolean sppfNodeSelected(int element) {
+    return sppf != null ? sppf.sppfNodeSelected(element) : super.sppfNodeSelected(element);
+  }
+
+  @Override
+  public void sppfNodeResetSelected(int element) {
+    if (sppf != null) {
+      sppf.sppfNodeResetSelected(element);
+    } else {
+      super.sppfNodeResetSelected(element);
+    }
+  }
+
+  @Override
+  public void sppfNodeSetSelected(int element) {
+    if (sppf != null) {
+      sppf.sppfNodeSetSelected(element);
+    } else {
+      super.sppfNodeSetSelected(element);
+    }
+  }
+
+  @Override
+  public int sppfNodeFirst() {
+    return sppf != null ? sppf.sppfNodeFirst() : super.sppfNodeFirst();
+  }
+
+  @Override
+  public int sppfNodeNext() {
+    return sppf != null ? sppf.sppfNodeNext() : super.sppfNodeNext();
+  }
+
+  @Override
+  public int sppfPackNodeParent(int element) {
+    return sppf != null ? sppf.sppfPackNodeParent(element) : super.sppfPackNodeParent(element);
+  }
+
+  @Override
+  public int sppfPackNodeLabel(int element) {
+    return sppf != null ? sppf.sppfPackNodeLabel(element) : super.sppfPackNodeLabel(element);
+  }
+
+  @Override
+  public int sppfPackNodePivot(int element) {
+    return sppf != null ? sppf.sppfPackNodePivot(element) : super.sppfPackNodePivot(element);
+  }
+
+  @Override
+  public int sppfPackNodeLeftChildLabel(int element) {
+    return sppf != null ? sppf.sppfPackNodeLeftChildLabel(element) : super.sppfPackNodeLeftChildLabel(element);
+  }
+
+  @Override
+  public int sppfPackNodeRightChildLabel(int element) {
+    return sppf != null ? sppf.sppfPackNodeRightChildLabel(element) : super.sppfPackNodeRightChildLabel(element);
+  }
+
+  @Override
+  public int sppfPackNodeLeftChild(int element) {
+    return sppf != null ? sppf.sppfPackNodeLeftChild(element) : super.sppfPackNodeLeftChild(element);
+  }
+
+  @Override
+  public int sppfPackNodeRightChild(int element) {
+    return sppf != null ? sppf.sppfPackNodeRightChild(element) : super.sppfPackNodeRightChild(element);
+  }
+
+  @Override
+  public int sppfPackNodePackNodeList(int element) {
+    return sppf != null ? sppf.sppfPackNodePackNodeList(element) : super.sppfPackNodePackNodeList(element);
+  }
+
+  @Override
+  public boolean sppfPackNodeSuppressed(int element) {
+    return sppf != null ? sppf.sppfPackNodeSuppressed(element) : super.sppfPackNodeSuppressed(element);
+  }
+
+  @Override
+  public void sppfPackNodeResetSuppressed(int element) {
+    if (sppf != null) {
+      sppf.sppfPackNodeResetSuppressed(element);
+    } else {
+      super.sppfPackNodeResetSuppressed(element);
+    }
+  }
+
+  @Override
+  public void sppfPackNodeSetSuppressed(int element) {
+    if (sppf != null) {
+      sppf.sppfPackNodeSetSuppressed(element);
+    } else {
+      super.sppfPackNodeSetSuppressed(element);
+    }
+  }
+
+  @Override
+  public boolean sppfPackNodeSelected(int element) {
+    return sppf != null ? sppf.sppfPackNodeSelected(element) : super.sppfPackNodeSelected(element);
+  }
+
+  @Override
+  public void sppfPackNodeResetSelected(int element) {
+    if (sppf != null) {
+      sppf.sppfPackNodeResetSelected(element);
+    } else {
+      super.sppfPackNodeResetSelected(element);
+    }
+  }
+
+  @Override
+  public void sppfPackNodeSetSelected(int element) {
+    if (sppf != null) {
+      sppf.sppfPackNodeSetSelected(element);
+    } else {
+      super.sppfPackNodeSetSelected(element);
+    }
+  }
+}
@@ -2,11 +2,17 @@ package uk.ac.rhul.csle.tooling.CSCompiler;
 
 import uk.ac.rhul.csle.tooling.trees.GIFTNode;
 import uk.ac.rhul.csle.tooling.trees.IGIFTTransformationScheme;
+import uk.ac.rhul.csle.tooling.trees.SymbolTable;
 
 /**
  * Provides an implementation of the GIFT transformations required to convert a
  * derivation tree in the C# 1.2 grammar to an AST as specified in the PLanCompS
  * abstract syntax for C#.
+ * <p>
+ * The leaves for identifiers and literals are labelled with their lexemes,
+ * interned in a <code>SymbolTable</code> so that each distinct lexeme is held
+ * once for every tree transformed by this object (until the table is
+ * cleared), and each leaf records the ID of its lexeme.
  *
  * @author Robert Michael Walsh
  *
@@ -14,10 +20,37 @@ import uk.ac.rhul.csle.tooling.trees.IGIFTTransformationScheme;
 public class CSTransformations implements IGIFTTransformationScheme {
 
   /**
-   * Default constructor for <code>CSTransformations</code>. Does no additional
-   * setup.
+   * The table that the lexemes of identifiers and literals are interned in
+   */
+  private final SymbolTable symbols;
+
+  /**
+   * Default constructor for <code>CSTransformations</code>. Interns lexemes in
+   * a new <code>SymbolTable</code>.
    */
   public CSTransformations() {
+    this(new SymbolTable());
+  }
+
+  /**
+   * Constructs a <code>CSTransformations</code> that interns lexemes in the
+   * given table, which may be shared with other transformation schemes
+   *
+   * @param symbols
+   *          The symbol table
+   */
+  public CSTransformations(SymbolTable symbols) {
+    this.symbols = symbols;
+  }
+
+  /**
+   * Returns the table that the lexemes of identifiers and literals are interned
+   * in
+   *
+   * @return The symbol table
+   */
+  public SymbolTable getSymbolTable() {
+    return symbols;
   }
 
   @Override
@@ -51,7 +84,7 @@ public class CSTransformations implements IGIFTTransformationScheme {
       case "string_literal": // fall-through
       case "null_literal":
       case "boolean_literal":
-        node.setTextLabel(node.getUnderlyingString(inputString));
+        node.internUnderlyingString(inputString, symbols);
         break;
       // The non-terminals that are simply removed
       case "namespace_declaration": // fall-through
@@ -410,6 +443,7 @@ public class CSTransformations implements IGIFTTransformationScheme {
           ((GIFTNode) node.getChild()).gather("type", ((GIFTNode) node.getChild()).getSiblings());
         }
         node.foldUnder();
+        break;
       case "member_name":
         ((GIFTNode) node.getChild()).gather("qualified_identifier", ((GIFTNode) node.getChild()).getSiblings());
         node.foldUnder();
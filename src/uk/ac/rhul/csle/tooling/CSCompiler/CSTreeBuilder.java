@@ -1,7 +1,12 @@
 package uk.ac.rhul.csle.tooling.CSCompiler;
 
 import uk.ac.rhul.csle.gll.GLLSupport;
+import uk.ac.rhul.csle.tooling.lexer.MultiLexer;
 import uk.ac.rhul.csle.tooling.lexer.RegularLexer;
+import uk.ac.rhul.csle.tooling.lexing.IncrementalLexer;
+import uk.ac.rhul.csle.tooling.lexing.ProductLexer;
+import uk.ac.rhul.csle.tooling.preprocessing.SourcePositionMap;
+import uk.ac.rhul.csle.tooling.trees.SymbolTable;
 import uk.ac.rhul.csle.tooling.trees.TreeBuilder;
 
 /**
@@ -12,9 +17,32 @@ import uk.ac.rhul.csle.tooling.trees.TreeBuilder;
  */
 public class CSTreeBuilder extends TreeBuilder {
 
+  /**
+   * The lexers that a <code>CSTreeBuilder</code> can be constructed with. Each
+   * constructs the same TWE set for the same input string.
+   */
+  public enum LexerKind {
+    /**
+     * A <code>ProductLexer</code> whose automaton is built from a
+     * <code>new CSDFAMap()</code> when it is constructed
+     */
+    PRODUCT,
+    /**
+     * The {@link CSGeneratedLexer} generated from <code>CSDFAMap</code> at
+     * build time
+     */
+    GENERATED,
+    /**
+     * The interpretive <code>RegularLexer</code>, which runs the automaton of
+     * each token of a <code>new CSDFAMap()</code> separately
+     */
+    REGULAR
+  }
+
   /**
    * Constructs a <code>CSTreeBuilder</code> with the given ART-generated
-   * parser, using a <code>new RegularLexer(new CSDFAMap())</code> as the lexer,
+   * parser, using a <code>ProductLexer</code> for a <code>new CSDFAMap()</code>
+   * with the shared compiled C# lexical disambiguation scheme as the lexer,
    * <code>new CSDerivationReductor(parser)</code> as the derivation reduction
    * schema and <code>new CSTransformations()</code> as the GIFT transformation
    * scheme.
@@ -23,12 +51,13 @@ public class CSTreeBuilder extends TreeBuilder {
    *          The ART-generated C# parser
    */
   public CSTreeBuilder(GLLSupport parser) {
-    super(parser, new RegularLexer(new CSDFAMap()), new CSDerivationReductor(parser), new CSTransformations());
+    super(parser, newLexer(), new CSDerivationReductor(parser), new CSTransformations());
   }
 
   /**
    * Constructs a <code>CSTreeBuilder</code> with the given ART-generated
-   * parser, using a <code>new RegularLexer(new CSDFAMap())</code> as the lexer,
+   * parser, using a <code>ProductLexer</code> for a <code>new CSDFAMap()</code>
+   * with the shared compiled C# lexical disambiguation scheme as the lexer,
    * <code>new CSDerivationReductor(parser)</code> as the derivation reduction
    * schema and <code>new CSTransformations()</code> as the GIFT transformation
    * scheme.
@@ -40,7 +69,117 @@ public class CSTreeBuilder extends TreeBuilder {
    *          output to the console
    */
   public CSTreeBuilder(GLLSupport parser, boolean debugging) {
-    super(parser, new RegularLexer(new CSDFAMap()), new CSDerivationReductor(parser, debugging),
-            new CSTransformations(), debugging);
+    this(parser, debugging, LexerKind.PRODUCT);
+  }
+
+  /**
+   * Constructs a <code>CSTreeBuilder</code> with the given ART-generated
+   * parser and the given kind of lexer, using the C# lexical disambiguation
+   * rules, <code>new CSDerivationReductor(parser)</code> as the derivation
+   * reduction schema and <code>new CSTransformations()</code> as the GIFT
+   * transformation scheme.
+   *
+   * @param parser
+   *          The ART-generated C# parser
+   * @param debugging
+   *          If true, then methods in this object will display additional
+   *          output to the console
+   * @param lexer
+   *          The kind of lexer to use
+   */
+  public CSTreeBuilder(GLLSupport parser, boolean debugging, LexerKind lexer) {
+    super(parser, newLexer(lexer), new CSDerivationReductor(parser, debugging), new CSTransformations(),
+            debugging);
+  }
+
+  /**
+   * Sets whether the lines of each input string are lexed in parallel (see
+   * {@link ProductLexer#setParallel(boolean)})
+   *
+   * @param parallel
+   *          True to lex the lines of long input strings in parallel
+   */
+  public void setParallelLexing(boolean parallel) {
+    if (lex instanceof ProductLexer) {
+      ((ProductLexer) lex).setParallel(parallel);
+    }
+  }
+
+  /**
+   * Switches recording of lexical statistics for the two C# rule groups (see
+   * {@link CSLexer#compiledRuleGroupsCS(String[])}) on or off. Statistics are
+   * only recorded by a <code>ProductLexer</code>.
+   *
+   * @param statistics
+   *          True if the lexical statistics of each input string should be
+   *          recorded
+   */
+  public void setLexicalStatistics(boolean statistics) {
+    setLexicalStatistics(statistics && lex instanceof ProductLexer
+            ? CSLexer.compiledRuleGroupsCS(((ProductLexer) lex).getDisambiguationScheme().getTokens()) : null);
+  }
+
+  /**
+   * Returns the table that the lexemes of the identifiers and literals of
+   * every AST built by this object are interned in
+   *
+   * @return The symbol table
+   */
+  public SymbolTable getSymbolTable() {
+    return ((CSTransformations) transforms).getSymbolTable();
+  }
+
+  /**
+   * Constructs an incremental lexer for preprocessed C# strings, using the
+   * same tokens and lexical disambiguation rules as the lexer of every
+   * <code>CSTreeBuilder</code>
+   *
+   * @return The incremental lexer
+   */
+  public static IncrementalLexer newIncrementalLexer() {
+    return new IncrementalLexer(newLexer());
+  }
+
+  /**
+   * Constructs a lexer for the C# tokens with the lexical disambiguation rules
+   * of {@link CSLexer}, compiled once and shared by every lexer
+   *
+   * @return The lexer
+   */
+  private static ProductLexer newLexer() {
+    final CSDFAMap DFAs = new CSDFAMap();
+    return new ProductLexer(DFAs, CSLexer.compiledSchemeCS(DFAs.getTokens()));
+  }
+
+  /**
+   * Constructs a lexer of the given kind for the C# tokens with the lexical
+   * disambiguation rules of {@link CSLexer}
+   *
+   * @param kind
+   *          The kind of lexer
+   * @return The lexer
+   */
+  private static MultiLexer newLexer(LexerKind kind) {
+    switch (kind) {
+    case GENERATED:
+      return new CSGeneratedLexer(CSLexer.compiledSchemeCS(CSGeneratedLexer.TOKENS));
+    case REGULAR:
+      final RegularLexer lexer = new RegularLexer(new CSDFAMap());
+      CSLexer.longestMatchesCS(lexer);
+      CSLexer.equalPriorityMatchesCS(lexer);
+      return lexer;
+    default:
+      return newLexer();
+    }
+  }
+
+  /**
+   * Replaces all of the layout in the given C# string with single new-line
+   * characters using
+   * {@link CSCompiler#initialProcessor(String, SourcePositionMap)}.
+   */
+  @Override
+  protected String preprocess(String source, SourcePositionMap positions) {
+    return CSCompiler.initialProcessor(source, positions);
   }
 }
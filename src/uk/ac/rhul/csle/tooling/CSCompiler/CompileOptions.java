@@ -0,0 +1,202 @@
+package uk.ac.rhul.csle.tooling.CSCompiler;
+
+import java.nio.file.Path;
+
+import uk.ac.rhul.csle.tooling.trees.TreeBuilder;
+
+/**
+ * The options that control how each file is processed by
+ * {@link CSCompiler#compileFile(TreeBuilder, String, CompileOptions)}: where
+ * the AST and the various statistics are written, where parse forests are
+ * cached and how the AST is printed.
+ * <p>
+ * Every option is off (<code>null</code> or false) by default, except for the
+ * output directory, which defaults to <code>output</code>.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class CompileOptions {
+
+  /**
+   * The directory that the AST files are written to
+   */
+  private String output_directory = "output";
+
+  /**
+   * The file that debugging statistics are appended to (<code>null</code> if
+   * no statistics should be recorded)
+   */
+  private String debug_file;
+
+  /**
+   * The file that lexical statistics are appended to (<code>null</code> if no
+   * lexical statistics should be recorded)
+   */
+  private String statistics_file;
+
+  /**
+   * The file that parse statistics are appended to (<code>null</code> if no
+   * parse statistics should be recorded)
+   */
+  private String parse_statistics_file;
+
+  /**
+   * The directory that filtered SPPFs are cached in (<code>null</code> if
+   * SPPFs should not be cached)
+   */
+  private Path sppf_cache_directory;
+
+  /**
+   * True if the AST files should include the original position of each node
+   */
+  private boolean positions;
+
+  /**
+   * Sets the directory that the AST files are written to
+   *
+   * @param output_directory
+   *          The output directory
+   * @return This object
+   */
+  public CompileOptions setOutputDirectory(String output_directory) {
+    this.output_directory = output_directory;
+    return this;
+  }
+
+  /**
+   * Sets the file that the profile of each file is appended to
+   *
+   * @param debug_file
+   *          The debug file, or <code>null</code> if no profile should be
+   *          recorded
+   * @return This object
+   */
+  public CompileOptions setDebugFile(String debug_file) {
+    this.debug_file = debug_file;
+    return this;
+  }
+
+  /**
+   * Sets the file that the lexical statistics of each file are appended to
+   *
+   * @param statistics_file
+   *          The statistics file, or <code>null</code> if no lexical
+   *          statistics should be recorded
+   * @return This object
+   */
+  public CompileOptions setStatisticsFile(String statistics_file) {
+    this.statistics_file = statistics_file;
+    return this;
+  }
+
+  /**
+   * Sets the file that the parse statistics of each file are appended to
+   *
+   * @param parse_statistics_file
+   *          The parse statistics file, or <code>null</code> if no parse
+   *          statistics should be recorded
+   * @return This object
+   */
+  public CompileOptions setParseStatisticsFile(String parse_statistics_file) {
+    this.parse_statistics_file = parse_statistics_file;
+    return this;
+  }
+
+  /**
+   * Sets the directory that the filtered SPPF of each file is cached in
+   *
+   * @param sppf_cache_directory
+   *          The cache directory, or <code>null</code> if SPPFs should not be
+   *          cached
+   * @return This object
+   */
+  public CompileOptions setSPPFCacheDirectory(Path sppf_cache_directory) {
+    this.sppf_cache_directory = sppf_cache_directory;
+    return this;
+  }
+
+  /**
+   * Sets whether the AST files should include the original line and column of
+   * each node
+   *
+   * @param positions
+   *          True if positions should be written
+   * @return This object
+   */
+  public CompileOptions setPositions(boolean positions) {
+    this.positions = positions;
+    return this;
+  }
+
+  /**
+   * Returns the directory that the AST files are written to
+   *
+   * @return The output directory
+   */
+  public String getOutputDirectory() {
+    return output_directory;
+  }
+
+  /**
+   * Returns the file that the profile of each file is appended to
+   *
+   * @return The debug file, or <code>null</code> if no profile is recorded
+   */
+  public String getDebugFile() {
+    return debug_file;
+  }
+
+  /**
+   * Returns the file that the lexical statistics of each file are appended to
+   *
+   * @return The statistics file, or <code>null</code> if no lexical
+   *         statistics are recorded
+   */
+  public String getStatisticsFile() {
+    return statistics_file;
+  }
+
+  /**
+   * Returns the file that the parse statistics of each file are appended to
+   *
+   * @return The parse statistics file, or <code>null</code> if no parse
+   *         statistics are recorded
+   */
+  public String getParseStatisticsFile() {
+    return parse_statistics_file;
+  }
+
+  /**
+   * Returns the directory that the filtered SPPF of each file is cached in
+   *
+   * @return The cache directory, or <code>null</code> if SPPFs are not cached
+   */
+  public Path getSPPFCacheDirectory() {
+    return sppf_cache_directory;
+  }
+
+  /**
+   * Returns whether the AST files include the original line and column of each
+   * node
+   *
+   * @return True if positions are written
+   */
+  public boolean getPositions() {
+    return positions;
+  }
+
+  /**
+   * Enables the lexical and parse statistics and the SPPF cache that these
+   * options require on a <code>CSTreeBuilder</code> (profiling is enabled for
+   * each file by {@link CSCompiler#compileFile(TreeBuilder, String, CompileOptions)})
+   *
+   * @param builder
+   *          The builder to configure
+   */
+  public void configure(CSTreeBuilder builder) {
+    builder.setLexicalStatistics(statistics_file != null);
+    builder.setParseStatistics(parse_statistics_file != null);
+    builder.setSPPFCache(sppf_cache_directory);
+  }
+}
@@ -0,0 +1,424 @@
+package uk.ac.rhul.csle.tooling.CSCompiler.preprocessing;
+
+import uk.ac.rhul.csle.tooling.preprocessing.SourcePositionMap;
+
+/**
+ * A single-pass implementation of the layout tokens described by
+ * <code>CSProcessorMap</code>.
+ * <p>
+ * The layout tokens (whitespace, new-lines and comments) and the character and
+ * string literals all begin with different characters, so the first character
+ * at each position decides which token, if any, can be matched there. That
+ * token is then recognised directly by a hand-written loop that follows the
+ * DFA from <code>CSProcessorMap</code>, rather than by running every DFA from
+ * the position and rewinding. Layout is replaced by a single new-line
+ * character as the output is built, so no further pass is needed to collapse
+ * runs of new-lines. The position in the original string of every character
+ * of the output can optionally be recorded in a <code>SourcePositionMap</code>
+ * at the same time.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class CSLayoutProcessor {
+
+  /**
+   * The input string being processed
+   */
+  private final String input;
+
+  /**
+   * The processed string
+   */
+  private final StringBuilder output;
+
+  /**
+   * The map that the original positions of the output are recorded in
+   * (<code>null</code> if they are not recorded)
+   */
+  private final SourcePositionMap positions;
+
+  /**
+   * Constructs a <code>CSLayoutProcessor</code> for the given string
+   *
+   * @param input
+   *          The C# string to process
+   * @param positions
+   *          The map to record original positions in, or <code>null</code>
+   */
+  private CSLayoutProcessor(String input, SourcePositionMap positions) {
+    this.input = input;
+    this.positions = positions;
+    output = new StringBuilder(input.length());
+  }
+
+  /**
+   * Replaces all whitespace and comments in the given C# string with single
+   * new-line characters, collapses each run of new-line characters into one
+   * and removes any leading and trailing layout. Character and string literals
+   * are copied unchanged, apart from runs of new-line characters in verbatim
+   * string literals, which are also collapsed.
+   *
+   * @param input
+   *          The C# string to process
+   * @return The processed string
+   */
+  public static String process(String input) {
+    return new CSLayoutProcessor(input, null).run();
+  }
+
+  /**
+   * Processes the given C# string as described in
+   * {@link CSLayoutProcessor#process(String)}, recording the original position
+   * of each character of the processed string in the given map.
+   *
+   * @param input
+   *          The C# string to process
+   * @param positions
+   *          The map to record original positions in (constructed for
+   *          <code>input</code>)
+   * @return The processed string
+   */
+  public static String process(String input, SourcePositionMap positions) {
+    return new CSLayoutProcessor(input, positions).run();
+  }
+
+  /**
+   * Scans the input string from left to right, building the processed string
+   *
+   * @return The processed string
+   */
+  private String run() {
+    int i = 0;
+    while (i < input.length()) {
+      final char c = input.charAt(i);
+      int end;
+      switch (c) {
+      case ' ':
+      case '\t':
+      case '\f':
+      case '\n':
+        appendNewLine(++i);
+        continue;
+      case '\r':
+        i += i + 1 < input.length() && input.charAt(i + 1) == '\n' ? 2 : 1;
+        appendNewLine(i);
+        continue;
+      case '/':
+        end = matchComment(i);
+        if (end != -1) {
+          appendNewLine(end);
+          i = end;
+          continue;
+        }
+        break;
+      case '\'':
+        end = matchCharacterLiteral(i);
+        if (end != -1) {
+          copy(i, end);
+          i = end;
+          continue;
+        }
+        break;
+      case '"':
+        end = matchStringLiteral(i);
+        if (end != -1) {
+          copy(i, end);
+          i = end;
+          continue;
+        }
+        break;
+      case '@':
+        end = matchVerbatimStringLiteral(i);
+        if (end != -1) {
+          appendVerbatim(i, end);
+          i = end;
+          continue;
+        }
+        break;
+      default:
+        break;
+      }
+      // Nothing was matched at this position so just copy a single character
+      copy(i, i + 1);
+      i++;
+    }
+
+    int start = 0;
+    int end = output.length();
+    while (start < end && output.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && output.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (positions != null) {
+      positions.trimStart(start);
+    }
+    return output.substring(start, end);
+  }
+
+  /**
+   * Appends a new-line character in place of layout to the output, unless the
+   * output already ends with one
+   *
+   * @param end
+   *          The index after the end of the layout
+   */
+  private void appendNewLine(int end) {
+    if (output.length() == 0 || output.charAt(output.length() - 1) != '\n') {
+      if (positions != null) {
+        positions.replaced(output.length(), end);
+      }
+      output.append('\n');
+    } else if (positions != null) {
+      positions.extend(output.length(), end);
+    }
+  }
+
+  /**
+   * Copies part of the input string to the output unchanged
+   *
+   * @param start
+   *          The index of the first character to copy
+   * @param end
+   *          The index after the last character to copy
+   */
+  private void copy(int start, int end) {
+    if (positions != null) {
+      positions.copied(output.length(), start);
+    }
+    output.append(input, start, end);
+  }
+
+  /**
+   * Copies a verbatim string literal to the output, collapsing any runs of
+   * new-line characters it contains
+   *
+   * @param start
+   *          The index of the start of the literal
+   * @param end
+   *          The index after the end of the literal
+   */
+  private void appendVerbatim(int start, int end) {
+    for (int i = start; i < end; i++) {
+      final char c = input.charAt(i);
+      if (c != '\n' || output.charAt(output.length() - 1) != '\n') {
+        copy(i, i + 1);
+      }
+    }
+  }
+
+  /**
+   * Matches a single-line or delimited comment
+   *
+   * @param start
+   *          The index of the opening '/'
+   * @return The index after the end of the comment, or -1 if there is no
+   *         comment at <code>start</code>
+   */
+  private int matchComment(int start) {
+    int i = start + 1;
+    if (i >= input.length()) {
+      return -1;
+    }
+    if (input.charAt(i) == '/') {
+      i++;
+      while (i < input.length()) {
+        final char c = input.charAt(i);
+        if (c == '\r' || c == '\n' || !Character.isDefined(c)) {
+          break;
+        }
+        i++;
+      }
+      return i;
+    }
+    if (input.charAt(i) != '*') {
+      return -1;
+    }
+    i++;
+    boolean star = false;
+    while (i < input.length()) {
+      final char c = input.charAt(i++);
+      if (c == '*') {
+        star = true;
+      } else if (star && c == '/') {
+        return i;
+      } else if (Character.isDefined(c)) {
+        star = false;
+      } else {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Matches a character literal
+   *
+   * @param start
+   *          The index of the opening quote
+   * @return The index after the closing quote, or -1 if there is no character
+   *         literal at <code>start</code>
+   */
+  private int matchCharacterLiteral(int start) {
+    int i = start + 1;
+    if (i >= input.length()) {
+      return -1;
+    }
+    final char c = input.charAt(i++);
+    if (c == '\\') {
+      if (i >= input.length()) {
+        return -1;
+      }
+      final char escape = input.charAt(i++);
+      if (escape == 'x') {
+        final int digits = countHexDigits(i, 4);
+        if (digits == 0) {
+          return -1;
+        }
+        i += digits;
+      } else if (escape == 'u' || escape == 'U') {
+        final int length = escape == 'u' ? 4 : 8;
+        if (countHexDigits(i, length) != length) {
+          return -1;
+        }
+        i += length;
+      } else if (!isSimpleEscape(escape)) {
+        return -1;
+      }
+    } else if (c == '\'' || c == '\r' || c == '\n' || !Character.isDefined(c)) {
+      return -1;
+    }
+    return i < input.length() && input.charAt(i) == '\'' ? i + 1 : -1;
+  }
+
+  /**
+   * Matches a regular string literal
+   *
+   * @param start
+   *          The index of the opening quote
+   * @return The index after the closing quote, or -1 if there is no string
+   *         literal at <code>start</code>
+   */
+  private int matchStringLiteral(int start) {
+    int i = start + 1;
+    while (i < input.length()) {
+      final char c = input.charAt(i++);
+      if (c == '"') {
+        return i;
+      } else if (c == '\\') {
+        if (i >= input.length()) {
+          return -1;
+        }
+        final char escape = input.charAt(i++);
+        int length = 0;
+        if (escape == 'x') {
+          length = 2;
+        } else if (escape == 'u') {
+          length = 4;
+        } else if (escape == 'U') {
+          length = 8;
+        } else if (!isSimpleEscape(escape)) {
+          return -1;
+        }
+        if (countHexDigits(i, length) != length) {
+          return -1;
+        }
+        i += length;
+      } else if (c == '\r' || c == '\n' || !Character.isDefined(c)) {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Matches a verbatim string literal. A doubled quote inside the literal does
+   * not end it, so the longest match is taken.
+   *
+   * @param start
+   *          The index of the '@'
+   * @return The index after the closing quote, or -1 if there is no verbatim
+   *         string literal at <code>start</code>
+   */
+  private int matchVerbatimStringLiteral(int start) {
+    int i = start + 1;
+    if (i >= input.length() || input.charAt(i) != '"') {
+      return -1;
+    }
+    i++;
+    int end = -1;
+    while (i < input.length()) {
+      final char c = input.charAt(i++);
+      if (c == '"') {
+        end = i;
+        // A second quote continues the literal
+        if (i < input.length() && input.charAt(i) == '"') {
+          i++;
+        } else {
+          break;
+        }
+      } else if (!Character.isDefined(c)) {
+        break;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Counts the hexadecimal digits starting at the given index, up to the given
+   * maximum
+   *
+   * @param start
+   *          The index to start counting from
+   * @param max
+   *          The maximum number of digits to count
+   * @return The number of consecutive hexadecimal digits
+   */
+  private int countHexDigits(int start, int max) {
+    int count = 0;
+    while (count < max && start + count < input.length() && isHexDigit(input.charAt(start + count))) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Returns true if the given character is a hexadecimal digit
+   *
+   * @param c
+   *          The character to test
+   * @return True if <code>c</code> is one of 0-9, a-f or A-F
+   */
+  private static boolean isHexDigit(char c) {
+    return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+  }
+
+  /**
+   * Returns true if the given character may follow a backslash as a simple
+   * escape sequence
+   *
+   * @param c
+   *          The character to test
+   * @return True if <code>\c</code> is a simple escape sequence
+   */
+  private static boolean isSimpleEscape(char c) {
+    switch (c) {
+    case '\'':
+    case '"':
+    case '\\':
+    case '0':
+    case 'a':
+    case 'b':
+    case 'f':
+    case 'n':
+    case 'r':
+    case 't':
+    case 'v':
+      return true;
+    default:
+      return false;
+    }
+  }
+}
@@ -0,0 +1,400 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A table-driven form of a deterministic finite-state automaton defined in the
+ * style of <code>BasicDFAMap.DFA</code>.
+ * <p>
+ * Characters are compressed into classes: two characters are in the same class
+ * if every state has the same transition on both of them. Only the characters
+ * that are named explicitly by some transition need to be examined to find the
+ * classes, since every other character is either matched by the "any defined
+ * unicode character except ..." transitions or not, depending only on whether
+ * it is defined. The transitions are then held in a single dense array indexed
+ * by <em>state * classes + class</em>. ASCII characters are mapped to their
+ * class by a table lookup; other characters fall back to a binary search of the
+ * (few) explicitly named non-ASCII characters and then
+ * <code>Character.isDefined</code>.
+ * <p>
+ * As in <code>BasicDFAMap.DFA</code>, if more than one transition from a state
+ * matches a character the one that was added first is taken.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public final class CompiledDFA {
+
+  /**
+   * The number of character classes
+   */
+  private final int classCount;
+
+  /**
+   * The target of the transition from each state on each character class (-1
+   * if there is no transition), indexed by <em>state * classCount + class</em>
+   */
+  private final int[] transitions;
+
+  /**
+   * True for each accepting state
+   */
+  private final boolean[] accepting;
+
+  /**
+   * The class of each ASCII character
+   */
+  private final int[] asciiClasses;
+
+  /**
+   * The explicitly named non-ASCII characters, in ascending order
+   */
+  private final char[] otherCharacters;
+
+  /**
+   * The class of each character in <code>otherCharacters</code>
+   */
+  private final int[] otherClasses;
+
+  /**
+   * The class of every other defined character
+   */
+  private final int definedClass;
+
+  /**
+   * The class of every other undefined character
+   */
+  private final int undefinedClass;
+
+  /**
+   * Constructs a <code>CompiledDFA</code> from the tables built by a
+   * {@link Builder}
+   *
+   * @param classCount
+   *          The number of character classes
+   * @param transitions
+   *          The transition table
+   * @param accepting
+   *          True for each accepting state
+   * @param asciiClasses
+   *          The class of each ASCII character
+   * @param otherCharacters
+   *          The explicitly named non-ASCII characters, in ascending order
+   * @param otherClasses
+   *          The class of each of <code>otherCharacters</code>
+   * @param definedClass
+   *          The class of every other defined character
+   * @param undefinedClass
+   *          The class of every other undefined character
+   */
+  private CompiledDFA(int classCount, int[] transitions, boolean[] accepting, int[] asciiClasses,
+          char[] otherCharacters, int[] otherClasses, int definedClass, int undefinedClass) {
+    this.classCount = classCount;
+    this.transitions = transitions;
+    this.accepting = accepting;
+    this.asciiClasses = asciiClasses;
+    this.otherCharacters = otherCharacters;
+    this.otherClasses = otherClasses;
+    this.definedClass = definedClass;
+    this.undefinedClass = undefinedClass;
+  }
+
+  /**
+   * Returns the class of the given character
+   *
+   * @param c
+   *          A character
+   * @return The class of <code>c</code>
+   */
+  public int classOf(char c) {
+    if (c < 128) {
+      return asciiClasses[c];
+    }
+    final int index = Arrays.binarySearch(otherCharacters, c);
+    if (index >= 0) {
+      return otherClasses[index];
+    }
+    return Character.isDefined(c) ? definedClass : undefinedClass;
+  }
+
+  /**
+   * Returns the state reached from the given state on the given character
+   *
+   * @param state
+   *          The current state
+   * @param c
+   *          The next input character
+   * @return The next state, or -1 if there is no transition
+   */
+  public int next(int state, char c) {
+    return transitions[state * classCount + classOf(c)];
+  }
+
+  /**
+   * Returns true if the given state is accepting
+   *
+   * @param state
+   *          A state of this automaton
+   * @return True if <code>state</code> is accepting
+   */
+  public boolean isAccepting(int state) {
+    return accepting[state];
+  }
+
+  /**
+   * Returns the number of character classes
+   *
+   * @return The number of character classes
+   */
+  public int getClassCount() {
+    return classCount;
+  }
+
+  /**
+   * Returns the number of states
+   *
+   * @return The number of states
+   */
+  public int getStateCount() {
+    return accepting.length;
+  }
+
+  /**
+   * Returns the non-ASCII characters that are named explicitly by a
+   * transition. Every other non-ASCII character is in the class of either all
+   * defined or all undefined characters.
+   *
+   * @return The named non-ASCII characters, in ascending order
+   */
+  char[] getNamedNonASCIICharacters() {
+    return otherCharacters;
+  }
+
+  /**
+   * Records the transitions of an automaton, in the order they are added, so
+   * that it can be compiled into a <code>CompiledDFA</code>. The methods mirror
+   * those of <code>BasicDFAMap.DFA</code>.
+   */
+  public static class Builder {
+
+    /**
+     * A transition on a set of characters, or on every defined character not
+     * in the set
+     */
+    private static class Transition {
+
+      /**
+       * The target state
+       */
+      final int to;
+
+      /**
+       * True if the transition is on every defined character except those in
+       * <code>characters</code>
+       */
+      final boolean allUnicode;
+
+      /**
+       * The characters of the transition
+       */
+      final char[] characters;
+
+      Transition(int to, boolean allUnicode, char[] characters) {
+        this.to = to;
+        this.allUnicode = allUnicode;
+        this.characters = characters.clone();
+        Arrays.sort(this.characters);
+      }
+
+      /**
+       * Returns true if this transition applies to the given character
+       *
+       * @param c
+       *          The character
+       * @param defined
+       *          True if the character is defined
+       * @return True if the transition can be taken on <code>c</code>
+       */
+      boolean matches(char c, boolean defined) {
+        final boolean listed = Arrays.binarySearch(characters, c) >= 0;
+        return allUnicode ? defined && !listed : listed;
+      }
+    }
+
+    /**
+     * The transitions from each state, in the order they were added
+     */
+    private final List<List<Transition>> states;
+
+    /**
+     * True for each accepting state
+     */
+    private final boolean[] accepting;
+
+    /**
+     * Constructs a <code>Builder</code> for an automaton with the given number
+     * of states, with state 0 as the start state
+     *
+     * @param noOfStates
+     *          The number of states
+     */
+    public Builder(int noOfStates) {
+      states = new ArrayList<>(noOfStates);
+      for (int i = 0; i < noOfStates; i++) {
+        states.add(new ArrayList<>());
+      }
+      accepting = new boolean[noOfStates];
+    }
+
+    /**
+     * Marks a state as accepting
+     *
+     * @param state
+     *          The state
+     */
+    public void addAcceptingState(int state) {
+      accepting[state] = true;
+    }
+
+    /**
+     * Adds a transition on every defined unicode character except the given
+     * characters
+     *
+     * @param from
+     *          The source state
+     * @param to
+     *          The target state
+     * @param characters
+     *          The characters the transition is not taken on
+     */
+    public void addAllUnicodeTransition(int from, int to, char... characters) {
+      states.get(from).add(new Transition(to, true, characters));
+    }
+
+    /**
+     * Adds a transition on the given characters
+     *
+     * @param from
+     *          The source state
+     * @param to
+     *          The target state
+     * @param characters
+     *          The characters the transition is taken on
+     */
+    public void addTransition(int from, int to, char... characters) {
+      states.get(from).add(new Transition(to, false, characters));
+    }
+
+    /**
+     * Compiles the recorded automaton into a <code>CompiledDFA</code>
+     *
+     * @return The compiled automaton
+     */
+    public CompiledDFA compile() {
+      final TreeSet<Character> named = new TreeSet<>();
+      for (final List<Transition> transitions : states) {
+        for (final Transition transition : transitions) {
+          for (final char c : transition.characters) {
+            named.add(c);
+          }
+        }
+      }
+
+      // Group the named characters, and the two kinds of unnamed character, by
+      // their column of the transition table
+      final Map<List<Integer>, Integer> columns = new HashMap<>();
+      final List<int[]> classColumns = new ArrayList<>();
+      final Map<Character, Integer> namedClasses = new HashMap<>();
+      for (final char c : named) {
+        namedClasses.put(c, classOf(column(c, Character.isDefined(c), true), columns, classColumns));
+      }
+      // A character that is not named by any transition is represented by one
+      // that cannot appear in any character set
+      final int definedClass = classOf(column('\0', true, false), columns, classColumns);
+      final int undefinedClass = classOf(column('\0', false, false), columns, classColumns);
+
+      final int classCount = classColumns.size();
+      final int[] transitions = new int[states.size() * classCount];
+      for (int cls = 0; cls < classCount; cls++) {
+        final int[] column = classColumns.get(cls);
+        for (int state = 0; state < states.size(); state++) {
+          transitions[state * classCount + cls] = column[state];
+        }
+      }
+
+      final int[] asciiClasses = new int[128];
+      for (char c = 0; c < 128; c++) {
+        final Integer cls = namedClasses.get(c);
+        asciiClasses[c] = cls != null ? cls : Character.isDefined(c) ? definedClass : undefinedClass;
+      }
+      final Character[] others = named.tailSet((char) 128).toArray(new Character[0]);
+      final char[] otherCharacters = new char[others.length];
+      final int[] otherClasses = new int[others.length];
+      for (int i = 0; i < others.length; i++) {
+        otherCharacters[i] = others[i];
+        otherClasses[i] = namedClasses.get(others[i]);
+      }
+      return new CompiledDFA(classCount, transitions, accepting.clone(), asciiClasses, otherCharacters,
+              otherClasses, definedClass, undefinedClass);
+    }
+
+    /**
+     * Computes the target of the first matching transition from each state on
+     * a character
+     *
+     * @param c
+     *          The character
+     * @param defined
+     *          True if the character is defined
+     * @param isNamed
+     *          True if <code>c</code> itself should be tested against the
+     *          character sets, false for a character named by no transition
+     * @return The target state from each state (-1 if there is none)
+     */
+    private int[] column(char c, boolean defined, boolean isNamed) {
+      final int[] column = new int[states.size()];
+      for (int state = 0; state < states.size(); state++) {
+        column[state] = -1;
+        for (final Transition transition : states.get(state)) {
+          final boolean matches = isNamed ? transition.matches(c, defined) : transition.allUnicode && defined;
+          if (matches) {
+            column[state] = transition.to;
+            break;
+          }
+        }
+      }
+      return column;
+    }
+
+    /**
+     * Returns the class with the given column, adding a new class if there is
+     * no such class yet
+     *
+     * @param column
+     *          The column of the transition table
+     * @param columns
+     *          The classes found so far, by column
+     * @param classColumns
+     *          The column of each class found so far
+     * @return The class of the column
+     */
+    private static int classOf(int[] column, Map<List<Integer>, Integer> columns, List<int[]> classColumns) {
+      final List<Integer> key = new ArrayList<>(column.length);
+      for (final int target : column) {
+        key.add(target);
+      }
+      Integer cls = columns.get(key);
+      if (cls == null) {
+        cls = classColumns.size();
+        columns.put(key, cls);
+        classColumns.add(column);
+      }
+      return cls;
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import uk.ac.rhul.csle.tooling.lexer.BasicDFAMap;
+
+/**
+ * A <code>BasicDFAMap</code> whose automata are run from compiled transition
+ * tables (see {@link CompiledDFA}) rather than by searching the transition
+ * lists of <code>BasicDFAMap.DFA</code>.
+ * <p>
+ * Subclasses define their automata in {@link BasicDFAMap#initialise()} exactly
+ * as for a <code>BasicDFAMap</code>, except that each automaton is constructed
+ * as a {@link RecordingDFA}. Every <code>RecordingDFA</code> is compiled once,
+ * when the map is constructed, and is then used in place of the original
+ * automaton by {@link CompiledDFAMap#applyTransition(String, char)},
+ * {@link CompiledDFAMap#atAcceptingState(String)} and
+ * {@link CompiledDFAMap#reset(String)}. Automata that are not recorded are run
+ * as before.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public abstract class CompiledDFAMap extends BasicDFAMap {
+
+  /**
+   * A <code>DFA</code> that also records its transitions so that it can be
+   * compiled
+   */
+  protected class RecordingDFA extends DFA {
+
+    /**
+     * The builder that the transitions are recorded in
+     */
+    private final CompiledDFA.Builder builder;
+
+    /**
+     * Constructs a <code>RecordingDFA</code> with the given number of states
+     *
+     * @param noOfStates
+     *          The number of states
+     */
+    public RecordingDFA(int noOfStates) {
+      super(noOfStates);
+      builder = new CompiledDFA.Builder(noOfStates);
+    }
+
+    @Override
+    public void addAcceptingState(int state) {
+      super.addAcceptingState(state);
+      builder.addAcceptingState(state);
+    }
+
+    @Override
+    public void addAllUnicodeTransition(int from, int to, char... characters) {
+      super.addAllUnicodeTransition(from, to, characters);
+      builder.addAllUnicodeTransition(from, to, characters);
+    }
+
+    @Override
+    public void addTransition(int from, int to, char... characters) {
+      super.addTransition(from, to, characters);
+      builder.addTransition(from, to, characters);
+    }
+  }
+
+  /**
+   * The index of each token with a compiled automaton
+   */
+  private final Map<String, Integer> indices;
+
+  /**
+   * The compiled automaton of each token, by index
+   */
+  private final CompiledDFA[] compiled;
+
+  /**
+   * The current state of each compiled automaton, by index
+   */
+  private final int[] currentStates;
+
+  /**
+   * The token most recently looked up, and its index (tokens are normally
+   * passed in the same order for every position, so consecutive calls usually
+   * name the same token)
+   */
+  private String lastToken;
+
+  /**
+   * The index of <code>lastToken</code>
+   */
+  private int lastIndex;
+
+  /**
+   * Constructs a new <code>CompiledDFAMap</code>, initialising all the DFAs and
+   * compiling those that were recorded
+   */
+  public CompiledDFAMap() {
+    super();
+    indices = new HashMap<>();
+    int count = 0;
+    for (final Map.Entry<String, DFA> entry : DFAMap.entrySet()) {
+      if (entry.getValue() instanceof RecordingDFA) {
+        indices.put(entry.getKey(), count++);
+      }
+    }
+    compiled = new CompiledDFA[count];
+    for (final Map.Entry<String, Integer> entry : indices.entrySet()) {
+      compiled[entry.getValue()] = ((RecordingDFA) DFAMap.get(entry.getKey())).builder.compile();
+    }
+    currentStates = new int[count];
+    lastIndex = -1;
+  }
+
+  @Override
+  public boolean applyTransition(String token, char input) {
+    final int index = indexOf(token);
+    if (index == -1) {
+      return super.applyTransition(token, input);
+    }
+    final int next = compiled[index].next(currentStates[index], input);
+    if (next == -1) {
+      return false;
+    }
+    currentStates[index] = next;
+    return true;
+  }
+
+  @Override
+  public boolean atAcceptingState(String token) {
+    final int index = indexOf(token);
+    if (index == -1) {
+      return super.atAcceptingState(token);
+    }
+    return compiled[index].isAccepting(currentStates[index]);
+  }
+
+  @Override
+  public void reset(String token) {
+    final int index = indexOf(token);
+    if (index == -1) {
+      super.reset(token);
+    } else {
+      currentStates[index] = 0;
+    }
+  }
+
+  /**
+   * Returns the compiled automaton of the given token
+   *
+   * @param token
+   *          The name of the token
+   * @return The compiled automaton, or <code>null</code> if the token's
+   *         automaton was not recorded
+   */
+  public CompiledDFA getCompiledDFA(String token) {
+    final int index = indexOf(token);
+    return index == -1 ? null : compiled[index];
+  }
+
+  /**
+   * Returns the index of the compiled automaton of the given token
+   *
+   * @param token
+   *          The name of the token
+   * @return The index of the token, or -1 if it has no compiled automaton
+   */
+  private int indexOf(String token) {
+    if (token == lastToken) {
+      return lastIndex;
+    }
+    final Integer index = indices.get(token);
+    lastToken = token;
+    lastIndex = index == null ? -1 : index;
+    return lastIndex;
+  }
+}
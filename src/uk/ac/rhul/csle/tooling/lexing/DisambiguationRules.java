@@ -0,0 +1,310 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import uk.ac.rhul.csle.tooling.lexer.MultiLexer;
+
+/**
+ * The methods by which the rules of a lexical disambiguation scheme are
+ * defined, with the same meaning as the methods of <code>MultiLexer</code>
+ * that have the same names.
+ * <p>
+ * The rules of a scheme can be written once against this interface and then
+ * either given to a <code>MultiLexer</code> or compiled into a
+ * {@link DisambiguationScheme} by a {@link DisambiguationScheme.Builder}. Only
+ * the rules relating a pair of tokens need to be implemented; the groupings
+ * are defined in terms of them in the same way as in
+ * <code>MultiLexer</code>.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public interface DisambiguationRules {
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 2 lexical disambiguation
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   */
+  void addLeftLongestGrouping(String tokenA, String tokenB);
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 2a lexical disambiguation
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   */
+  void addRightLongestGrouping(String tokenA, String tokenB);
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 1 lexical disambiguation
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   */
+  void addRestrictedPriorityGrouping(String tokenA, String tokenB);
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 3 lexical disambiguation
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   */
+  void addLeftShortestGrouping(String tokenA, String tokenB);
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 3a lexical disambiguation
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   */
+  void addRightShortestGrouping(String tokenA, String tokenB);
+
+  /**
+   * Adds a rule stating that <code>tokenA</code> relates to itself for class 2
+   * lexical disambiguation
+   *
+   * @param tokenA
+   *          The token that should relate to itself
+   */
+  default void addLeftLongestGrouping(String tokenA) {
+    addLeftLongestGrouping(tokenA, tokenA);
+  }
+
+  /**
+   * Adds rules relating every pair of the given tokens for class 2 lexical
+   * disambiguation
+   *
+   * @param tokens
+   *          The list of tokens to relate
+   */
+  default void addLeftLongestGrouping(String... tokens) {
+    for (final String tokenA : tokens) {
+      for (final String tokenB : tokens) {
+        addLeftLongestGrouping(tokenA, tokenB);
+      }
+    }
+  }
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 2 lexical disambiguation, and if <code>omnidirectional</code> is
+   * true the rules that make the relation bidirectional and reflexive
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   * @param omnidirectional
+   *          True if the relation should be bidirectional and reflexive, false
+   *          otherwise
+   */
+  default void addLeftLongestGrouping(String tokenA, String tokenB, boolean omnidirectional) {
+    if (omnidirectional) {
+      addLeftLongestGrouping(tokenA);
+      addLeftLongestGrouping(tokenB);
+      addLeftLongestGrouping(tokenB, tokenA);
+    }
+    addLeftLongestGrouping(tokenA, tokenB);
+  }
+
+  /**
+   * Adds a rule stating that <code>tokenA</code> relates to itself for class
+   * 2a lexical disambiguation
+   *
+   * @param tokenA
+   *          The token that should relate to itself
+   */
+  default void addRightLongestGrouping(String tokenA) {
+    addRightLongestGrouping(tokenA, tokenA);
+  }
+
+  /**
+   * Adds rules relating every pair of the given tokens for class 2a lexical
+   * disambiguation
+   *
+   * @param tokens
+   *          The list of tokens to relate
+   */
+  default void addRightLongestGrouping(String... tokens) {
+    for (final String tokenA : tokens) {
+      for (final String tokenB : tokens) {
+        addRightLongestGrouping(tokenA, tokenB);
+      }
+    }
+  }
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 2a lexical disambiguation, and if <code>omnidirectional</code> is
+   * true the rules that make the relation bidirectional and reflexive
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   * @param omnidirectional
+   *          True if the relation should be bidirectional and reflexive, false
+   *          otherwise
+   */
+  default void addRightLongestGrouping(String tokenA, String tokenB, boolean omnidirectional) {
+    if (omnidirectional) {
+      addRightLongestGrouping(tokenA);
+      addRightLongestGrouping(tokenB);
+      addRightLongestGrouping(tokenB, tokenA);
+    }
+    addRightLongestGrouping(tokenA, tokenB);
+  }
+
+  /**
+   * Adds a rule stating that <code>tokenA</code> relates to itself for class 3
+   * lexical disambiguation
+   *
+   * @param tokenA
+   *          The token that should relate to itself
+   */
+  default void addLeftShortestGrouping(String tokenA) {
+    addLeftShortestGrouping(tokenA, tokenA);
+  }
+
+  /**
+   * Adds rules relating every pair of the given tokens for class 3 lexical
+   * disambiguation
+   *
+   * @param tokens
+   *          The list of tokens to relate
+   */
+  default void addLeftShortestGrouping(String... tokens) {
+    for (final String tokenA : tokens) {
+      for (final String tokenB : tokens) {
+        addLeftShortestGrouping(tokenA, tokenB);
+      }
+    }
+  }
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 3 lexical disambiguation, and if <code>omnidirectional</code> is
+   * true the rules that make the relation bidirectional and reflexive
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   * @param omnidirectional
+   *          True if the relation should be bidirectional and reflexive, false
+   *          otherwise
+   */
+  default void addLeftShortestGrouping(String tokenA, String tokenB, boolean omnidirectional) {
+    if (omnidirectional) {
+      addLeftShortestGrouping(tokenA);
+      addLeftShortestGrouping(tokenB);
+      addLeftShortestGrouping(tokenB, tokenA);
+    }
+    addLeftShortestGrouping(tokenA, tokenB);
+  }
+
+  /**
+   * Adds a rule stating that <code>tokenA</code> relates to itself for class
+   * 3a lexical disambiguation
+   *
+   * @param tokenA
+   *          The token that should relate to itself
+   */
+  default void addRightShortestGrouping(String tokenA) {
+    addRightShortestGrouping(tokenA, tokenA);
+  }
+
+  /**
+   * Adds rules relating every pair of the given tokens for class 3a lexical
+   * disambiguation
+   *
+   * @param tokens
+   *          The list of tokens to relate
+   */
+  default void addRightShortestGrouping(String... tokens) {
+    for (final String tokenA : tokens) {
+      for (final String tokenB : tokens) {
+        addRightShortestGrouping(tokenA, tokenB);
+      }
+    }
+  }
+
+  /**
+   * Adds a rule that <code>tokenA</code> relates to <code>tokenB</code> for
+   * class 3a lexical disambiguation, and if <code>omnidirectional</code> is
+   * true the rules that make the relation bidirectional and reflexive
+   *
+   * @param tokenA
+   *          The first token to relate
+   * @param tokenB
+   *          The second token to relate
+   * @param omnidirectional
+   *          True if the relation should be bidirectional and reflexive, false
+   *          otherwise
+   */
+  default void addRightShortestGrouping(String tokenA, String tokenB, boolean omnidirectional) {
+    if (omnidirectional) {
+      addRightShortestGrouping(tokenA);
+      addRightShortestGrouping(tokenB);
+      addRightShortestGrouping(tokenB, tokenA);
+    }
+    addRightShortestGrouping(tokenA, tokenB);
+  }
+
+  /**
+   * Returns the given lexer as a <code>DisambiguationRules</code>, so that
+   * rules written against this interface can be added to any
+   * <code>MultiLexer</code>
+   *
+   * @param lex
+   *          The lexer to add rules to
+   * @return The lexer itself if it implements this interface, otherwise a view
+   *         that adds each rule to the lexer
+   */
+  static DisambiguationRules of(MultiLexer lex) {
+    if (lex instanceof DisambiguationRules) {
+      return (DisambiguationRules) lex;
+    }
+    return new DisambiguationRules() {
+      @Override
+      public void addLeftLongestGrouping(String tokenA, String tokenB) {
+        lex.addLeftLongestGrouping(tokenA, tokenB);
+      }
+
+      @Override
+      public void addRightLongestGrouping(String tokenA, String tokenB) {
+        lex.addRightLongestGrouping(tokenA, tokenB);
+      }
+
+      @Override
+      public void addRestrictedPriorityGrouping(String tokenA, String tokenB) {
+        lex.addRestrictedPriorityGrouping(tokenA, tokenB);
+      }
+
+      @Override
+      public void addLeftShortestGrouping(String tokenA, String tokenB) {
+        lex.addLeftShortestGrouping(tokenA, tokenB);
+      }
+
+      @Override
+      public void addRightShortestGrouping(String tokenA, String tokenB) {
+        lex.addRightShortestGrouping(tokenA, tokenB);
+      }
+    };
+  }
+}
@@ -0,0 +1,354 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A lexical disambiguation scheme compiled into a table of the kinds of rule
+ * relating each pair of tokens.
+ * <p>
+ * A <code>MultiLexer</code> holds its rules as string-keyed relations, which
+ * must be registered with every lexer and are consulted by name for every pair
+ * of triples compared. A <code>DisambiguationScheme</code> is compiled once,
+ * for a fixed numbering of the tokens, by a {@link Builder}. It cannot be
+ * modified afterwards, so a single scheme can be shared by any number of
+ * lexers, including lexers running on different threads.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public final class DisambiguationScheme {
+
+  /**
+   * The flag of class 2 (left longest match) rules in <code>relations</code>
+   */
+  static final byte LEFT_LONGEST = 1;
+
+  /**
+   * The flag of class 3 (left shortest match) rules in <code>relations</code>
+   */
+  static final byte LEFT_SHORTEST = 2;
+
+  /**
+   * The flag of class 1 (restricted priority) rules in <code>relations</code>
+   */
+  static final byte PRIORITY = 4;
+
+  /**
+   * The flag of class 2a (right longest match) rules in
+   * <code>relations</code>
+   */
+  static final byte RIGHT_LONGEST = 8;
+
+  /**
+   * The flag of class 3a (right shortest match) rules in
+   * <code>relations</code>
+   */
+  static final byte RIGHT_SHORTEST = 16;
+
+  /**
+   * The tokens, indexed by token number
+   */
+  private final String[] tokens;
+
+  /**
+   * The kinds of rule relating each pair of tokens, indexed by
+   * <em>tokenA * tokens.length + tokenB</em>
+   */
+  private final byte[] relations;
+
+  /**
+   * True for each token that appears in some rule
+   */
+  private final boolean[] hasRule;
+
+  /**
+   * The fingerprint of the scheme (0 if it has not been computed yet)
+   */
+  private int fingerprint;
+
+  /**
+   * Constructs a scheme holding copies of the rules of the given builder
+   *
+   * @param builder
+   *          The builder holding the rules
+   */
+  private DisambiguationScheme(Builder builder) {
+    tokens = builder.tokens.clone();
+    relations = builder.relations.clone();
+    hasRule = builder.hasRule.clone();
+  }
+
+  /**
+   * Returns the tokens of this scheme, indexed by token number
+   *
+   * @return A copy of the tokens of this scheme
+   */
+  public String[] getTokens() {
+    return tokens.clone();
+  }
+
+  /**
+   * Returns true if this scheme is compiled for the given tokens, in the same
+   * order
+   *
+   * @param tokens
+   *          The tokens, indexed by token number
+   * @return True if the token numbers of this scheme are those of
+   *         <code>tokens</code>
+   */
+  public boolean isFor(String[] tokens) {
+    return Arrays.equals(this.tokens, tokens);
+  }
+
+  /**
+   * Returns a hash of the tokens and rules of this scheme. Schemes compiled
+   * from the same rules for the same tokens have the same fingerprint.
+   *
+   * @return The fingerprint
+   */
+  public int getFingerprint() {
+    int hash = fingerprint;
+    if (hash == 0) {
+      hash = 31 * Arrays.hashCode(tokens) + Arrays.hashCode(relations);
+      fingerprint = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Returns true if the given token appears in some rule
+   *
+   * @param token
+   *          The token number
+   * @return True if some rule relates <code>token</code> to a token
+   */
+  public boolean hasRule(int token) {
+    return hasRule[token];
+  }
+
+  /**
+   * Returns the kinds of rule relating <code>tokenA</code> to
+   * <code>tokenB</code>
+   *
+   * @param tokenA
+   *          The first token number
+   * @param tokenB
+   *          The second token number
+   * @return The flags of the kinds of rule
+   */
+  byte getRelation(int tokenA, int tokenB) {
+    return relations[tokenA * tokens.length + tokenB];
+  }
+
+  /**
+   * Applies the rules of this scheme to a TWE set whose token numbers are
+   * those of this scheme, clearing the entry of <code>keep</code> for every
+   * triple that is removed by some rule. No memory is allocated: the caller
+   * supplies the working arrays, which need not be cleared.
+   *
+   * @param set
+   *          The TWE set
+   * @param keep
+   *          An array of at least <code>set.size()</code> elements, which is
+   *          filled with a flag for each triple that remains
+   * @param starts
+   *          An array of at least <code>set.getHighestRightExtent() + 1</code>
+   *          elements
+   * @param order
+   *          An array of at least <code>set.size()</code> elements
+   * @return The number of triples that remain
+   */
+  public int apply(PackedTripleSet set, boolean[] keep, int[] starts, int[] order) {
+    final int size = set.size();
+    Arrays.fill(keep, 0, size, true);
+
+    // Rules with a common left extent (class 1, 2 and 3); the triples with the
+    // same left extent are contiguous
+    int start = 0;
+    while (start < size) {
+      int end = start + 1;
+      while (end < size && set.getLeftExtent(end) == set.getLeftExtent(start)) {
+        end++;
+      }
+      for (int i = start; i < end; i++) {
+        final int tokenI = set.getToken(i);
+        if (!hasRule[tokenI]) {
+          continue;
+        }
+        final int rightI = set.getRightExtent(i);
+        for (int j = start; j < end; j++) {
+          final int relation = relations[tokenI * tokens.length + set.getToken(j)];
+          if (i == j || relation == 0) {
+            continue;
+          }
+          final int rightJ = set.getRightExtent(j);
+          if ((relation & LEFT_LONGEST) != 0 && rightI < rightJ || (relation & LEFT_SHORTEST) != 0 && rightI > rightJ
+                  || (relation & PRIORITY) != 0 && rightI == rightJ) {
+            keep[i] = false;
+          }
+        }
+      }
+      start = end;
+    }
+
+    // Rules with a common right extent (class 2a and 3a)
+    final int highest = set.indexByRightExtent(starts, order);
+    for (int r = 0; r <= highest; r++) {
+      final int first = r == 0 ? 0 : starts[r - 1];
+      for (int x = first; x < starts[r]; x++) {
+        final int i = order[x];
+        final int tokenI = set.getToken(i);
+        if (!hasRule[tokenI]) {
+          continue;
+        }
+        final int leftI = set.getLeftExtent(i);
+        for (int y = first; y < starts[r]; y++) {
+          final int j = order[y];
+          final int relation = relations[tokenI * tokens.length + set.getToken(j)];
+          if (i == j || relation == 0) {
+            continue;
+          }
+          final int leftJ = set.getLeftExtent(j);
+          if ((relation & RIGHT_LONGEST) != 0 && leftI < leftJ || (relation & RIGHT_SHORTEST) != 0 && leftI > leftJ) {
+            keep[i] = false;
+          }
+        }
+      }
+    }
+
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      if (keep[i]) {
+        kept++;
+      }
+    }
+    return kept;
+  }
+
+  /**
+   * Collects the rules of a lexical disambiguation scheme for a fixed list of
+   * tokens and compiles them into a <code>DisambiguationScheme</code>
+   *
+   * @author Robert Michael Walsh
+   *
+   */
+  public static final class Builder implements DisambiguationRules {
+
+    /**
+     * The tokens, indexed by token number
+     */
+    private final String[] tokens;
+
+    /**
+     * The number of each token
+     */
+    private final Map<String, Integer> tokenNumbers = new HashMap<>();
+
+    /**
+     * The kinds of rule relating each pair of tokens
+     */
+    private final byte[] relations;
+
+    /**
+     * True for each token that appears in some rule
+     */
+    private final boolean[] hasRule;
+
+    /**
+     * Constructs a <code>Builder</code> with no rules
+     *
+     * @param tokens
+     *          The tokens, indexed by token number
+     */
+    public Builder(String[] tokens) {
+      this.tokens = tokens.clone();
+      for (int i = 0; i < tokens.length; i++) {
+        tokenNumbers.put(tokens[i], i);
+      }
+      relations = new byte[tokens.length * tokens.length];
+      hasRule = new boolean[tokens.length];
+    }
+
+    /**
+     * Constructs a <code>Builder</code> holding the rules of the given scheme
+     *
+     * @param scheme
+     *          The scheme to start from
+     */
+    public Builder(DisambiguationScheme scheme) {
+      this(scheme.tokens);
+      System.arraycopy(scheme.relations, 0, relations, 0, relations.length);
+      System.arraycopy(scheme.hasRule, 0, hasRule, 0, hasRule.length);
+    }
+
+    /**
+     * Compiles the rules added so far. The builder can still be used
+     * afterwards without affecting the compiled scheme.
+     *
+     * @return The compiled scheme
+     */
+    public DisambiguationScheme build() {
+      return new DisambiguationScheme(this);
+    }
+
+    /**
+     * Records a rule of the given kind relating two tokens
+     *
+     * @param kind
+     *          The flag of the kind of rule
+     * @param tokenA
+     *          The first token to relate
+     * @param tokenB
+     *          The second token to relate
+     */
+    private void addRelation(byte kind, String tokenA, String tokenB) {
+      final int a = numberOf(tokenA);
+      final int b = numberOf(tokenB);
+      relations[a * tokens.length + b] |= kind;
+      hasRule[a] = true;
+      hasRule[b] = true;
+    }
+
+    /**
+     * Returns the number of the given token
+     *
+     * @param token
+     *          The name of the token
+     * @return The token number
+     */
+    private int numberOf(String token) {
+      final Integer number = tokenNumbers.get(token);
+      if (number == null) {
+        throw new IllegalArgumentException("Unknown token " + token + " in lexical disambiguation rule");
+      }
+      return number;
+    }
+
+    @Override
+    public void addLeftLongestGrouping(String tokenA, String tokenB) {
+      addRelation(LEFT_LONGEST, tokenA, tokenB);
+    }
+
+    @Override
+    public void addRightLongestGrouping(String tokenA, String tokenB) {
+      addRelation(RIGHT_LONGEST, tokenA, tokenB);
+    }
+
+    @Override
+    public void addRestrictedPriorityGrouping(String tokenA, String tokenB) {
+      addRelation(PRIORITY, tokenA, tokenB);
+    }
+
+    @Override
+    public void addLeftShortestGrouping(String tokenA, String tokenB) {
+      addRelation(LEFT_SHORTEST, tokenA, tokenB);
+    }
+
+    @Override
+    public void addRightShortestGrouping(String tokenA, String tokenB) {
+      addRelation(RIGHT_SHORTEST, tokenA, tokenB);
+    }
+  }
+}
@@ -0,0 +1,290 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Maintains the pruned and disambiguated TWE set of a segmented input as the
+ * input is edited, re-lexing only the segments touched by each edit.
+ * <p>
+ * The segments of a segmented input are separated by new-line characters, and
+ * every triple of a segment starts and ends within the segment or at the
+ * new-line characters either side of it. When every segment can be tokenised
+ * from one end to the other, the triples of different segments never share a
+ * left extent or a right extent, so pruning and lexical disambiguation of the
+ * whole TWE set give the same triples as pruning and disambiguating each
+ * segment on its own. The TWE set of each segment is therefore kept with
+ * extents relative to the start of the segment. An edit re-matches, prunes and
+ * disambiguates only the segments it touches (together with any segments it
+ * creates), and the TWE set of the whole input is then rebuilt by shifting the
+ * sets of the segments to their new positions.
+ * <p>
+ * If some segment is empty or cannot be tokenised on its own, or the input
+ * ends with a new-line character, the whole input is lexed again by the
+ * underlying {@link ProductLexer}, so the TWE set and the messages displayed
+ * are always the same as those of
+ * {@link ProductLexer#lexSegmentedWithoutSideEffects(String, String)}
+ * followed by <code>disambiguate</code>.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class IncrementalLexer {
+
+  /**
+   * The lexer used to match segments, and to lex the whole input when the
+   * segments cannot be lexed separately
+   */
+  private final ProductLexer lex;
+
+  /**
+   * The name of the input
+   */
+  private String filename;
+
+  /**
+   * The current input
+   */
+  private String input = "";
+
+  /**
+   * The text of each segment of the current input, including empty segments
+   */
+  private final List<String> segments = new ArrayList<>();
+
+  /**
+   * The pruned and disambiguated TWE set of each segment, relative to the
+   * start of the segment, or <code>null</code> if the segment has not been
+   * lexed or cannot be tokenised on its own
+   */
+  private final List<PackedTripleSet> segmentTriples = new ArrayList<>();
+
+  /**
+   * The pruned and disambiguated TWE set of the current input
+   */
+  private PackedTripleSet triples;
+
+  /**
+   * Working storage for pruning and lexical disambiguation: a flag for each
+   * triple
+   */
+  private boolean[] keep = new boolean[0];
+
+  /**
+   * Working storage for pruning: a bit for each extent reached
+   */
+  private long[] reached = new long[0];
+
+  /**
+   * Working storage for lexical disambiguation: the end of each group of
+   * triples with a common right extent
+   */
+  private int[] starts = new int[0];
+
+  /**
+   * Working storage for lexical disambiguation: the triples in order of right
+   * extent
+   */
+  private int[] order = new int[0];
+
+  /**
+   * Constructs an <code>IncrementalLexer</code> that matches segments with the
+   * given lexer and applies its lexical disambiguation scheme
+   *
+   * @param lex
+   *          The lexer
+   */
+  public IncrementalLexer(ProductLexer lex) {
+    this.lex = lex;
+    segments.add("");
+    segmentTriples.add(null);
+  }
+
+  /**
+   * Lexes a whole new input
+   *
+   * @param filename
+   *          The name of the input
+   * @param input
+   *          The input string
+   * @return The pruned and disambiguated TWE set of the input
+   */
+  public PackedTripleSet lex(String filename, String input) {
+    this.filename = filename;
+    this.input = input;
+    segments.clear();
+    segmentTriples.clear();
+    for (final String segment : input.split("\n", -1)) {
+      segments.add(segment);
+      segmentTriples.add(null);
+    }
+    return relex();
+  }
+
+  /**
+   * Replaces the characters of the current input from index
+   * <code>start</code> up to (but not including) index <code>end</code> with
+   * the given string, and re-lexes the segments affected
+   *
+   * @param start
+   *          The index of the first character replaced
+   * @param end
+   *          The index after the last character replaced
+   * @param replacement
+   *          The string to insert in place of the characters replaced
+   * @return The pruned and disambiguated TWE set of the edited input
+   * @throws IndexOutOfBoundsException
+   *           If <code>start</code> and <code>end</code> are not a range of
+   *           the current input
+   */
+  public PackedTripleSet edit(int start, int end, String replacement) {
+    if (start < 0 || end > input.length() || start > end) {
+      throw new IndexOutOfBoundsException(String.format("Edit [%d, %d) is outside input of length %d", start, end,
+              input.length()));
+    }
+
+    // Find the first segment containing start, and the segment containing end;
+    // a segment is taken to include the new-line character after it
+    int first = 0;
+    int firstOffset = 0;
+    while (firstOffset + segments.get(first).length() < start) {
+      firstOffset += segments.get(first).length() + 1;
+      first++;
+    }
+    int last = first;
+    int lastEnd = firstOffset + segments.get(first).length();
+    while (lastEnd < end) {
+      last++;
+      lastEnd += segments.get(last).length() + 1;
+    }
+
+    final String region = input.substring(firstOffset, start) + replacement + input.substring(end, lastEnd);
+    input = input.substring(0, start) + replacement + input.substring(end);
+    segments.subList(first, last + 1).clear();
+    segmentTriples.subList(first, last + 1).clear();
+    final String[] replaced = region.split("\n", -1);
+    segments.addAll(first, Arrays.asList(replaced));
+    segmentTriples.addAll(first, Arrays.asList(new PackedTripleSet[replaced.length]));
+    return relex();
+  }
+
+  /**
+   * Returns the current input
+   *
+   * @return The input string, with every edit applied
+   */
+  public String getInput() {
+    return input;
+  }
+
+  /**
+   * Returns the pruned and disambiguated TWE set of the current input
+   *
+   * @return The TWE set
+   */
+  public PackedTripleSet getTriples() {
+    return triples;
+  }
+
+  /**
+   * Lexes every segment that has not been lexed, and rebuilds the TWE set of
+   * the whole input from the sets of the segments. If some segment cannot be
+   * lexed on its own, the whole input is lexed instead.
+   *
+   * @return The pruned and disambiguated TWE set of the input
+   */
+  private PackedTripleSet relex() {
+    boolean separable = !input.isEmpty() && input.charAt(input.length() - 1) != '\n';
+    for (int k = 0; separable && k < segments.size(); k++) {
+      if (segmentTriples.get(k) == null) {
+        segmentTriples.set(k, lexSegment(segments.get(k), k != 0));
+      }
+      separable = segmentTriples.get(k) != null;
+    }
+    if (!separable) {
+      lex.resetLexer();
+      lex.lexSegmentedWithoutSideEffects(filename, input);
+      triples = (PackedTripleSet) lex.disambiguate(lex.getTriples());
+      return triples;
+    }
+
+    int size = 0;
+    for (final PackedTripleSet set : segmentTriples) {
+      size += set.size();
+    }
+    triples = new PackedTripleSet(lex.getTokenNames(), size);
+    int base = 0;
+    for (int k = 0; k < segments.size(); k++) {
+      triples.append(segmentTriples.get(k), base);
+      base += k == 0 ? segments.get(k).length() : segments.get(k).length() + 1;
+    }
+    return triples;
+  }
+
+  /**
+   * Matches, prunes and disambiguates a single segment, with extents relative
+   * to the start of the segment. A segment after the first starts at the
+   * new-line character before it, which is extent 0.
+   *
+   * @param segment
+   *          The text of the segment
+   * @param afterNewLine
+   *          True if the segment follows a new-line character
+   * @return The pruned and disambiguated TWE set of the segment, or
+   *         <code>null</code> if the segment is empty or cannot be tokenised
+   *         on its own
+   */
+  private PackedTripleSet lexSegment(String segment, boolean afterNewLine) {
+    if (segment.isEmpty()) {
+      return null;
+    }
+    final int endIndex = afterNewLine ? segment.length() + 1 : segment.length();
+    final PackedTripleSet matched = new PackedTripleSet(lex.getTokenNames(), segment.length());
+    if (lex.match(segment, afterNewLine ? 1 : 0, matched) != null) {
+      return null;
+    }
+    final PackedTripleSet pruned = prune(matched, endIndex);
+    if (pruned == null) {
+      return null;
+    }
+
+    final int size = pruned.size();
+    if (keep.length < size) {
+      keep = new boolean[size];
+      order = new int[size];
+    }
+    if (starts.length <= endIndex) {
+      starts = new int[endIndex + 1];
+    }
+    final int kept = lex.getDisambiguationScheme().apply(pruned, keep, starts, order);
+    return kept == size ? pruned : prune(pruned.retain(keep, kept), endIndex);
+  }
+
+  /**
+   * Returns the largest subset of the TWE set of a segment whose triples lie
+   * on a path from extent 0 to the end of the segment
+   *
+   * @param set
+   *          The TWE set of the segment
+   * @param endIndex
+   *          The extent of the end of the segment
+   * @return The pruned set, or <code>null</code> if the end of the segment
+   *         cannot be reached
+   */
+  private PackedTripleSet prune(PackedTripleSet set, int endIndex) {
+    final int size = set.size();
+    if (keep.length < size) {
+      keep = new boolean[size];
+      order = new int[size];
+    }
+    if (reached.length <= endIndex >>> 6) {
+      reached = new long[(endIndex >>> 6) + 1];
+    }
+    if (set.reachForward(keep, reached) < endIndex) {
+      return null;
+    }
+    final int kept = set.reachBackward(endIndex, keep, reached);
+    return kept == size ? set : set.retain(keep, kept);
+  }
+}
@@ -0,0 +1,107 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A trie of keyword strings, compiled into a single {@link CompiledDFA}.
+ * <p>
+ * Each state of the automaton is a prefix of at least one keyword, and the
+ * state reached after reading a whole keyword string is accepting for that
+ * keyword. Running the automaton from a position therefore finds every keyword
+ * that matches at the position in one pass, reading each character once,
+ * rather than comparing the input with the string of each keyword in turn.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public final class KeywordTrie {
+
+  /**
+   * The compiled trie
+   */
+  private final CompiledDFA automaton;
+
+  /**
+   * The keywords accepted in each state of <code>automaton</code>, in
+   * ascending order
+   */
+  private final int[][] keywords;
+
+  /**
+   * Constructs a <code>KeywordTrie</code> for the given keyword strings.
+   * Keyword <em>i</em> is matched by <code>strings[i]</code>; a string may be
+   * shared by more than one keyword.
+   *
+   * @param strings
+   *          The string of each keyword
+   */
+  public KeywordTrie(String[] strings) {
+    // The children of each node, by character
+    final List<Map<Character, Integer>> children = new ArrayList<>();
+    final List<List<Integer>> accepted = new ArrayList<>();
+    children.add(new HashMap<>());
+    accepted.add(new ArrayList<>());
+    for (int keyword = 0; keyword < strings.length; keyword++) {
+      int node = 0;
+      for (final char c : strings[keyword].toCharArray()) {
+        Integer child = children.get(node).get(c);
+        if (child == null) {
+          child = children.size();
+          children.get(node).put(c, child);
+          children.add(new HashMap<>());
+          accepted.add(new ArrayList<>());
+        }
+        node = child;
+      }
+      accepted.get(node).add(keyword);
+    }
+
+    final CompiledDFA.Builder builder = new CompiledDFA.Builder(children.size());
+    keywords = new int[children.size()][];
+    for (int node = 0; node < children.size(); node++) {
+      for (final Map.Entry<Character, Integer> child : children.get(node).entrySet()) {
+        builder.addTransition(node, child.getValue(), child.getKey());
+      }
+      keywords[node] = accepted.get(node).stream().mapToInt(Integer::intValue).toArray();
+      Arrays.sort(keywords[node]);
+      if (keywords[node].length != 0) {
+        builder.addAcceptingState(node);
+      }
+    }
+    automaton = builder.compile();
+  }
+
+  /**
+   * Returns the compiled trie, in which state 0 is the empty prefix
+   *
+   * @return The compiled trie
+   */
+  public CompiledDFA getAutomaton() {
+    return automaton;
+  }
+
+  /**
+   * Returns the keywords whose strings end in the given state
+   *
+   * @param state
+   *          A state of the trie
+   * @return The accepted keywords in ascending order (the array must not be
+   *         modified)
+   */
+  public int[] getKeywords(int state) {
+    return keywords[state];
+  }
+
+  /**
+   * Returns the number of nodes of the trie
+   *
+   * @return The number of nodes
+   */
+  public int size() {
+    return keywords.length;
+  }
+}
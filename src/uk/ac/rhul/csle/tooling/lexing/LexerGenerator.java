@@ -0,0 +1,418 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates the Java source of a {@link ProductLexer} specialised for the
+ * tokens of a <code>CompiledDFAMap</code>.
+ * <p>
+ * The generated lexer holds the product automaton of the tokens (see
+ * {@link ProductLexer#productOf(CompiledDFAMap)}) in static final tables, and
+ * classifies each input character with a <code>switch</code>, so that it
+ * neither builds the automata of the map nor their product when it is
+ * constructed, and its matching loop makes no calls through the automaton
+ * objects. It constructs the same TWE set as a <code>ProductLexer</code> for
+ * the map it was generated from.
+ * <p>
+ * The generator is run by the <code>GenerateLexer</code> target of the Ant
+ * build, and the generated source is kept with the rest of the source, in the
+ * same way as the ART-generated parser. It must be regenerated whenever the
+ * automata of the map change.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class LexerGenerator {
+
+  /**
+   * The maximum number of characters in each string literal holding part of
+   * the transition table; every character takes at most two bytes of the
+   * class file's 65535 byte limit
+   */
+  private static final int CHUNK_LENGTH = 16384;
+
+  /**
+   * The map the lexer is generated for
+   */
+  private final CompiledDFAMap DFAs;
+
+  /**
+   * The product automaton of the tokens of the map
+   */
+  private final ProductAutomaton automaton;
+
+  /**
+   * Constructs a generator for the tokens of the given map
+   *
+   * @param DFAs
+   *          The map holding the automaton of each token
+   */
+  public LexerGenerator(CompiledDFAMap DFAs) {
+    this.DFAs = DFAs;
+    automaton = ProductLexer.productOf(DFAs);
+  }
+
+  /**
+   * Generates a lexer from the command line. The arguments are the name of a
+   * <code>CompiledDFAMap</code> class with a public no-argument constructor,
+   * the fully qualified name of the class to generate and the file to write
+   * its source to.
+   *
+   * @param args
+   *          The command line arguments
+   * @throws Exception
+   *           If the map cannot be constructed or the source cannot be
+   *           written
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length != 3) {
+      System.err.println("Usage: LexerGenerator map_class generated_class output_file");
+      return;
+    }
+    final CompiledDFAMap DFAs = (CompiledDFAMap) Class.forName(args[0]).getConstructor().newInstance();
+    new LexerGenerator(DFAs).write(args[1], args[0], args[2]);
+  }
+
+  /**
+   * Writes the source of the generated lexer to a file
+   *
+   * @param className
+   *          The fully qualified name of the class to generate
+   * @param source
+   *          A description of where the automata came from, for the header
+   *          comment
+   * @param filename
+   *          The file to write the source to
+   * @throws IOException
+   *           If the file cannot be written
+   */
+  public void write(String className, String source, String filename) throws IOException {
+    Files.write(Paths.get(filename), generate(className, source).getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns the source of the generated lexer
+   *
+   * @param className
+   *          The fully qualified name of the class to generate
+   * @param source
+   *          A description of where the automata came from, for the header
+   *          comment
+   * @return The Java source of the class
+   */
+  public String generate(String className, String source) {
+    final int dot = className.lastIndexOf('.');
+    final String simpleName = className.substring(dot + 1);
+    final StringWriter text = new StringWriter();
+    final PrintWriter out = new PrintWriter(text);
+    final int classCount = automaton.getClassCount();
+    final int stateCount = automaton.getStateCount();
+
+    if (dot != -1) {
+      out.printf("package %s;%n%n", className.substring(0, dot));
+    }
+    out.println("import uk.ac.rhul.csle.tooling.lexing.DisambiguationScheme;");
+    out.println("import uk.ac.rhul.csle.tooling.lexing.PackedTripleSet;");
+    out.println("import uk.ac.rhul.csle.tooling.lexing.ProductLexer;");
+    out.println();
+    out.println("/*******************************************************************************");
+    out.println("*");
+    out.printf("* %s.java%n", simpleName);
+    out.println("*");
+    out.printf("* Generated by %s from %s.%n", LexerGenerator.class.getName(), source);
+    out.println("* Do not edit: run the GenerateLexer target of the Ant build instead.");
+    out.println("*");
+    out.println("*******************************************************************************/");
+    out.println("/**");
+    out.printf(" * A <code>ProductLexer</code> specialised for the tokens of <code>%s</code>,%n", source);
+    out.println(" * with the product automaton of the tokens compiled into static tables.");
+    out.println(" */");
+    out.printf("public class %s extends ProductLexer {%n%n", simpleName);
+
+    out.println("  /**");
+    out.println("   * The tokens, indexed by token number");
+    out.println("   */");
+    out.printf("  public static final String[] TOKENS = %s;%n%n", stringArray(DFAs.getTokens()));
+    out.println("  /**");
+    out.println("   * The layout tokens");
+    out.println("   */");
+    out.printf("  public static final String[] LAYOUT_TOKENS = %s;%n%n", stringArray(DFAs.getLayouttokens()));
+
+    out.println("  /**");
+    out.println("   * The number of character classes");
+    out.println("   */");
+    out.printf("  private static final int CLASS_COUNT = %d;%n%n", classCount);
+
+    // The targets of the transitions, each plus one so that no transition is
+    // encoded as a negative number
+    final StringBuilder encoded = new StringBuilder(stateCount * classCount);
+    for (int state = 0; state < stateCount; state++) {
+      for (int cls = 0; cls < classCount; cls++) {
+        encoded.append((char) (automaton.getTransition(state, cls) + 1));
+      }
+    }
+    out.println("  /**");
+    out.println("   * The target of the transition from each state on each class (-1 if every");
+    out.println("   * token is dead), indexed by <em>state * CLASS_COUNT + class</em>");
+    out.println("   */");
+    out.println("  private static final int[] TRANSITIONS = decode(");
+    for (int start = 0; start < encoded.length(); start += CHUNK_LENGTH) {
+      final String chunk = encoded.substring(start, Math.min(start + CHUNK_LENGTH, encoded.length()));
+      // Each chunk is a single constant, written over several lines
+      final StringBuilder line = new StringBuilder();
+      for (int i = 0; i < chunk.length(); i++) {
+        line.append(escape(chunk.substring(i, i + 1)));
+        if (line.length() >= 96 && i + 1 < chunk.length()) {
+          out.printf("          \"%s\" +%n", line);
+          line.setLength(0);
+        }
+      }
+      out.printf("          \"%s\"%s%n", line, start + CHUNK_LENGTH < encoded.length() ? "," : ");");
+    }
+    out.println();
+
+    out.println("  /**");
+    out.println("   * The tokens accepted in each state, in ascending order");
+    out.println("   */");
+    out.println("  private static final int[][] ACCEPTING_TOKENS = {");
+    for (int state = 0; state < stateCount; state++) {
+      final String tokens = Arrays.toString(automaton.getAcceptingTokens(state));
+      out.printf("          {%s},%n", tokens.substring(1, tokens.length() - 1));
+    }
+    out.println("  };");
+    out.println();
+
+    out.println("  /**");
+    out.println("   * The fingerprint of the product automaton the tables were generated from");
+    out.println("   */");
+    out.printf("  private static final int AUTOMATON_FINGERPRINT = %d;%n%n", automaton.getFingerprint());
+
+    out.println("  /**");
+    out.printf("   * Constructs a new <code>%s</code> with no lexical disambiguation rules%n", simpleName);
+    out.println("   */");
+    out.printf("  public %s() {%n", simpleName);
+    out.println("    this(new DisambiguationScheme.Builder(TOKENS).build());");
+    out.println("  }");
+    out.println();
+    out.println("  /**");
+    out.printf("   * Constructs a new <code>%s</code> with the rules of the given lexical%n", simpleName);
+    out.println("   * disambiguation scheme");
+    out.println("   *");
+    out.println("   * @param scheme");
+    out.println("   *          A lexical disambiguation scheme compiled for <code>TOKENS</code>");
+    out.println("   */");
+    out.printf("  public %s(DisambiguationScheme scheme) {%n", simpleName);
+    out.println("    super(TOKENS.clone(), LAYOUT_TOKENS.clone(), scheme);");
+    out.println("  }");
+    out.println();
+    out.println("  @Override");
+    out.println("  protected int getAutomatonFingerprint() {");
+    out.println("    return AUTOMATON_FINGERPRINT;");
+    out.println("  }");
+    out.println();
+
+    writeClassOf(out);
+    writeMatch(out);
+
+    out.println("  /**");
+    out.println("   * Decodes a table held as characters, each one more than its entry");
+    out.println("   *");
+    out.println("   * @param chunks");
+    out.println("   *          The parts of the encoded table");
+    out.println("   * @return The table");
+    out.println("   */");
+    out.println("  private static int[] decode(String... chunks) {");
+    out.println("    int length = 0;");
+    out.println("    for (final String chunk : chunks) {");
+    out.println("      length += chunk.length();");
+    out.println("    }");
+    out.println("    final int[] table = new int[length];");
+    out.println("    int index = 0;");
+    out.println("    for (final String chunk : chunks) {");
+    out.println("      for (int i = 0; i < chunk.length(); i++) {");
+    out.println("        table[index++] = chunk.charAt(i) - 1;");
+    out.println("      }");
+    out.println("    }");
+    out.println("    return table;");
+    out.println("  }");
+    out.println("}");
+    out.flush();
+    return text.toString();
+  }
+
+  /**
+   * Writes the method classifying each input character, as a
+   * <code>switch</code> over the ASCII characters and the non-ASCII
+   * characters that have a class of their own
+   *
+   * @param out
+   *          The writer to write to
+   */
+  private void writeClassOf(PrintWriter out) {
+    final int classCount = automaton.getClassCount();
+    final List<List<Character>> members = new ArrayList<>();
+    for (int cls = 0; cls < classCount; cls++) {
+      members.add(new ArrayList<>());
+    }
+    for (char c = 0; c < 128; c++) {
+      members.get(automaton.classOf(c)).add(c);
+    }
+    for (final char c : automaton.getOtherCharacters()) {
+      members.get(automaton.classOf(c)).add(c);
+    }
+
+    out.println("  /**");
+    out.println("   * Returns the class of the given character");
+    out.println("   *");
+    out.println("   * @param c");
+    out.println("   *          A character");
+    out.println("   * @return The class of <code>c</code>");
+    out.println("   */");
+    out.println("  private static int classOf(char c) {");
+    out.println("    switch (c) {");
+    for (int cls = 0; cls < classCount; cls++) {
+      if (members.get(cls).isEmpty()) {
+        continue;
+      }
+      final StringBuilder cases = new StringBuilder("    ");
+      for (final char c : members.get(cls)) {
+        final String label = "case " + charLiteral(c) + ":";
+        if (cases.length() + label.length() > 116) {
+          out.println(cases.toString().replaceAll("\\s+$", ""));
+          cases.setLength(0);
+          cases.append("    ");
+        }
+        cases.append(label).append(' ');
+      }
+      out.println(cases.toString().replaceAll("\\s+$", ""));
+      out.printf("      return %d;%n", cls);
+    }
+    out.println("    default:");
+    out.printf("      return Character.isDefined(c) ? %d : %d;%n", automaton.getDefinedClass(),
+            automaton.getUndefinedClass());
+    out.println("    }");
+    out.println("  }");
+    out.println();
+  }
+
+  /**
+   * Writes the method matching the tokens from every reachable position of a
+   * segment, which follows {@link ProductLexer#match(String, int, PackedTripleSet)}
+   *
+   * @param out
+   *          The writer to write to
+   */
+  private static void writeMatch(PrintWriter out) {
+    out.println("  @Override");
+    out.println("  protected String match(String segment, int offset, PackedTripleSet out) {");
+    out.println("    final int length = segment.length();");
+    out.println("    final boolean[] reachable = new boolean[length + 1];");
+    out.println("    reachable[0] = true;");
+    out.println("    int highest = 0;");
+    out.println("    for (int start = 0; start < length; start++) {");
+    out.println("      if (!reachable[start]) {");
+    out.println("        continue;");
+    out.println("      }");
+    out.println("      int state = TRANSITIONS[classOf(segment.charAt(start))];");
+    out.println("      if (state == -1) {");
+    out.println("        continue;");
+    out.println("      }");
+    out.println("      final int left = offset == 0 || start > 0 ? start + offset : start + offset - 1;");
+    out.println("      int i = start;");
+    out.println("      while (state != -1) {");
+    out.println("        final int[] accepted = ACCEPTING_TOKENS[state];");
+    out.println("        if (accepted.length != 0) {");
+    out.println("          for (final int token : accepted) {");
+    out.println("            out.add(token, left, i + 1 + offset);");
+    out.println("          }");
+    out.println("          reachable[i + 1] = true;");
+    out.println("          if (i + 1 > highest) {");
+    out.println("            highest = i + 1;");
+    out.println("          }");
+    out.println("        }");
+    out.println("        i++;");
+    out.println("        state = i < length ? TRANSITIONS[state * CLASS_COUNT + classOf(segment.charAt(i))] : -1;");
+    out.println("      }");
+    out.println("    }");
+    out.println();
+    out.println("    if (highest < length) {");
+    out.println("      out.clear();");
+    out.println("      return String.format(\"Lexical analysis failed at input position %d.%nFailure occurred at:%n%s%n^%n\",");
+    out.println("              highest + offset, segment.substring(highest, highest + 20 > length ? length : highest + 20));");
+    out.println("    }");
+    out.println("    return null;");
+    out.println("  }");
+    out.println();
+  }
+
+  /**
+   * Returns a Java array initialiser holding the given strings
+   *
+   * @param strings
+   *          The strings
+   * @return The initialiser
+   */
+  private static String stringArray(String[] strings) {
+    final StringBuilder sb = new StringBuilder("{");
+    // Allow for the declaration before the initialiser on the first line
+    int lineStart = -40;
+    for (int i = 0; i < strings.length; i++) {
+      final String literal = "\"" + escape(strings[i]) + "\"" + (i + 1 < strings.length ? "," : "");
+      if (sb.length() - lineStart + literal.length() > 100) {
+        sb.append(System.lineSeparator()).append("         ");
+        lineStart = sb.length() - 9;
+      }
+      sb.append(' ').append(literal);
+    }
+    return sb.append(" }").toString();
+  }
+
+  /**
+   * Returns a Java character literal, or a number for characters with no
+   * printable form, for the given character
+   *
+   * @param c
+   *          The character
+   * @return The literal
+   */
+  private static String charLiteral(char c) {
+    if (c == '\'' || c == '\\') {
+      return "'\\" + c + "'";
+    }
+    return c >= 0x20 && c < 0x7f ? "'" + c + "'" : Integer.toString(c);
+  }
+
+  /**
+   * Escapes a string for use in a Java string literal. Control characters are
+   * written as octal escapes rather than Unicode escapes, since the Unicode
+   * escape of a line terminator would end the literal.
+   *
+   * @param s
+   *          The string
+   * @return The escaped string
+   */
+  private static String escape(String s) {
+    final StringBuilder sb = new StringBuilder(s.length());
+    for (int i = 0; i < s.length(); i++) {
+      final char c = s.charAt(i);
+      if (c == '"' || c == '\\') {
+        sb.append('\\').append(c);
+      } else if (c < 0x20) {
+        sb.append(String.format("\\%03o", (int) c));
+      } else if (c < 0x7f) {
+        sb.append(c);
+      } else {
+        sb.append(String.format("\\u%04x", (int) c));
+      }
+    }
+    return sb.toString();
+  }
+}
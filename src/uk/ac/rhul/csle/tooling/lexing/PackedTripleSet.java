@@ -0,0 +1,458 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.math.BigInteger;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import uk.ac.rhul.csle.tooling.lexer.TokenTriple;
+
+/**
+ * A TWE set held as parallel arrays of token numbers and extents rather than
+ * as a set of <code>TokenTriple</code> objects.
+ * <p>
+ * The triples are kept in ascending order of left extent, then right extent,
+ * then token number, which is the order in which {@link ProductLexer} finds
+ * them, so the triples with a given left extent are always contiguous. Subsets
+ * built by {@link PackedTripleSet#retain(boolean[])} keep the same order.
+ * <p>
+ * The set can be used anywhere a <code>Set&lt;TokenTriple&gt;</code> is
+ * expected: its iterator constructs a <code>TokenTriple</code> for each
+ * element as it is reached. It cannot be modified through the
+ * <code>Set</code> interface.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public final class PackedTripleSet extends AbstractSet<TokenTriple> {
+
+  /**
+   * The name of each token number
+   */
+  private final String[] tokenNames;
+
+  /**
+   * The token number of each triple
+   */
+  private int[] tokens;
+
+  /**
+   * The left extent of each triple
+   */
+  private int[] lefts;
+
+  /**
+   * The right extent of each triple
+   */
+  private int[] rights;
+
+  /**
+   * The number of triples in the set
+   */
+  private int size;
+
+  /**
+   * Constructs an empty <code>PackedTripleSet</code>
+   *
+   * @param tokenNames
+   *          The name of each token number
+   */
+  public PackedTripleSet(String[] tokenNames) {
+    this(tokenNames, 16);
+  }
+
+  /**
+   * Constructs an empty <code>PackedTripleSet</code> with room for the given
+   * number of triples
+   *
+   * @param tokenNames
+   *          The name of each token number
+   * @param capacity
+   *          The initial capacity
+   */
+  public PackedTripleSet(String[] tokenNames, int capacity) {
+    this.tokenNames = tokenNames;
+    tokens = new int[Math.max(capacity, 1)];
+    lefts = new int[tokens.length];
+    rights = new int[tokens.length];
+  }
+
+  /**
+   * Adds a triple to the end of the set. The triple must come after every
+   * triple already in the set in ascending order of left extent, right extent
+   * and token number.
+   *
+   * @param token
+   *          The token number
+   * @param left
+   *          The left extent
+   * @param right
+   *          The right extent
+   */
+  public void add(int token, int left, int right) {
+    if (size > 0) {
+      final int last = size - 1;
+      if (left < lefts[last] || left == lefts[last]
+              && (right < rights[last] || right == rights[last] && token <= tokens[last])) {
+        throw new IllegalArgumentException("Triples must be added in ascending order");
+      }
+    }
+    if (size == tokens.length) {
+      final int capacity = size * 2;
+      tokens = Arrays.copyOf(tokens, capacity);
+      lefts = Arrays.copyOf(lefts, capacity);
+      rights = Arrays.copyOf(rights, capacity);
+    }
+    tokens[size] = token;
+    lefts[size] = left;
+    rights[size] = right;
+    size++;
+  }
+
+  /**
+   * Adds every triple of another set to the end of this set. The first triple
+   * of <code>other</code> must come after every triple already in this set, as
+   * for {@link PackedTripleSet#add(int, int, int)}.
+   *
+   * @param other
+   *          A set with the same token numbers
+   */
+  public void append(PackedTripleSet other) {
+    append(other, 0);
+  }
+
+  /**
+   * Adds every triple of another set to the end of this set, adding
+   * <code>shift</code> to both of its extents. The first shifted triple of
+   * <code>other</code> must come after every triple already in this set, as
+   * for {@link PackedTripleSet#add(int, int, int)}.
+   *
+   * @param other
+   *          A set with the same token numbers
+   * @param shift
+   *          The amount to add to the extents of the triples of
+   *          <code>other</code>
+   */
+  public void append(PackedTripleSet other, int shift) {
+    if (other.size == 0) {
+      return;
+    }
+    if (size > 0) {
+      final int last = size - 1;
+      final int left = other.lefts[0] + shift;
+      final int right = other.rights[0] + shift;
+      if (left < lefts[last]
+              || left == lefts[last] && (right < rights[last] || right == rights[last] && other.tokens[0] <= tokens[last])) {
+        throw new IllegalArgumentException("Triples must be added in ascending order");
+      }
+    }
+    if (size + other.size > tokens.length) {
+      final int capacity = Math.max(tokens.length * 2, size + other.size);
+      tokens = Arrays.copyOf(tokens, capacity);
+      lefts = Arrays.copyOf(lefts, capacity);
+      rights = Arrays.copyOf(rights, capacity);
+    }
+    System.arraycopy(other.tokens, 0, tokens, size, other.size);
+    if (shift == 0) {
+      System.arraycopy(other.lefts, 0, lefts, size, other.size);
+      System.arraycopy(other.rights, 0, rights, size, other.size);
+    } else {
+      for (int i = 0; i < other.size; i++) {
+        lefts[size + i] = other.lefts[i] + shift;
+        rights[size + i] = other.rights[i] + shift;
+      }
+    }
+    size += other.size;
+  }
+
+  /**
+   * Removes every triple from the set
+   */
+  @Override
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Returns the token number of the triple at the given index
+   *
+   * @param index
+   *          The index of the triple
+   * @return The token number
+   */
+  public int getToken(int index) {
+    return tokens[index];
+  }
+
+  /**
+   * Returns the left extent of the triple at the given index
+   *
+   * @param index
+   *          The index of the triple
+   * @return The left extent
+   */
+  public int getLeftExtent(int index) {
+    return lefts[index];
+  }
+
+  /**
+   * Returns the right extent of the triple at the given index
+   *
+   * @param index
+   *          The index of the triple
+   * @return The right extent
+   */
+  public int getRightExtent(int index) {
+    return rights[index];
+  }
+
+  /**
+   * Returns the name of the given token number
+   *
+   * @param token
+   *          The token number
+   * @return The name of the token
+   */
+  public String getTokenName(int token) {
+    return tokenNames[token];
+  }
+
+  /**
+   * Returns the names of the token numbers
+   *
+   * @return The name of each token number
+   */
+  public String[] getTokenNames() {
+    return tokenNames;
+  }
+
+  /**
+   * Returns the highest right extent in the set
+   *
+   * @return The highest right extent, or 0 if the set is empty
+   */
+  public int getHighestRightExtent() {
+    int highest = 0;
+    for (int i = 0; i < size; i++) {
+      if (rights[i] > highest) {
+        highest = rights[i];
+      }
+    }
+    return highest;
+  }
+
+  /**
+   * Returns a new set holding the triples whose entries in <code>keep</code>
+   * are true, in the same order
+   *
+   * @param keep
+   *          A flag for each triple in this set
+   * @param count
+   *          The number of flags that are true
+   * @return The subset
+   */
+  public PackedTripleSet retain(boolean[] keep, int count) {
+    final PackedTripleSet subset = new PackedTripleSet(tokenNames, count);
+    for (int i = 0; i < size; i++) {
+      if (keep[i]) {
+        subset.tokens[subset.size] = tokens[i];
+        subset.lefts[subset.size] = lefts[i];
+        subset.rights[subset.size] = rights[i];
+        subset.size++;
+      }
+    }
+    return subset;
+  }
+
+  /**
+   * Returns a new set holding the triples whose entries in <code>keep</code>
+   * are true, in the same order
+   *
+   * @param keep
+   *          A flag for each triple in this set
+   * @return The subset
+   */
+  public PackedTripleSet retain(boolean[] keep) {
+    int count = 0;
+    for (int i = 0; i < size; i++) {
+      if (keep[i]) {
+        count++;
+      }
+    }
+    return retain(keep, count);
+  }
+
+  /**
+   * Marks the triples that can be reached from extent 0 by a path of triples.
+   * Since every triple ends after it starts, a single pass in order of left
+   * extent finds them all. The extents reached are recorded in
+   * <code>reached</code>, one bit per extent. No memory is allocated.
+   *
+   * @param keep
+   *          An array of at least <code>size()</code> elements, which is
+   *          filled with a flag for each triple reached
+   * @param reached
+   *          A bitset of at least <code>getHighestRightExtent() + 1</code>
+   *          bits, which need not be cleared
+   * @return The highest extent reached
+   */
+  public int reachForward(boolean[] keep, long[] reached) {
+    Arrays.fill(reached, 0L);
+    reached[0] = 1L;
+    int highest = 0;
+    for (int i = 0; i < size; i++) {
+      final int left = lefts[i];
+      keep[i] = left >= 0 && (reached[left >>> 6] & 1L << left) != 0;
+      if (keep[i]) {
+        final int right = rights[i];
+        reached[right >>> 6] |= 1L << right;
+        if (right > highest) {
+          highest = right;
+        }
+      }
+    }
+    return highest;
+  }
+
+  /**
+   * Of the triples marked in <code>keep</code>, leaves marked only those from
+   * which the given extent can be reached by a path of marked triples, in a
+   * single pass in reverse order of left extent. No memory is allocated.
+   *
+   * @param endIndex
+   *          The extent to reach
+   * @param keep
+   *          A flag for each triple, as filled by
+   *          {@link PackedTripleSet#reachForward(boolean[], long[])}
+   * @param reached
+   *          A bitset of at least
+   *          <code>max(getHighestRightExtent(), endIndex) + 1</code> bits,
+   *          which need not be cleared
+   * @return The number of triples left marked
+   */
+  public int reachBackward(int endIndex, boolean[] keep, long[] reached) {
+    Arrays.fill(reached, 0L);
+    reached[endIndex >>> 6] = 1L << endIndex;
+    int kept = 0;
+    for (int i = size - 1; i >= 0; i--) {
+      final int right = rights[i];
+      if (keep[i] && (reached[right >>> 6] & 1L << right) != 0) {
+        final int left = lefts[i];
+        reached[left >>> 6] |= 1L << left;
+        kept++;
+      } else {
+        keep[i] = false;
+      }
+    }
+    return kept;
+  }
+
+  /**
+   * Returns the number of tokenisations embedded in the set, that is the
+   * number of paths of triples from extent 0 to the given extent, as
+   * <code>MultiLexer.getTokenisationCount</code> does. Since every triple ends
+   * after it starts, the number of paths to each extent is complete by the
+   * time the triples leaving it are reached in order of left extent.
+   *
+   * @param endIndex
+   *          The extent of the end of the input
+   * @return The number of paths from extent 0 to <code>endIndex</code>
+   */
+  public BigInteger countPaths(int endIndex) {
+    final BigInteger[] paths = new BigInteger[Math.max(getHighestRightExtent(), endIndex) + 1];
+    Arrays.fill(paths, BigInteger.ZERO);
+    paths[0] = BigInteger.ONE;
+    for (int i = 0; i < size; i++) {
+      if (lefts[i] >= 0) {
+        paths[rights[i]] = paths[rights[i]].add(paths[lefts[i]]);
+      }
+    }
+    return paths[endIndex];
+  }
+
+  /**
+   * Places the indices of the triples in <code>order</code> in ascending order
+   * of right extent, and records in <code>starts</code> where each group ends,
+   * so that the triples with right extent <em>r</em> are at positions
+   * <code>starts[r - 1]</code> (or 0 if <em>r</em> is 0) to
+   * <code>starts[r] - 1</code> of <code>order</code>. No memory is allocated.
+   *
+   * @param starts
+   *          An array of at least <code>getHighestRightExtent() + 1</code>
+   *          elements
+   * @param order
+   *          An array of at least <code>size()</code> elements
+   * @return The highest right extent in the set
+   */
+  public int indexByRightExtent(int[] starts, int[] order) {
+    final int highest = getHighestRightExtent();
+    Arrays.fill(starts, 0, highest + 1, 0);
+    for (int i = 0; i < size; i++) {
+      starts[rights[i]]++;
+    }
+    int total = 0;
+    for (int r = 0; r <= highest; r++) {
+      final int count = starts[r];
+      starts[r] = total;
+      total += count;
+    }
+    for (int i = 0; i < size; i++) {
+      order[starts[rights[i]]++] = i;
+    }
+    return highest;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    if (!(o instanceof TokenTriple)) {
+      return false;
+    }
+    final TokenTriple triple = (TokenTriple) o;
+    final int left = triple.getLeftExtent();
+    // Find the first triple with the same left extent
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      final int mid = low + high >>> 1;
+      if (lefts[mid] < left) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    for (int i = low; i < size && lefts[i] == left; i++) {
+      if (rights[i] == triple.getRightExtent() && tokenNames[tokens[i]].equals(triple.getTokenName())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public Iterator<TokenTriple> iterator() {
+    return new Iterator<TokenTriple>() {
+      private int next = 0;
+
+      @Override
+      public boolean hasNext() {
+        return next < size;
+      }
+
+      @Override
+      public TokenTriple next() {
+        if (next >= size) {
+          throw new NoSuchElementException();
+        }
+        final TokenTriple triple = new TokenTriple(tokenNames[tokens[next]], lefts[next], rights[next]);
+        next++;
+        return triple;
+      }
+    };
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+}
@@ -0,0 +1,428 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The product of a list of compiled automata, one per token, which runs all of
+ * them at once.
+ * <p>
+ * A state of the product is the tuple of the current states of the
+ * components, where a component that has no transition on some character stays
+ * dead for the rest of the run. Each product state is annotated with the
+ * tokens whose components are in an accepting state, so a single run from a
+ * start position finds every token that matches at that position, together
+ * with every end position at which it matches. Only the states reachable from
+ * the start state are constructed.
+ * <p>
+ * Characters are compressed into classes in the same way as in
+ * {@link CompiledDFA}: two characters are in the same class if they are in the
+ * same class of every component.
+ * <p>
+ * The first transition of every run is taken from a dispatch table indexed by
+ * the first character, so positions at which no token can start are rejected
+ * by a single lookup.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public final class ProductAutomaton {
+
+  /**
+   * The number of character classes
+   */
+  private final int classCount;
+
+  /**
+   * The target of the transition from each state on each class (-1 if every
+   * component is dead), indexed by <em>state * classCount + class</em>
+   */
+  private final int[] transitions;
+
+  /**
+   * The tokens accepted in each state, in ascending order
+   */
+  private final int[][] acceptingTokens;
+
+  /**
+   * The state reached from the start state on each ASCII character (-1 if no
+   * token can start with the character)
+   */
+  private final int[] asciiStartStates;
+
+  /**
+   * The class of each ASCII character
+   */
+  private final int[] asciiClasses;
+
+  /**
+   * The non-ASCII characters named by any component, in ascending order
+   */
+  private final char[] otherCharacters;
+
+  /**
+   * The class of each character in <code>otherCharacters</code>
+   */
+  private final int[] otherClasses;
+
+  /**
+   * The class of every other defined character
+   */
+  private final int definedClass;
+
+  /**
+   * The class of every other undefined character
+   */
+  private final int undefinedClass;
+
+  /**
+   * The fingerprint of the product (0 if it has not been computed yet)
+   */
+  private int fingerprint;
+
+  /**
+   * Constructs the product of the given automata. Token <em>i</em> is
+   * recognised by <code>components[i]</code>.
+   *
+   * @param components
+   *          The automaton of each token
+   */
+  public ProductAutomaton(CompiledDFA[] components) {
+    this(components, singleTokens(components));
+  }
+
+  /**
+   * Constructs the product of the given automata, where a component may
+   * recognise more than one token. The tokens accepted by component
+   * <em>i</em> in state <em>s</em> are <code>tokens[i][s]</code>.
+   *
+   * @param components
+   *          The component automata
+   * @param tokens
+   *          The tokens accepted in each state of each component
+   */
+  public ProductAutomaton(CompiledDFA[] components, int[][][] tokens) {
+    // Find a representative of each combination of component classes
+    final TreeSet<Character> named = new TreeSet<>();
+    for (final CompiledDFA component : components) {
+      for (final char c : component.getNamedNonASCIICharacters()) {
+        named.add(c);
+      }
+    }
+    final List<Character> representatives = new ArrayList<>();
+    final Map<List<Integer>, Integer> classes = new HashMap<>();
+    asciiClasses = new int[128];
+    for (char c = 0; c < 128; c++) {
+      asciiClasses[c] = classOf(c, components, classes, representatives);
+    }
+    otherCharacters = new char[named.size()];
+    otherClasses = new int[named.size()];
+    int index = 0;
+    for (final char c : named) {
+      otherCharacters[index] = c;
+      otherClasses[index++] = classOf(c, components, classes, representatives);
+    }
+    definedClass = classOf(unnamedCharacter(named, true), components, classes, representatives);
+    undefinedClass = classOf(unnamedCharacter(named, false), components, classes, representatives);
+    classCount = representatives.size();
+
+    // Construct the reachable states of the product
+    final Map<List<Integer>, Integer> stateNumbers = new HashMap<>();
+    final List<int[]> states = new ArrayList<>();
+    final Deque<Integer> pending = new ArrayDeque<>();
+    final int[] start = new int[components.length];
+    stateNumbers.put(key(start), 0);
+    states.add(start);
+    pending.add(0);
+    final List<int[]> rows = new ArrayList<>();
+    while (!pending.isEmpty()) {
+      final int state = pending.poll();
+      final int[] tuple = states.get(state);
+      final int[] row = new int[classCount];
+      for (int cls = 0; cls < classCount; cls++) {
+        final char c = representatives.get(cls);
+        final int[] next = new int[components.length];
+        boolean alive = false;
+        for (int i = 0; i < components.length; i++) {
+          next[i] = tuple[i] == -1 ? -1 : components[i].next(tuple[i], c);
+          alive |= next[i] != -1;
+        }
+        if (!alive) {
+          row[cls] = -1;
+          continue;
+        }
+        final List<Integer> nextKey = key(next);
+        Integer number = stateNumbers.get(nextKey);
+        if (number == null) {
+          number = states.size();
+          stateNumbers.put(nextKey, number);
+          states.add(next);
+          pending.add(number);
+        }
+        row[cls] = number;
+      }
+      while (rows.size() <= state) {
+        rows.add(null);
+      }
+      rows.set(state, row);
+    }
+
+    transitions = new int[states.size() * classCount];
+    acceptingTokens = new int[states.size()][];
+    for (int state = 0; state < states.size(); state++) {
+      System.arraycopy(rows.get(state), 0, transitions, state * classCount, classCount);
+      final int[] tuple = states.get(state);
+      final TreeSet<Integer> accepted = new TreeSet<>();
+      for (int i = 0; i < components.length; i++) {
+        if (tuple[i] != -1) {
+          for (final int token : tokens[i][tuple[i]]) {
+            accepted.add(token);
+          }
+        }
+      }
+      acceptingTokens[state] = accepted.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // Build the dispatch table for the first character of a run
+    asciiStartStates = new int[128];
+    for (char c = 0; c < 128; c++) {
+      asciiStartStates[c] = transitions[asciiClasses[c]];
+    }
+  }
+
+  /**
+   * Returns the class of the given character
+   *
+   * @param c
+   *          A character
+   * @return The class of <code>c</code>
+   */
+  public int classOf(char c) {
+    if (c < 128) {
+      return asciiClasses[c];
+    }
+    final int index = Arrays.binarySearch(otherCharacters, c);
+    if (index >= 0) {
+      return otherClasses[index];
+    }
+    return Character.isDefined(c) ? definedClass : undefinedClass;
+  }
+
+  /**
+   * Returns the start state, in which every component is in its start state
+   *
+   * @return The start state
+   */
+  public int getStartState() {
+    return 0;
+  }
+
+  /**
+   * Returns the state reached from the given state on the given character
+   *
+   * @param state
+   *          The current state
+   * @param c
+   *          The next input character
+   * @return The next state, or -1 if every component is dead
+   */
+  public int next(int state, char c) {
+    return transitions[state * classCount + classOf(c)];
+  }
+
+  /**
+   * Returns the state reached from the start state on the given character,
+   * which is the same as <code>next(getStartState(), c)</code>
+   *
+   * @param c
+   *          The first input character
+   * @return The next state, or -1 if no token can start with <code>c</code>
+   */
+  public int startOn(char c) {
+    return c < 128 ? asciiStartStates[c] : transitions[classOf(c)];
+  }
+
+  /**
+   * Returns the tokens whose components are in an accepting state in the given
+   * state
+   *
+   * @param state
+   *          A state of the product
+   * @return The accepted tokens in ascending order (the array must not be
+   *         modified)
+   */
+  public int[] getAcceptingTokens(int state) {
+    return acceptingTokens[state];
+  }
+
+  /**
+   * Returns the target of the transition from the given state on the given
+   * character class
+   *
+   * @param state
+   *          A state of the product
+   * @param cls
+   *          A character class
+   * @return The next state, or -1 if every component is dead
+   */
+  int getTransition(int state, int cls) {
+    return transitions[state * classCount + cls];
+  }
+
+  /**
+   * Returns the non-ASCII characters that have a class of their own
+   *
+   * @return The characters, in ascending order
+   */
+  char[] getOtherCharacters() {
+    return otherCharacters.clone();
+  }
+
+  /**
+   * Returns the class of every non-ASCII defined character that is not one of
+   * {@link ProductAutomaton#getOtherCharacters()}
+   *
+   * @return The class of other defined characters
+   */
+  int getDefinedClass() {
+    return definedClass;
+  }
+
+  /**
+   * Returns the class of every non-ASCII undefined character that is not one
+   * of {@link ProductAutomaton#getOtherCharacters()}
+   *
+   * @return The class of other undefined characters
+   */
+  int getUndefinedClass() {
+    return undefinedClass;
+  }
+
+  /**
+   * Returns the number of states of the product
+   *
+   * @return The number of states
+   */
+  public int getStateCount() {
+    return acceptingTokens.length;
+  }
+
+  /**
+   * Returns the number of character classes
+   *
+   * @return The number of character classes
+   */
+  public int getClassCount() {
+    return classCount;
+  }
+
+  /**
+   * Returns a hash of the character classes, transitions and accepting tokens
+   * of the product. Products constructed from the same components in the same
+   * order have the same fingerprint, so a result computed with one product
+   * can be recognised as valid for another.
+   *
+   * @return The fingerprint
+   */
+  public int getFingerprint() {
+    int hash = fingerprint;
+    if (hash == 0) {
+      hash = Arrays.hashCode(asciiClasses);
+      hash = 31 * hash + Arrays.hashCode(otherCharacters);
+      hash = 31 * hash + Arrays.hashCode(otherClasses);
+      hash = 31 * hash + definedClass;
+      hash = 31 * hash + undefinedClass;
+      hash = 31 * hash + Arrays.hashCode(transitions);
+      hash = 31 * hash + Arrays.deepHashCode(acceptingTokens);
+      fingerprint = hash;
+    }
+    return hash;
+  }
+
+  /**
+   * Labels the accepting states of each component with the index of the
+   * component
+   *
+   * @param components
+   *          The component automata
+   * @return The tokens accepted in each state of each component
+   */
+  private static int[][][] singleTokens(CompiledDFA[] components) {
+    final int[][][] tokens = new int[components.length][][];
+    for (int i = 0; i < components.length; i++) {
+      tokens[i] = new int[components[i].getStateCount()][];
+      for (int state = 0; state < tokens[i].length; state++) {
+        tokens[i][state] = components[i].isAccepting(state) ? new int[] { i } : new int[0];
+      }
+    }
+    return tokens;
+  }
+
+  /**
+   * Returns the product class of the given character, adding a new class if
+   * no character seen so far is in the same class of every component
+   *
+   * @param c
+   *          The character
+   * @param components
+   *          The component automata
+   * @param classes
+   *          The classes found so far, keyed by their component classes
+   * @param representatives
+   *          A character in each class found so far
+   * @return The class of <code>c</code>
+   */
+  private static int classOf(char c, CompiledDFA[] components, Map<List<Integer>, Integer> classes,
+          List<Character> representatives) {
+    final List<Integer> key = new ArrayList<>(components.length);
+    for (final CompiledDFA component : components) {
+      key.add(component.classOf(c));
+    }
+    Integer cls = classes.get(key);
+    if (cls == null) {
+      cls = representatives.size();
+      classes.put(key, cls);
+      representatives.add(c);
+    }
+    return cls;
+  }
+
+  /**
+   * Returns a non-ASCII character that is not named by any component
+   *
+   * @param named
+   *          The non-ASCII characters named by the components
+   * @param defined
+   *          True for a defined character, false for an undefined one
+   * @return A suitable character
+   */
+  private static char unnamedCharacter(TreeSet<Character> named, boolean defined) {
+    for (char c = 128; c < Character.MAX_VALUE; c++) {
+      if (Character.isDefined(c) == defined && !named.contains(c)) {
+        return c;
+      }
+    }
+    throw new IllegalStateException("Every character is named by the automata");
+  }
+
+  /**
+   * Returns a key for a tuple of component states
+   *
+   * @param tuple
+   *          The component states
+   * @return A list holding the same states
+   */
+  private static List<Integer> key(int[] tuple) {
+    final List<Integer> key = new ArrayList<>(tuple.length);
+    for (final int state : tuple) {
+      key.add(state);
+    }
+    return key;
+  }
+}
@@ -0,0 +1,829 @@
+package uk.ac.rhul.csle.tooling.lexing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RecursiveAction;
+
+import uk.ac.rhul.csle.tooling.lexer.MultiLexer;
+import uk.ac.rhul.csle.tooling.lexer.TokenTriple;
+import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+
+/**
+ * A <code>MultiLexer</code> that constructs the same TWE set as a
+ * <code>RegularLexer</code> (in CHARACTER mode) for the same
+ * <code>CompiledDFAMap</code>, but runs the automata of all of the tokens at
+ * once.
+ * <p>
+ * A <code>RegularLexer</code> runs the automaton of each token, and matches
+ * each keyword string, separately from every start position that can be
+ * reached. Here the compiled automata of the tokens, together with a
+ * {@link KeywordTrie} of the keyword strings, are combined into a single
+ * {@link ProductAutomaton} when the lexer is constructed. A single run of the
+ * product from each reachable start position then finds the triples of every
+ * token that matches from that position.
+ * <p>
+ * The TWE set is held as a {@link PackedTripleSet}. The lexical
+ * disambiguation rules are held (as well as being passed on to the
+ * <code>MultiLexer</code>) as a {@link DisambiguationScheme}, so that pruning
+ * and lexical disambiguation of the lexer's own TWE sets run over the packed
+ * arrays without constructing a <code>TokenTriple</code> for each triple. A
+ * scheme compiled in advance can be given to the lexer when it is constructed,
+ * and shared with other lexers for the same tokens. Any other set is pruned
+ * and disambiguated by the <code>MultiLexer</code> as before.
+ * <p>
+ * The segments of a segmented input are independent, so in parallel mode (see
+ * {@link ProductLexer#setParallel(boolean)}) the segments of a long input are
+ * matched in blocks by fork/join tasks, each into its own buffer. The buffers
+ * are joined in order of left extent, so the TWE set and the messages
+ * displayed are the same as when the segments are matched one after another.
+ * <p>
+ * A lexer specialised for a fixed set of tokens, whose automaton is compiled
+ * into Java code at build time, can be generated from a
+ * <code>CompiledDFAMap</code> by {@link LexerGenerator}.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class ProductLexer extends MultiLexer implements DisambiguationRules {
+
+  /**
+   * The automaton recognising every token
+   */
+  private final ProductAutomaton automaton;
+
+  /**
+   * The tokens, indexed as in <code>automaton</code>
+   */
+  private final String[] tokens;
+
+  /**
+   * The compiled lexical disambiguation scheme, or <code>null</code> if rules
+   * have been added since it was last compiled
+   */
+  private DisambiguationScheme scheme;
+
+  /**
+   * The rules of the lexical disambiguation scheme, or <code>null</code> if no
+   * rules have been added since the lexer was given a compiled scheme
+   */
+  private DisambiguationScheme.Builder rules;
+
+  /**
+   * The TWE set being constructed (the same set as <code>triples</code>)
+   */
+  private PackedTripleSet packed;
+
+  /**
+   * True if the segments of long inputs are matched in parallel
+   */
+  private boolean parallel;
+
+  /**
+   * The number of characters of input below which a range of segments is
+   * matched by a single task in parallel mode
+   */
+  private static final int PARALLEL_BLOCK_LENGTH = 16384;
+
+  /**
+   * Working storage for pruning and lexical disambiguation: a flag for each
+   * triple
+   */
+  private boolean[] keep = new boolean[0];
+
+  /**
+   * Working storage for pruning: a bit for each extent reached
+   */
+  private long[] reached = new long[0];
+
+  /**
+   * Working storage for lexical disambiguation: the end of each group of
+   * triples with a common right extent
+   */
+  private int[] starts = new int[0];
+
+  /**
+   * Working storage for lexical disambiguation: the triples in order of right
+   * extent
+   */
+  private int[] order = new int[0];
+
+  /**
+   * Constructs a new <code>ProductLexer</code> for the tokens of the given map,
+   * with CHARACTER mode used as the mode for determining extents
+   *
+   * @param DFAs
+   *          The map holding the automaton of each token
+   */
+  public ProductLexer(CompiledDFAMap DFAs) {
+    this(DFAs, new DisambiguationScheme.Builder(DFAs.getTokens()).build());
+  }
+
+  /**
+   * Constructs a new <code>ProductLexer</code> for the tokens of the given map,
+   * with CHARACTER mode used as the mode for determining extents and the rules
+   * of the given lexical disambiguation scheme
+   *
+   * @param DFAs
+   *          The map holding the automaton of each token
+   * @param scheme
+   *          A lexical disambiguation scheme compiled for the tokens of
+   *          <code>DFAs</code>, in the same order
+   */
+  public ProductLexer(CompiledDFAMap DFAs, DisambiguationScheme scheme) {
+    this(DFAs.getTokens(), DFAs.getLayouttokens(), productOf(DFAs), scheme);
+  }
+
+  /**
+   * Constructs a new <code>ProductLexer</code> for the given tokens that
+   * matches them without an automaton. A subclass constructed in this way must
+   * override {@link ProductLexer#match(String, int, PackedTripleSet)}.
+   *
+   * @param tokens
+   *          The tokens, indexed by token number
+   * @param layoutTokens
+   *          The layout tokens
+   * @param scheme
+   *          A lexical disambiguation scheme compiled for <code>tokens</code>,
+   *          in the same order
+   */
+  protected ProductLexer(String[] tokens, String[] layoutTokens, DisambiguationScheme scheme) {
+    this(tokens, layoutTokens, null, scheme);
+  }
+
+  /**
+   * Constructs a new <code>ProductLexer</code> for the given tokens and
+   * automaton
+   *
+   * @param tokens
+   *          The tokens, indexed by token number
+   * @param layoutTokens
+   *          The layout tokens
+   * @param automaton
+   *          The automaton recognising every token, or <code>null</code>
+   * @param scheme
+   *          A lexical disambiguation scheme compiled for <code>tokens</code>,
+   *          in the same order
+   */
+  private ProductLexer(String[] tokens, String[] layoutTokens, ProductAutomaton automaton,
+          DisambiguationScheme scheme) {
+    super(tokens, layoutTokens);
+    this.tokens = tokens;
+    this.automaton = automaton;
+    if (!scheme.isFor(tokens)) {
+      throw new IllegalArgumentException("The lexical disambiguation scheme is not compiled for the tokens of the lexer");
+    }
+    registerRules(scheme);
+    this.scheme = scheme;
+    packed = new PackedTripleSet(tokens);
+    triples = packed;
+  }
+
+  /**
+   * Constructs the product of the automata of the tokens of the given map,
+   * together with a {@link KeywordTrie} of its keyword strings, in which token
+   * <em>i</em> of the map is token <em>i</em> of the product
+   *
+   * @param DFAs
+   *          The map holding the automaton of each token
+   * @return The product automaton
+   */
+  public static ProductAutomaton productOf(CompiledDFAMap DFAs) {
+    final String[] tokens = DFAs.getTokens();
+    final List<CompiledDFA> components = new ArrayList<>();
+    final List<int[][]> componentTokens = new ArrayList<>();
+    final List<Integer> keywords = new ArrayList<>();
+    for (int i = 0; i < tokens.length; i++) {
+      if (DFAs.isKeyword(tokens[i])) {
+        keywords.add(i);
+        continue;
+      }
+      final CompiledDFA component = DFAs.getCompiledDFA(tokens[i]);
+      if (component == null) {
+        throw new IllegalArgumentException("The automaton for token " + tokens[i] + " was not compiled");
+      }
+      final int[][] accepted = new int[component.getStateCount()][];
+      for (int state = 0; state < accepted.length; state++) {
+        accepted[state] = component.isAccepting(state) ? new int[] { i } : new int[0];
+      }
+      components.add(component);
+      componentTokens.add(accepted);
+    }
+
+    // All of the keywords are recognised by a single component
+    final String[] strings = new String[keywords.size()];
+    for (int k = 0; k < strings.length; k++) {
+      strings[k] = DFAs.getKeywordString(tokens[keywords.get(k)]);
+    }
+    final KeywordTrie trie = new KeywordTrie(strings);
+    final int[][] accepted = new int[trie.size()][];
+    for (int state = 0; state < accepted.length; state++) {
+      accepted[state] = Arrays.stream(trie.getKeywords(state)).map(keywords::get).toArray();
+    }
+    components.add(trie.getAutomaton());
+    componentTokens.add(accepted);
+
+    return new ProductAutomaton(components.toArray(new CompiledDFA[0]), componentTokens.toArray(new int[0][][]));
+  }
+
+  /**
+   * Returns the product automaton used by this lexer
+   *
+   * @return The product automaton, or <code>null</code> if the tokens are
+   *         matched by a subclass without one
+   */
+  public ProductAutomaton getAutomaton() {
+    return automaton;
+  }
+
+  /**
+   * Returns a hash of everything that determines the TWE sets constructed by
+   * this lexer and the result of disambiguating them: the tokens and layout
+   * tokens, the automaton recognising the tokens (see
+   * {@link ProductLexer#getAutomatonFingerprint()}) and the compiled lexical
+   * disambiguation scheme
+   *
+   * @return The fingerprint
+   */
+  public int getFingerprint() {
+    int fingerprint = Arrays.hashCode(tokens);
+    fingerprint = 31 * fingerprint + Arrays.hashCode(getLayoutTokens());
+    fingerprint = 31 * fingerprint + getAutomatonFingerprint();
+    fingerprint = 31 * fingerprint + getDisambiguationScheme().getFingerprint();
+    return fingerprint;
+  }
+
+  /**
+   * Returns the fingerprint of the automaton recognising the tokens (see
+   * {@link ProductAutomaton#getFingerprint()}). A subclass that matches the
+   * tokens without an automaton must override this method to return the
+   * fingerprint of the automaton its matcher was compiled from.
+   *
+   * @return The fingerprint of the automaton, or 0 if there is none
+   */
+  protected int getAutomatonFingerprint() {
+    return automaton == null ? 0 : automaton.getFingerprint();
+  }
+
+  /**
+   * Returns the tokens of this lexer, indexed by token number
+   *
+   * @return The name of each token number (the array must not be modified)
+   */
+  String[] getTokenNames() {
+    return tokens;
+  }
+
+  /**
+   * Sets whether the segments of an input are matched in parallel by
+   * {@link ProductLexer#lexSegmentedWithoutSideEffects(String, String)}.
+   * Inputs shorter than a few blocks of segments, and every input when only
+   * one processor is available, are always matched in a single thread. The
+   * tasks run in the fork/join pool of the calling thread,
+   * or the common pool if the caller is not a fork/join worker.
+   *
+   * @param parallel
+   *          True to match segments in parallel, false to match them one after
+   *          another
+   */
+  public void setParallel(boolean parallel) {
+    this.parallel = parallel;
+  }
+
+  /**
+   * Returns the lexical disambiguation scheme of this lexer, compiling the
+   * rules added since it was last compiled
+   *
+   * @return The compiled lexical disambiguation scheme
+   */
+  public DisambiguationScheme getDisambiguationScheme() {
+    if (scheme == null) {
+      scheme = rules.build();
+    }
+    return scheme;
+  }
+
+  @Override
+  public void lex(String filename, String input) throws InvalidParseException {
+    lex(filename, input, false);
+  }
+
+  @Override
+  public int lex(String filename, String input, boolean statisticsRun) throws InvalidParseException {
+    lexWithoutSideEffects(filename, input);
+    return lexPostProcess(filename, statisticsRun);
+  }
+
+  @Override
+  public void lexSegmented(String filename, String input) throws InvalidParseException {
+    lexSegmented(filename, input, false);
+  }
+
+  @Override
+  public int lexSegmented(String filename, String input, boolean statisticsRun) throws InvalidParseException {
+    if (input.contains("\n\n")) {
+      System.err.println("WARNING: String contains a blank line. Possibly not initially processed?");
+    }
+    lexSegmentedWithoutSideEffects(filename, input);
+    return lexPostProcess(filename, statisticsRun);
+  }
+
+  @Override
+  public void lexSegmentedWithoutSideEffects(String filename, String input) {
+    if (input.length() == 0) {
+      System.err.println("WARNING: String is empty.");
+    }
+    setInput(input);
+    final String[] segments = input.split("\n");
+    setInputLength(input.length() + 1);
+    if (parallel && input.length() >= 2 * PARALLEL_BLOCK_LENGTH && Runtime.getRuntime().availableProcessors() > 1) {
+      matchInParallel(segments);
+      return;
+    }
+    int leftOffset = 0;
+    for (final String segment : segments) {
+      final String failure = match(segment, leftOffset, packed);
+      if (failure != null) {
+        System.err.print(failure);
+      }
+      leftOffset += segment.length() + 1;
+    }
+  }
+
+  @Override
+  public void lexWithoutSideEffects(String filename, String input) {
+    setInput(input);
+    setInputLength(input.length() + 1);
+    final String failure = match(input, 0, packed);
+    if (failure != null) {
+      System.err.print(failure);
+    }
+  }
+
+  /**
+   * Prunes and disambiguates the TWE set, rejecting the input if no triples
+   * remain
+   *
+   * @param filename
+   *          The name of the input
+   * @param statisticsRun
+   *          If true, the number of pruned triples is returned
+   * @return The number of pruned triples if <code>statisticsRun</code> is true,
+   *         otherwise 0
+   * @throws InvalidParseException
+   *           If the input is rejected by the lexer
+   */
+  private int lexPostProcess(String filename, boolean statisticsRun) throws InvalidParseException {
+    if (triples.isEmpty() && getInput().length() != 0) {
+      System.err.printf("String %s rejected by lexer%n", filename);
+      throw new InvalidParseException();
+    }
+    final int size = triples.size();
+    final Set<TokenTriple> pruned = prune(triples);
+    if (pruned.isEmpty() && getInput().length() != 0) {
+      System.err.printf("String %s rejected by lexer%n", filename);
+      throw new InvalidParseException();
+    }
+    triples = pruned;
+    disambiguated = disambiguate(triples, true);
+    return statisticsRun ? size - pruned.size() : 0;
+  }
+
+  /**
+   * Adds the triples of every token matched from every position reachable from
+   * the start of the given segment to a TWE set. Since a token never ends
+   * before it starts, the start positions can be visited from left to right,
+   * each one being reachable only if some earlier token ends there. If the
+   * segment cannot be tokenised then the TWE set is cleared.
+   * <p>
+   * A subclass may match the tokens by other means (see
+   * {@link LexerGenerator}), provided that it adds the same triples in the
+   * same order and returns the same message.
+   *
+   * @param segment
+   *          The segment of the input to match
+   * @param offset
+   *          The index of the segment in the whole input
+   * @param out
+   *          The TWE set to add the triples to
+   * @return The message describing the failure if the segment cannot be
+   *         tokenised, otherwise <code>null</code>
+   */
+  protected String match(String segment, int offset, PackedTripleSet out) {
+    final int length = segment.length();
+    final boolean[] reachable = new boolean[length + 1];
+    reachable[0] = true;
+    int highest = 0;
+    for (int start = 0; start < length; start++) {
+      if (!reachable[start]) {
+        continue;
+      }
+      // The first character selects the state of the tokens that can start
+      // with it, so a position at which no token starts costs a single lookup
+      int state = automaton.startOn(segment.charAt(start));
+      if (state == -1) {
+        continue;
+      }
+      final int left = offset == 0 || start > 0 ? start + offset : start + offset - 1;
+      int i = start;
+      while (state != -1) {
+        final int[] accepted = automaton.getAcceptingTokens(state);
+        if (accepted.length != 0) {
+          for (final int token : accepted) {
+            out.add(token, left, i + 1 + offset);
+          }
+          reachable[i + 1] = true;
+          if (i + 1 > highest) {
+            highest = i + 1;
+          }
+        }
+        i++;
+        state = i < length ? automaton.next(state, segment.charAt(i)) : -1;
+      }
+    }
+
+    if (highest < length) {
+      out.clear();
+      return String.format("Lexical analysis failed at input position %d.%nFailure occurred at:%n%s%n^%n",
+              highest + offset, segment.substring(highest, highest + 20 > length ? length : highest + 20));
+    }
+    return null;
+  }
+
+  /**
+   * Matches the segments of an input in blocks of about
+   * <code>PARALLEL_BLOCK_LENGTH</code> characters, each block by a separate
+   * fork/join task into its own TWE set, and then joins the sets of the blocks
+   * into the TWE set of the lexer in order. The failure messages of the blocks
+   * are displayed in order, and as when matching the segments one after
+   * another, a failed segment discards the triples of every segment before
+   * it.
+   *
+   * @param segments
+   *          The segments of the input
+   */
+  private void matchInParallel(String[] segments) {
+    // Divide the segments into blocks; block b holds segments
+    // blockStarts[b] to blockStarts[b + 1] - 1
+    final int[] offsets = new int[segments.length + 1];
+    final List<Integer> starts = new ArrayList<>();
+    starts.add(0);
+    for (int i = 0; i < segments.length; i++) {
+      offsets[i + 1] = offsets[i] + segments[i].length() + 1;
+      if (offsets[i + 1] - offsets[starts.get(starts.size() - 1)] >= PARALLEL_BLOCK_LENGTH) {
+        starts.add(i + 1);
+      }
+    }
+    if (starts.get(starts.size() - 1) != segments.length) {
+      starts.add(segments.length);
+    }
+    final int[] blockStarts = starts.stream().mapToInt(Integer::intValue).toArray();
+    final int blocks = blockStarts.length - 1;
+    final PackedTripleSet[] blockTriples = new PackedTripleSet[blocks];
+    final String[] blockFailures = new String[blocks];
+
+    new SegmentTask(segments, offsets, blockStarts, blockTriples, blockFailures, 0, blocks).invoke();
+
+    int first = 0;
+    for (int b = 0; b < blocks; b++) {
+      if (blockFailures[b] != null) {
+        System.err.print(blockFailures[b]);
+        first = b;
+        packed.clear();
+      }
+    }
+    for (int b = first; b < blocks; b++) {
+      packed.append(blockTriples[b]);
+    }
+  }
+
+  /**
+   * A task that matches the blocks of segments in the range
+   * <code>[from, to)</code>, splitting the range in half until a single block
+   * remains.
+   */
+  private class SegmentTask extends RecursiveAction {
+
+    private static final long serialVersionUID = -2766185473618204215L;
+
+    /**
+     * The segments of the input
+     */
+    private final String[] segments;
+
+    /**
+     * The index in the input of each segment
+     */
+    private final int[] offsets;
+
+    /**
+     * The first segment of each block, followed by the number of segments
+     */
+    private final int[] blockStarts;
+
+    /**
+     * The TWE set of each block
+     */
+    private final PackedTripleSet[] blockTriples;
+
+    /**
+     * The failure messages of each block, or <code>null</code> if every
+     * segment of the block was tokenised
+     */
+    private final String[] blockFailures;
+
+    /**
+     * The index of the first block in the range
+     */
+    private final int from;
+
+    /**
+     * The index after the last block in the range
+     */
+    private final int to;
+
+    /**
+     * Constructs a task for the blocks in the range <code>[from, to)</code>
+     *
+     * @param segments
+     *          The segments of the input
+     * @param offsets
+     *          The index in the input of each segment
+     * @param blockStarts
+     *          The first segment of each block, followed by the number of
+     *          segments
+     * @param blockTriples
+     *          The array to store the TWE set of each block in
+     * @param blockFailures
+     *          The array to store the failure messages of each block in
+     * @param from
+     *          The index of the first block in the range
+     * @param to
+     *          The index after the last block in the range
+     */
+    SegmentTask(String[] segments, int[] offsets, int[] blockStarts, PackedTripleSet[] blockTriples,
+            String[] blockFailures, int from, int to) {
+      this.segments = segments;
+      this.offsets = offsets;
+      this.blockStarts = blockStarts;
+      this.blockTriples = blockTriples;
+      this.blockFailures = blockFailures;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        final int middle = (from + to) >>> 1;
+        invokeAll(new SegmentTask(segments, offsets, blockStarts, blockTriples, blockFailures, from, middle),
+                new SegmentTask(segments, offsets, blockStarts, blockTriples, blockFailures, middle, to));
+        return;
+      }
+      if (to - from == 1) {
+        final PackedTripleSet triples = new PackedTripleSet(tokens, PARALLEL_BLOCK_LENGTH);
+        StringBuilder failures = null;
+        for (int i = blockStarts[from]; i < blockStarts[from + 1]; i++) {
+          final String failure = match(segments[i], offsets[i], triples);
+          if (failure != null) {
+            if (failures == null) {
+              failures = new StringBuilder();
+            }
+            failures.append(failure);
+          }
+        }
+        blockTriples[from] = triples;
+        blockFailures[from] = failures == null ? null : failures.toString();
+      }
+    }
+  }
+
+  @Override
+  public void resetLexer() {
+    super.resetLexer();
+    packed = new PackedTripleSet(tokens, packed.size());
+    triples = packed;
+  }
+
+  /**
+   * Takes a TWE set and returns the largest tight and consistent subset of this
+   * TWE set, as {@link MultiLexer#prune(Set)} does. If the set was constructed
+   * by this lexer then it is pruned without leaving its packed form.
+   */
+  @Override
+  public Set<TokenTriple> prune(Set<TokenTriple> purgeSet) {
+    if (!(purgeSet instanceof PackedTripleSet)) {
+      return super.prune(purgeSet);
+    }
+    if (purgeSet.isEmpty()) {
+      System.err.println("Set of triples is empty.");
+      return purgeSet;
+    }
+    return prunePacked((PackedTripleSet) purgeSet);
+  }
+
+  /**
+   * Applies all applicable lexical disambiguation rules to the given TWE set,
+   * as {@link MultiLexer#disambiguate(Set, boolean)} does. If the set was
+   * constructed by this lexer then it is disambiguated without leaving its
+   * packed form.
+   */
+  @Override
+  protected Set<TokenTriple> disambiguate(Set<TokenTriple> triples, boolean assumeIsTight) {
+    if (!(triples instanceof PackedTripleSet)) {
+      return super.disambiguate(triples, assumeIsTight);
+    }
+    final Set<TokenTriple> sigma1 = assumeIsTight ? triples : prune(triples);
+    if (!(sigma1 instanceof PackedTripleSet)) {
+      return sigma1;
+    }
+    final PackedTripleSet set = (PackedTripleSet) sigma1;
+    final int size = set.size();
+    if (keep.length < size) {
+      keep = new boolean[size];
+      order = new int[size];
+    }
+    if (starts.length <= set.getHighestRightExtent()) {
+      starts = new int[set.getHighestRightExtent() + 1];
+    }
+    final int kept = getDisambiguationScheme().apply(set, keep, starts, order);
+
+    // If the result of lexical disambiguation does not result in any changes,
+    // this extra pruning step is not needed
+    if (kept == size) {
+      return set;
+    }
+    final Set<TokenTriple> newSet = prune(set.retain(keep, kept));
+    if (newSet.isEmpty()) {
+      System.out.println("WARNING: Lexical disambiguation scheme application resulted in an empty TWE set.");
+    }
+    return newSet;
+  }
+
+  /**
+   * Returns the largest tight and consistent subset of a non-empty packed TWE
+   * set. The triples reachable from the start of the input, and those from
+   * which the end of the input can be reached, are each found in a single pass
+   * over the set, recording the extents reached in a bitset, so pruning takes
+   * time linear in the size of the set and allocates only the subset it
+   * returns.
+   *
+   * @param set
+   *          The TWE set to prune
+   * @return The largest tight and consistent subset of <code>set</code>
+   */
+  private PackedTripleSet prunePacked(PackedTripleSet set) {
+    final int lastIndex = getInputLength() - 1;
+    final int size = set.size();
+    if (keep.length < size) {
+      keep = new boolean[size];
+      order = new int[size];
+    }
+    final int words = (Math.max(set.getHighestRightExtent(), lastIndex) >>> 6) + 1;
+    if (reached.length < words) {
+      reached = new long[words];
+    }
+    final int highestIndex = set.reachForward(keep, reached);
+
+    if (highestIndex < lastIndex) {
+      final String input = getInput();
+      System.err.printf("Lexical analysis failed at input position %d.%n", highestIndex);
+      System.err.printf("Failure occurred at:%n%s%n^%n",
+              input.substring(highestIndex, highestIndex + 20 > input.length() ? input.length() : highestIndex + 20));
+      return new PackedTripleSet(tokens, 1);
+    }
+
+    final int kept = set.reachBackward(lastIndex, keep, reached);
+    return kept == size ? set : set.retain(keep, kept);
+  }
+
+  /**
+   * Passes the rules of a compiled scheme on to the <code>MultiLexer</code>,
+   * which disambiguates any set not constructed by this lexer
+   *
+   * @param scheme
+   *          The compiled scheme
+   */
+  private void registerRules(DisambiguationScheme scheme) {
+    for (int a = 0; a < tokens.length; a++) {
+      for (int b = 0; b < tokens.length; b++) {
+        final byte relation = scheme.getRelation(a, b);
+        if ((relation & DisambiguationScheme.LEFT_LONGEST) != 0) {
+          super.addLeftLongestGrouping(tokens[a], tokens[b]);
+        }
+        if ((relation & DisambiguationScheme.LEFT_SHORTEST) != 0) {
+          super.addLeftShortestGrouping(tokens[a], tokens[b]);
+        }
+        if ((relation & DisambiguationScheme.PRIORITY) != 0) {
+          super.addRestrictedPriorityGrouping(tokens[a], tokens[b]);
+        }
+        if ((relation & DisambiguationScheme.RIGHT_LONGEST) != 0) {
+          super.addRightLongestGrouping(tokens[a], tokens[b]);
+        }
+        if ((relation & DisambiguationScheme.RIGHT_SHORTEST) != 0) {
+          super.addRightShortestGrouping(tokens[a], tokens[b]);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the builder to which new rules are added, invalidating the
+   * compiled scheme
+   *
+   * @return The builder holding the rules of this lexer
+   */
+  private DisambiguationScheme.Builder rules() {
+    if (rules == null) {
+      rules = new DisambiguationScheme.Builder(scheme);
+    }
+    scheme = null;
+    return rules;
+  }
+
+  @Override
+  public void addLeftLongestGrouping(String tokenA) {
+    super.addLeftLongestGrouping(tokenA);
+    rules().addLeftLongestGrouping(tokenA);
+  }
+
+  @Override
+  public void addLeftLongestGrouping(String... tokens) {
+    super.addLeftLongestGrouping(tokens);
+    rules().addLeftLongestGrouping(tokens);
+  }
+
+  @Override
+  public void addLeftLongestGrouping(String tokenA, String tokenB) {
+    super.addLeftLongestGrouping(tokenA, tokenB);
+    rules().addLeftLongestGrouping(tokenA, tokenB);
+  }
+
+  @Override
+  public void addRightLongestGrouping(String tokenA) {
+    super.addRightLongestGrouping(tokenA);
+    rules().addRightLongestGrouping(tokenA);
+  }
+
+  @Override
+  public void addRightLongestGrouping(String... tokens) {
+    super.addRightLongestGrouping(tokens);
+    rules().addRightLongestGrouping(tokens);
+  }
+
+  @Override
+  public void addRightLongestGrouping(String tokenA, String tokenB) {
+    super.addRightLongestGrouping(tokenA, tokenB);
+    rules().addRightLongestGrouping(tokenA, tokenB);
+  }
+
+  @Override
+  public void addRestrictedPriorityGrouping(String tokenA, String tokenB) {
+    super.addRestrictedPriorityGrouping(tokenA, tokenB);
+    rules().addRestrictedPriorityGrouping(tokenA, tokenB);
+  }
+
+  @Override
+  public void addLeftShortestGrouping(String tokenA) {
+    super.addLeftShortestGrouping(tokenA);
+    rules().addLeftShortestGrouping(tokenA);
+  }
+
+  @Override
+  public void addLeftShortestGrouping(String... tokens) {
+    super.addLeftShortestGrouping(tokens);
+    rules().addLeftShortestGrouping(tokens);
+  }
+
+  @Override
+  public void addLeftShortestGrouping(String tokenA, String tokenB) {
+    super.addLeftShortestGrouping(tokenA, tokenB);
+    rules().addLeftShortestGrouping(tokenA, tokenB);
+  }
+
+  @Override
+  public void addRightShortestGrouping(String tokenA) {
+    super.addRightShortestGrouping(tokenA);
+    rules().addRightShortestGrouping(tokenA);
+  }
+
+  @Override
+  public void addRightShortestGrouping(String... tokens) {
+    super.addRightShortestGrouping(tokens);
+    rules().addRightShortestGrouping(tokens);
+  }
+
+  @Override
+  public void addRightShortestGrouping(String tokenA, String tokenB) {
+    super.addRightShortestGrouping(tokenA, tokenB);
+    rules().addRightShortestGrouping(tokenA, tokenB);
+  }
+
+  @Override
+  public void clearStrategies() {
+    super.clearStrategies();
+    rules = new DisambiguationScheme.Builder(tokens);
+    scheme = null;
+  }
+}
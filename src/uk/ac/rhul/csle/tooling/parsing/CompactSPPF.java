@@ -0,0 +1,699 @@
+package uk.ac.rhul.csle.tooling.parsing;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import uk.ac.rhul.csle.gll.GLLSupport;
+
+/**
+ * A copy of the SPPF built by a GLL parser, held in a single buffer of
+ * integers so that it can outlive the rest of the parser's memory (the GSS,
+ * descriptors and pop elements) and be read without hashing.
+ * <p>
+ * Each symbol node is stored as a record of {@value #NODE_SIZE} integers,
+ * immediately followed by a record of {@value #PACK_NODE_SIZE} integers for
+ * each of its packed nodes, and nodes and packed nodes are identified by the
+ * index of their record (0 is never a record). The children of every packed
+ * node are resolved when the copy is made, so unlike the parser no lookup is
+ * needed to reach them. The visited, selected and suppressed flags are copied
+ * and can still be changed, encoded in the sign of a field in the same way as
+ * <code>GLLHashPool</code> encodes them.
+ * <p>
+ * The methods have the same names and meanings as those of
+ * <code>GLLSupport</code>, so that a parser can hand its SPPF accessors over
+ * to the copy.
+ * <p>
+ * A copy can be written to a file (see {@link CompactSPPF#write(Path, byte[])})
+ * and memory-mapped back (see {@link CompactSPPF#map(Path)}), so that the
+ * forest of an unchanged input can be reduced again without parsing it. The
+ * file holds a header of {@value #HEADER_SIZE} big-endian integers (a magic
+ * number, the format version, a key of {@value #KEY_LENGTH} bytes chosen by
+ * the writer, the root node, the number of nodes and packed nodes and the
+ * number of integers in the store) followed by the store itself. A mapped copy is private to the
+ * process: flags changed while reading it are never written back to the file.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class CompactSPPF {
+
+  /**
+   * The offsets of the fields of a symbol node record
+   */
+  private static final int NODE_LABEL = 0, NODE_LEFT_EXTENT = 1, NODE_RIGHT_EXTENT = 2, NODE_PACK_NODE_LIST = 3,
+          NODE_ARITY = 4;
+
+  /**
+   * The size of a symbol node record
+   */
+  public static final int NODE_SIZE = 5;
+
+  /**
+   * The offsets of the fields of a packed node record
+   */
+  private static final int PACK_PARENT = 0, PACK_LABEL = 1, PACK_PIVOT = 2, PACK_LEFT_CHILD_LABEL = 3,
+          PACK_RIGHT_CHILD_LABEL = 4, PACK_LEFT_CHILD = 5, PACK_RIGHT_CHILD = 6, PACK_PACK_NODE_LIST = 7;
+
+  /**
+   * The size of a packed node record
+   */
+  public static final int PACK_NODE_SIZE = 8;
+
+  /**
+   * The first integer of an SPPF file ("SPPF" in ASCII)
+   */
+  private static final int MAGIC = 0x53505046;
+
+  /**
+   * The version of the SPPF file format
+   */
+  private static final int VERSION = 2;
+
+  /**
+   * The number of bytes in the key of an SPPF file (the length of a SHA-256
+   * digest)
+   */
+  public static final int KEY_LENGTH = 32;
+
+  /**
+   * The number of integers in the header of an SPPF file
+   */
+  public static final int HEADER_SIZE = 6 + KEY_LENGTH / 4;
+
+  /**
+   * The node and packed node records
+   */
+  private final IntBuffer store;
+
+  /**
+   * The root node
+   */
+  private final int root;
+
+  /**
+   * The number of symbol nodes
+   */
+  private final int nodeCount;
+
+  /**
+   * The number of packed nodes
+   */
+  private final int packNodeCount;
+
+  /**
+   * The key the copy was written with (<code>null</code> if it was not read
+   * from a file)
+   */
+  private final byte[] key;
+
+  /**
+   * The current node of the iteration begun by
+   * {@link CompactSPPF#sppfNodeFirst()}
+   */
+  private int iterator;
+
+  /**
+   * Copies the SPPF of the last parse performed by a parser. The parser's
+   * iteration over its SPPF nodes is used, so it must not be in progress.
+   *
+   * @param parser
+   *          The parser
+   */
+  public CompactSPPF(GLLSupport parser) {
+    // Count the records so that the store is allocated once
+    int nodes = 0;
+    int packNodes = 0;
+    for (int node = parser.sppfNodeFirst(); node != 0; node = parser.sppfNodeNext()) {
+      nodes++;
+      packNodes += parser.sppfNodeArity(node);
+    }
+    nodeCount = nodes;
+    packNodeCount = packNodes;
+    final int[] records = new int[1 + nodes * NODE_SIZE + packNodes * PACK_NODE_SIZE];
+
+    // Lay out the records, remembering where each node of the parser went
+    final AddressMap addresses = new AddressMap(nodes);
+    int address = 1;
+    for (int node = parser.sppfNodeFirst(); node != 0; node = parser.sppfNodeNext()) {
+      addresses.put(node, address);
+      final int arity = parser.sppfNodeArity(node);
+      records[address + NODE_LABEL] = parser.sppfNodeVisited(node) ? -parser.sppfNodeLabel(node)
+              : parser.sppfNodeLabel(node);
+      records[address + NODE_LEFT_EXTENT] = parser.sppfNodeLeftExtent(node);
+      records[address + NODE_RIGHT_EXTENT] = parser.sppfNodeRightExtent(node);
+      records[address + NODE_PACK_NODE_LIST] = arity == 0 ? 0 : address + NODE_SIZE;
+      if (parser.sppfNodeSelected(node)) {
+        records[address + NODE_PACK_NODE_LIST] = -records[address + NODE_PACK_NODE_LIST];
+      }
+      records[address + NODE_ARITY] = arity;
+
+      int pack = address + NODE_SIZE;
+      for (int poolPack = parser.sppfNodePackNodeList(node); poolPack != 0; poolPack = parser
+              .sppfPackNodePackNodeList(poolPack)) {
+        records[pack + PACK_PARENT] = address;
+        records[pack + PACK_LABEL] = parser.sppfPackNodeLabel(poolPack);
+        records[pack + PACK_PIVOT] = parser.sppfPackNodePivot(poolPack);
+        records[pack + PACK_LEFT_CHILD_LABEL] = parser.sppfPackNodeSuppressed(poolPack)
+                ? -parser.sppfPackNodeLeftChildLabel(poolPack) : parser.sppfPackNodeLeftChildLabel(poolPack);
+        records[pack + PACK_RIGHT_CHILD_LABEL] = parser.sppfPackNodeSelected(poolPack)
+                ? -parser.sppfPackNodeRightChildLabel(poolPack) : parser.sppfPackNodeRightChildLabel(poolPack);
+        pack += PACK_NODE_SIZE;
+        records[pack - PACK_NODE_SIZE + PACK_PACK_NODE_LIST] = pack < address + NODE_SIZE + arity * PACK_NODE_SIZE
+                ? pack : 0;
+      }
+      address = pack;
+    }
+
+    // Now that every node has an address, resolve the children of the packed
+    // nodes in the same order
+    address = 1;
+    for (int node = parser.sppfNodeFirst(); node != 0; node = parser.sppfNodeNext()) {
+      int pack = address + NODE_SIZE;
+      for (int poolPack = parser.sppfNodePackNodeList(node); poolPack != 0; poolPack = parser
+              .sppfPackNodePackNodeList(poolPack)) {
+        records[pack + PACK_LEFT_CHILD] = addresses.get(parser.sppfPackNodeLeftChild(poolPack));
+        records[pack + PACK_RIGHT_CHILD] = addresses.get(parser.sppfPackNodeRightChild(poolPack));
+        pack += PACK_NODE_SIZE;
+      }
+      address = pack;
+    }
+    root = addresses.get(parser.sppfRoot());
+    store = IntBuffer.wrap(records);
+    key = null;
+  }
+
+  /**
+   * Constructs a copy around records that have already been laid out
+   *
+   * @param store
+   *          The node and packed node records
+   * @param root
+   *          The root node
+   * @param nodeCount
+   *          The number of symbol nodes
+   * @param packNodeCount
+   *          The number of packed nodes
+   * @param key
+   *          The key the records were written with
+   */
+  private CompactSPPF(IntBuffer store, int root, int nodeCount, int packNodeCount, byte[] key) {
+    this.store = store;
+    this.root = root;
+    this.nodeCount = nodeCount;
+    this.packNodeCount = packNodeCount;
+    this.key = key;
+  }
+
+  /**
+   * Memory-maps a copy written by {@link CompactSPPF#write(Path, byte[])}. The
+   * file must be writable, as the mapping is copy-on-write, but it is only
+   * read: flags changed in the returned copy stay in memory.
+   *
+   * @param file
+   *          The file to map
+   * @return The mapped copy
+   * @throws IOException
+   *           If the file cannot be read or is not an SPPF file of this
+   *           version
+   */
+  public static CompactSPPF map(Path file) throws IOException {
+    final IntBuffer ints;
+    // A private mapping needs a channel open for writing, but never writes
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      if (channel.size() < HEADER_SIZE * 4L || channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("Not an SPPF file: " + file);
+      }
+      ints = channel.map(MapMode.PRIVATE, 0, channel.size()).asIntBuffer();
+    }
+    if (ints.get(0) != MAGIC || ints.get(1) != VERSION) {
+      throw new IOException("Not an SPPF file of version " + VERSION + ": " + file);
+    }
+    final ByteBuffer keyBytes = ByteBuffer.allocate(KEY_LENGTH);
+    for (int i = 0; i < KEY_LENGTH / 4; i++) {
+      keyBytes.putInt(ints.get(2 + i));
+    }
+    final int fields = 2 + KEY_LENGTH / 4;
+    final int length = ints.get(fields + 3);
+    if (length != ints.capacity() - HEADER_SIZE || length != 1 + ints.get(fields + 1) * (long) NODE_SIZE
+            + ints.get(fields + 2) * (long) PACK_NODE_SIZE) {
+      throw new IOException("Truncated SPPF file: " + file);
+    }
+    ints.position(HEADER_SIZE);
+    return new CompactSPPF(ints.slice(), ints.get(fields), ints.get(fields + 1), ints.get(fields + 2),
+            keyBytes.array());
+  }
+
+  /**
+   * Writes the copy, with its current flags, to a file that can be read back
+   * by {@link CompactSPPF#map(Path)}. The file is written under a temporary
+   * name and then moved into place, so a reader never sees a partial file.
+   *
+   * @param file
+   *          The file to write
+   * @param key
+   *          {@value #KEY_LENGTH} bytes identifying what the forest was built
+   *          from, such as a digest of the input, which are returned by
+   *          {@link CompactSPPF#getKey()} when the file is read
+   * @throws IOException
+   *           If the file cannot be written
+   * @throws IllegalArgumentException
+   *           If the key is not {@value #KEY_LENGTH} bytes long
+   */
+  public void write(Path file, byte[] key) throws IOException {
+    if (key.length != KEY_LENGTH) {
+      throw new IllegalArgumentException("The key must be " + KEY_LENGTH + " bytes long");
+    }
+    final ByteBuffer bytes = ByteBuffer.allocate((HEADER_SIZE + store.capacity()) * 4);
+    bytes.putInt(MAGIC).putInt(VERSION).put(key);
+    final IntBuffer ints = bytes.asIntBuffer();
+    ints.put(root).put(nodeCount).put(packNodeCount).put(store.capacity());
+    final IntBuffer records = store.duplicate();
+    records.clear();
+    ints.put(records);
+    bytes.rewind();
+
+    final Path directory = file.toAbsolutePath().getParent();
+    final Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+      }
+      Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temporary);
+    }
+  }
+
+  /**
+   * Returns the key the copy was written with
+   *
+   * @return A copy of the key given to {@link CompactSPPF#write(Path, byte[])},
+   *         or <code>null</code> if the copy was not read from a file
+   */
+  public byte[] getKey() {
+    return key == null ? null : key.clone();
+  }
+
+  /**
+   * Returns the number of symbol nodes
+   *
+   * @return The number of symbol nodes
+   */
+  public int getNodeCount() {
+    return nodeCount;
+  }
+
+  /**
+   * Returns the number of packed nodes
+   *
+   * @return The number of packed nodes
+   */
+  public int getPackNodeCount() {
+    return packNodeCount;
+  }
+
+  /**
+   * Returns the number of bytes taken by the records
+   *
+   * @return The size of the store in bytes
+   */
+  public long getSizeInBytes() {
+    return store.capacity() * 4L;
+  }
+
+  /**
+   * Returns the root node
+   *
+   * @return The root node, or 0 if the parse built none
+   */
+  public int sppfRoot() {
+    return root;
+  }
+
+  /**
+   * Returns the label of a symbol node
+   *
+   * @param element
+   *          The node
+   * @return The label
+   */
+  public int sppfNodeLabel(int element) {
+    return Math.abs(store.get(element + NODE_LABEL));
+  }
+
+  /**
+   * Returns the left extent of a symbol node
+   *
+   * @param element
+   *          The node
+   * @return The left extent
+   */
+  public int sppfNodeLeftExtent(int element) {
+    return store.get(element + NODE_LEFT_EXTENT);
+  }
+
+  /**
+   * Returns the right extent of a symbol node
+   *
+   * @param element
+   *          The node
+   * @return The right extent
+   */
+  public int sppfNodeRightExtent(int element) {
+    return store.get(element + NODE_RIGHT_EXTENT);
+  }
+
+  /**
+   * Returns the first packed node of a symbol node
+   *
+   * @param element
+   *          The node
+   * @return The first packed node, or 0 if it has none
+   */
+  public int sppfNodePackNodeList(int element) {
+    return Math.abs(store.get(element + NODE_PACK_NODE_LIST));
+  }
+
+  /**
+   * Returns the number of packed nodes of a symbol node
+   *
+   * @param element
+   *          The node
+   * @return The number of packed nodes
+   */
+  public int sppfNodeArity(int element) {
+    return store.get(element + NODE_ARITY);
+  }
+
+  /**
+   * Determines whether a symbol node is marked as visited
+   *
+   * @param element
+   *          The node
+   * @return True if the node is visited
+   */
+  public boolean sppfNodeVisited(int element) {
+    return store.get(element + NODE_LABEL) < 0;
+  }
+
+  /**
+   * Marks a symbol node as not visited
+   *
+   * @param element
+   *          The node
+   */
+  public void sppfNodeResetVisited(int element) {
+    store.put(element + NODE_LABEL, Math.abs(store.get(element + NODE_LABEL)));
+  }
+
+  /**
+   * Marks a symbol node as visited
+   *
+   * @param element
+   *          The node
+   */
+  public void sppfNodeSetVisited(int element) {
+    store.put(element + NODE_LABEL, -Math.abs(store.get(element + NODE_LABEL)));
+  }
+
+  /**
+   * Determines whether a symbol node is marked as selected (as is a node with
+   * no packed nodes)
+   *
+   * @param element
+   *          The node
+   * @return True if the node is selected
+   */
+  public boolean sppfNodeSelected(int element) {
+    return store.get(element + NODE_PACK_NODE_LIST) <= 0;
+  }
+
+  /**
+   * Marks a symbol node as not selected
+   *
+   * @param element
+   *          The node
+   */
+  public void sppfNodeResetSelected(int element) {
+    store.put(element + NODE_PACK_NODE_LIST, Math.abs(store.get(element + NODE_PACK_NODE_LIST)));
+  }
+
+  /**
+   * Marks a symbol node as selected
+   *
+   * @param element
+   *          The node
+   */
+  public void sppfNodeSetSelected(int element) {
+    store.put(element + NODE_PACK_NODE_LIST, -Math.abs(store.get(element + NODE_PACK_NODE_LIST)));
+  }
+
+  /**
+   * Begins an iteration over every symbol node, in the order they are stored
+   *
+   * @return The first node, or 0 if there are none
+   */
+  public int sppfNodeFirst() {
+    iterator = store.capacity() > 1 ? 1 : 0;
+    return iterator;
+  }
+
+  /**
+   * Continues the iteration begun by {@link CompactSPPF#sppfNodeFirst()}
+   *
+   * @return The next node, or 0 if there are no more
+   */
+  public int sppfNodeNext() {
+    if (iterator != 0) {
+      iterator += NODE_SIZE + store.get(iterator + NODE_ARITY) * PACK_NODE_SIZE;
+      if (iterator >= store.capacity()) {
+        iterator = 0;
+      }
+    }
+    return iterator;
+  }
+
+  /**
+   * Returns the symbol node a packed node belongs to
+   *
+   * @param element
+   *          The packed node
+   * @return The parent node
+   */
+  public int sppfPackNodeParent(int element) {
+    return store.get(element + PACK_PARENT);
+  }
+
+  /**
+   * Returns the label of a packed node
+   *
+   * @param element
+   *          The packed node
+   * @return The label
+   */
+  public int sppfPackNodeLabel(int element) {
+    return store.get(element + PACK_LABEL);
+  }
+
+  /**
+   * Returns the pivot of a packed node
+   *
+   * @param element
+   *          The packed node
+   * @return The pivot
+   */
+  public int sppfPackNodePivot(int element) {
+    return store.get(element + PACK_PIVOT);
+  }
+
+  /**
+   * Returns the label of the left child of a packed node
+   *
+   * @param element
+   *          The packed node
+   * @return The label of the left child
+   */
+  public int sppfPackNodeLeftChildLabel(int element) {
+    return Math.abs(store.get(element + PACK_LEFT_CHILD_LABEL));
+  }
+
+  /**
+   * Returns the label of the right child of a packed node
+   *
+   * @param element
+   *          The packed node
+   * @return The label of the right child
+   */
+  public int sppfPackNodeRightChildLabel(int element) {
+    return Math.abs(store.get(element + PACK_RIGHT_CHILD_LABEL));
+  }
+
+  /**
+   * Returns the left child of a packed node
+   *
+   * @param element
+   *          The packed node
+   * @return The left child, or 0 if it has none
+   */
+  public int sppfPackNodeLeftChild(int element) {
+    return store.get(element + PACK_LEFT_CHILD);
+  }
+
+  /**
+   * Returns the right child of a packed node
+   *
+   * @param element
+   *          The packed node
+   * @return The right child
+   */
+  public int sppfPackNodeRightChild(int element) {
+    return store.get(element + PACK_RIGHT_CHILD);
+  }
+
+  /**
+   * Returns the next packed node of the same symbol node
+   *
+   * @param element
+   *          The packed node
+   * @return The next packed node, or 0 if there are no more
+   */
+  public int sppfPackNodePackNodeList(int element) {
+    return store.get(element + PACK_PACK_NODE_LIST);
+  }
+
+  /**
+   * Determines whether a packed node is marked as suppressed
+   *
+   * @param element
+   *          The packed node
+   * @return True if the packed node is suppressed
+   */
+  public boolean sppfPackNodeSuppressed(int element) {
+    return store.get(element + PACK_LEFT_CHILD_LABEL) < 0;
+  }
+
+  /**
+   * Marks a packed node as not suppressed
+   *
+   * @param element
+   *          The packed node
+   */
+  public void sppfPackNodeResetSuppressed(int element) {
+    store.put(element + PACK_LEFT_CHILD_LABEL, Math.abs(store.get(element + PACK_LEFT_CHILD_LABEL)));
+  }
+
+  /**
+   * Marks a packed node as suppressed
+   *
+   * @param element
+   *          The packed node
+   */
+  public void sppfPackNodeSetSuppressed(int element) {
+    store.put(element + PACK_LEFT_CHILD_LABEL, -Math.abs(store.get(element + PACK_LEFT_CHILD_LABEL)));
+  }
+
+  /**
+   * Determines whether a packed node is marked as selected
+   *
+   * @param element
+   *          The packed node
+   * @return True if the packed node is selected
+   */
+  public boolean sppfPackNodeSelected(int element) {
+    return store.get(element + PACK_RIGHT_CHILD_LABEL) < 0;
+  }
+
+  /**
+   * Marks a packed node as not selected
+   *
+   * @param element
+   *          The packed node
+   */
+  public void sppfPackNodeResetSelected(int element) {
+    store.put(element + PACK_RIGHT_CHILD_LABEL, Math.abs(store.get(element + PACK_RIGHT_CHILD_LABEL)));
+  }
+
+  /**
+   * Marks a packed node as selected
+   *
+   * @param element
+   *          The packed node
+   */
+  public void sppfPackNodeSetSelected(int element) {
+    store.put(element + PACK_RIGHT_CHILD_LABEL, -Math.abs(store.get(element + PACK_RIGHT_CHILD_LABEL)));
+  }
+
+  /**
+   * An open-addressed map from the parser's SPPF node addresses to the
+   * addresses of their records, used while the copy is made
+   */
+  private static class AddressMap {
+
+    /**
+     * The keys and values, interleaved, with 0 marking a free slot
+     */
+    private final int[] table;
+
+    /**
+     * The mask selecting a slot
+     */
+    private final int mask;
+
+    /**
+     * Constructs a map large enough for the given number of entries
+     *
+     * @param entries
+     *          The number of entries
+     */
+    AddressMap(int entries) {
+      final int slots = Integer.highestOneBit(Math.max(entries, 1) * 2 - 1) << 1;
+      table = new int[slots * 2];
+      mask = slots - 1;
+    }
+
+    /**
+     * Adds an entry
+     *
+     * @param key
+     *          A non-zero parser address
+     * @param value
+     *          The address of its record
+     */
+    void put(int key, int value) {
+      int slot = (key * 0x9E3779B9 >>> 16 ^ key) & mask;
+      while (table[slot * 2] != 0) {
+        slot = slot + 1 & mask;
+      }
+      table[slot * 2] = key;
+      table[slot * 2 + 1] = value;
+    }
+
+    /**
+     * Looks up an entry
+     *
+     * @param key
+     *          A parser address
+     * @return The address of its record, or 0 if it has none
+     */
+    int get(int key) {
+      if (key == 0) {
+        return 0;
+      }
+      for (int slot = (key * 0x9E3779B9 >>> 16 ^ key) & mask; table[slot * 2] != 0; slot = slot + 1 & mask) {
+        if (table[slot * 2] == key) {
+          return table[slot * 2 + 1];
+        }
+      }
+      return 0;
+    }
+  }
+}
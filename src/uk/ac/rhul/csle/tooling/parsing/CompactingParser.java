@@ -0,0 +1,37 @@
+package uk.ac.rhul.csle.tooling.parsing;
+
+/**
+ * A parser that can release the memory used while parsing once a parse is
+ * complete, keeping only what is needed to read the SPPF, and that can read a
+ * {@link CompactSPPF} in place of the SPPF of a parse.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public interface CompactingParser {
+
+  /**
+   * Releases the memory held by the parser that is not needed to read the
+   * SPPF of the last parse. Afterwards only the SPPF accessors of the parser
+   * may be used until the next parse.
+   */
+  void compactSPPF();
+
+  /**
+   * Makes the SPPF accessors of the parser read the given SPPF, as if it had
+   * been built by a successful parse, until the next parse
+   *
+   * @param sppf
+   *          The SPPF, which must have been built by a parser for the same
+   *          grammar
+   */
+  void loadSPPF(CompactSPPF sppf);
+
+  /**
+   * Returns a value that identifies the grammar of the parser, so that an SPPF
+   * saved by one parser is only loaded into a parser with the same labels
+   *
+   * @return A hash of the labels of the grammar
+   */
+  int getGrammarFingerprint();
+}
@@ -39,6 +39,21 @@ public class DerivationCounter {
     previousValues = new HashMap<Integer, BigInteger>();
   }
 
+  /**
+   * Constructs a new <code>DerivationCounter</code> for the given ART-generated
+   * parser context, sized for the given number of ESPPF elements.
+   * 
+   * @param parser
+   *          The ART-generated parser context
+   * @param expectedElements
+   *          The number of ESPPF elements expected to be counted (see
+   *          {@link ParseSizeModel#expectedSPPFNodes(int)})
+   */
+  public DerivationCounter(GLLSupport parser, int expectedElements) {
+    this.parser = parser;
+    previousValues = new HashMap<Integer, BigInteger>(ParseSizeModel.hashMapCapacity(expectedElements));
+  }
+
   /**
    * Counts and returns the number of derivations embedded in the ESPPF
    * constructed by the parser context.
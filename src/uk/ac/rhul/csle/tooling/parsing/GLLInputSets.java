@@ -0,0 +1,371 @@
+package uk.ac.rhul.csle.tooling.parsing;
+
+import java.util.Arrays;
+
+import uk.ac.rhul.csle.tooling.lexing.PackedTripleSet;
+
+/**
+ * The input structures of an ART-generated GLL parser, built directly from a
+ * TWE set.
+ * <p>
+ * <code>GLLSupport</code> normally reads its input as the text produced by
+ * <code>MultiLexer.toTok</code>, scanning each line back into a triple and
+ * looking up the token name among its labels before building the pair and
+ * successor arrays used during parsing. This class builds the same arrays, laid
+ * out in the same order, from a {@link PackedTripleSet} whose token numbers
+ * have already been mapped to parser labels, so that no text is formatted or
+ * scanned.
+ * <p>
+ * A parser may keep a single <code>GLLInputSets</code> and reload it for each
+ * input, so that the arrays reach the size of the largest input once rather
+ * than being allocated again for every parse.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public final class GLLInputSets {
+
+  /**
+   * The input pairs, each held as a label followed by a left extent
+   */
+  private int[] pairBuffer = new int[0];
+
+  /**
+   * The handle of each pair, indexed by left extent and label
+   */
+  private int[][] pairIndex = new int[0][];
+
+  /**
+   * The handle of the first pair at each left extent
+   */
+  private int[] firstPairAtLeftExtent = new int[0];
+
+  /**
+   * The initial pairs followed by the successors of each pair, each run
+   * terminated by -1
+   */
+  private int[] successorBuffer = new int[2];
+
+  /**
+   * The start of the successors of each pair in <code>successorBuffer</code>,
+   * indexed by left extent and label
+   */
+  private int[][] successorIndex = new int[0][];
+
+  /**
+   * The number of left extents loaded by the last call to <code>load</code>
+   */
+  private int loadedExtents;
+
+  /**
+   * The start in <code>pairLabels</code> of the pairs at each left extent, and
+   * the end of the pairs at the last left extent
+   */
+  private int[] pairStarts = new int[1];
+
+  /**
+   * The distinct labels leaving each left extent, in ascending order
+   */
+  private int[] pairLabels = new int[1];
+
+  /**
+   * The index of the first triple at each left extent
+   */
+  private int[] groupStarts = new int[1];
+
+  /**
+   * The last left extent at which each label was added to
+   * <code>pairLabels</code>
+   */
+  private int[] lastLeftExtent = new int[0];
+
+  /**
+   * Rows of <code>pairIndex</code> and <code>successorIndex</code> released
+   * by earlier loads, all zero, for reuse by later loads
+   */
+  private int[][] spareRows = new int[0][];
+
+  /**
+   * The number of rows in <code>spareRows</code>
+   */
+  private int spareRowCount;
+
+  /**
+   * Constructs an empty set of input structures, to be filled by
+   * {@link GLLInputSets#load(PackedTripleSet, int, int[], int, int)}
+   */
+  public GLLInputSets() {
+  }
+
+  /**
+   * Builds the input structures for the given TWE set
+   *
+   * @param triples
+   *          The TWE set
+   * @param inputLength
+   *          The length of the input string plus one, as written at the start
+   *          of the <code>toTok</code> text
+   * @param labels
+   *          The parser label of each token number of <code>triples</code>, or
+   *          -1 for a token that is not a terminal of the grammar
+   * @param eosLabel
+   *          The label of the end of string token
+   * @param labelCount
+   *          The number of labels that may label an input pair
+   * @throws IllegalArgumentException
+   *           If a token is not a terminal of the grammar or an extent is out
+   *           of bounds, with the message <code>GLLSupport</code> reports for
+   *           the same inconsistency in <code>toTok</code> text
+   */
+  public GLLInputSets(PackedTripleSet triples, int inputLength, int[] labels, int eosLabel, int labelCount) {
+    load(triples, inputLength, labels, eosLabel, labelCount);
+  }
+
+  /**
+   * Rebuilds the input structures for the given TWE set, reusing the arrays
+   * of the last load where they are large enough. Only the entries of the
+   * index rows that the last load set are cleared, so a parser that keeps one
+   * <code>GLLInputSets</code> for every parse allocates nothing once its
+   * arrays have grown to the size of its largest input.
+   * <p>
+   * The arrays returned by the getters are overwritten, and may be longer
+   * than the current input needs; the parser only reads them within the
+   * extents and handles of the current input.
+   *
+   * @param triples
+   *          The TWE set
+   * @param inputLength
+   *          The length of the input string plus one, as written at the start
+   *          of the <code>toTok</code> text
+   * @param labels
+   *          The parser label of each token number of <code>triples</code>, or
+   *          -1 for a token that is not a terminal of the grammar
+   * @param eosLabel
+   *          The label of the end of string token
+   * @param labelCount
+   *          The number of labels that may label an input pair
+   * @throws IllegalArgumentException
+   *           If a token is not a terminal of the grammar or an extent is out
+   *           of bounds, with the message <code>GLLSupport</code> reports for
+   *           the same inconsistency in <code>toTok</code> text. The
+   *           structures of the last load are then left unchanged.
+   */
+  public void load(PackedTripleSet triples, int inputLength, int[] labels, int eosLabel, int labelCount) {
+    final int size = triples.size();
+    final int maxExtent = inputLength + 1;
+    final int eosExtent = inputLength - 1;
+    for (int i = 0; i < size; i++) {
+      if (labels[triples.getToken(i)] == -1) {
+        throw new IllegalArgumentException(String.format(
+                "lexical set file is not consistent with parsing grammar - unable to find token '%s'",
+                triples.getTokenName(triples.getToken(i))));
+      }
+      if (triples.getLeftExtent(i) >= inputLength) {
+        throw new IllegalArgumentException(String.format("leftExtent %d out of bounds", triples.getLeftExtent(i)));
+      }
+      if (triples.getRightExtent(i) >= inputLength) {
+        throw new IllegalArgumentException(String.format("rightExtent %d out of bounds", triples.getRightExtent(i)));
+      }
+    }
+    release(labelCount);
+
+    // The distinct labels leaving each left extent, in ascending order; the
+    // pairs at left extent l are pairLabels[pairStarts[l]] to
+    // pairLabels[pairStarts[l + 1] - 1]. As in GLLSupport, the end of string
+    // token replaces any triple at the last position.
+    if (pairStarts.length < maxExtent + 1) {
+      pairStarts = new int[maxExtent + 1];
+      groupStarts = new int[maxExtent + 1];
+    }
+    if (pairLabels.length < size + 1) {
+      pairLabels = new int[size + 1];
+    }
+    if (lastLeftExtent.length < labelCount) {
+      lastLeftExtent = new int[labelCount];
+    }
+    // Entries left by the last load could match a left extent of this one
+    Arrays.fill(lastLeftExtent, 0, labelCount, -1);
+    int pairs = 0;
+    int next = 0;
+    for (int left = 0; left < maxExtent; left++) {
+      pairStarts[left] = pairs;
+      groupStarts[left] = next;
+      if (left == eosExtent) {
+        pairLabels[pairs++] = eosLabel;
+      }
+      for (; next < size && triples.getLeftExtent(next) == left; next++) {
+        final int label = labels[triples.getToken(next)];
+        if (left != eosExtent && lastLeftExtent[label] != left) {
+          lastLeftExtent[label] = left;
+          pairLabels[pairs++] = label;
+        }
+      }
+      Arrays.sort(pairLabels, pairStarts[left], pairs);
+    }
+    pairStarts[maxExtent] = pairs;
+    groupStarts[maxExtent] = next;
+
+    if (pairBuffer.length < pairs * 2) {
+      pairBuffer = new int[pairs * 2];
+    }
+    if (pairIndex.length < maxExtent) {
+      pairIndex = new int[maxExtent][];
+      successorIndex = new int[maxExtent][];
+      firstPairAtLeftExtent = new int[maxExtent];
+    }
+    for (int left = 0; left < maxExtent; left++) {
+      if (pairStarts[left] == pairStarts[left + 1]) {
+        firstPairAtLeftExtent[left] = 0;
+        continue;
+      }
+      pairIndex[left] = row(labelCount);
+      successorIndex[left] = row(labelCount);
+      firstPairAtLeftExtent[left] = pairStarts[left] * 2;
+      for (int pair = pairStarts[left]; pair < pairStarts[left + 1]; pair++) {
+        pairIndex[left][pairLabels[pair]] = pair * 2;
+        pairBuffer[pair * 2] = pairLabels[pair];
+        pairBuffer[pair * 2 + 1] = left;
+      }
+    }
+    loadedExtents = maxExtent;
+
+    // The initial block holds the pairs at left extent 0. GLLSupport head
+    // inserts the right extents of each pair as it reads the toTok text, so
+    // the successors of a pair are visited in descending order of right
+    // extent, which is the reverse of the order of the TWE set.
+    int[] successors = successorBuffer;
+    if (successors.length < pairs * 4 + 2) {
+      successors = new int[pairs * 4 + 2];
+    }
+    int length = 0;
+    for (int pair = pairStarts[0]; pair < pairStarts[1]; pair++) {
+      successors[length++] = pair * 2;
+    }
+    successors[length++] = -1;
+    for (int left = 0; left < maxExtent; left++) {
+      for (int pair = pairStarts[left]; pair < pairStarts[left + 1]; pair++) {
+        final int label = pairLabels[pair];
+        successorIndex[left][label] = length;
+        // The end of string pair has no successors
+        int previous = -1;
+        for (int i = groupStarts[left + 1] - 1; i >= groupStarts[left] && left != eosExtent; i--) {
+          final int right = triples.getRightExtent(i);
+          if (labels[triples.getToken(i)] != label || right == previous) {
+            continue;
+          }
+          previous = right;
+          final int count = pairStarts[right + 1] - pairStarts[right];
+          if (length + count >= successors.length) {
+            successors = Arrays.copyOf(successors, Math.max(successors.length * 2, length + count + 1));
+          }
+          for (int successor = pairStarts[right]; successor < pairStarts[right + 1]; successor++) {
+            successors[length++] = successor * 2;
+          }
+        }
+        if (length == successors.length) {
+          successors = Arrays.copyOf(successors, successors.length * 2);
+        }
+        successors[length++] = -1;
+      }
+    }
+    successorBuffer = successors;
+  }
+
+  /**
+   * Clears the entries of the index rows set by the last load and keeps the
+   * rows for reuse, leaving every left extent without a row
+   *
+   * @param labelCount
+   *          The length of the rows needed by the next load; rows of another
+   *          length are dropped
+   */
+  private void release(int labelCount) {
+    for (int left = 0; left < loadedExtents; left++) {
+      final int[] pairRow = pairIndex[left];
+      if (pairRow == null) {
+        continue;
+      }
+      final int[] successorRow = successorIndex[left];
+      for (int pair = pairStarts[left]; pair < pairStarts[left + 1]; pair++) {
+        pairRow[pairLabels[pair]] = 0;
+        successorRow[pairLabels[pair]] = 0;
+      }
+      pairIndex[left] = null;
+      successorIndex[left] = null;
+      if (pairRow.length == labelCount) {
+        if (spareRowCount + 2 > spareRows.length) {
+          spareRows = Arrays.copyOf(spareRows, Math.max(16, spareRows.length * 2));
+        }
+        spareRows[spareRowCount++] = pairRow;
+        spareRows[spareRowCount++] = successorRow;
+      }
+    }
+    loadedExtents = 0;
+  }
+
+  /**
+   * Returns a zero index row, reusing a released row if there is one
+   *
+   * @param labelCount
+   *          The length of the row
+   * @return The row
+   */
+  private int[] row(int labelCount) {
+    if (spareRowCount == 0 || spareRows[spareRowCount - 1].length != labelCount) {
+      return new int[labelCount];
+    }
+    final int[] row = spareRows[--spareRowCount];
+    spareRows[spareRowCount] = null;
+    return row;
+  }
+
+  /**
+   * Returns the input pairs, each held as a label followed by a left extent
+   * (<code>GLLSupport.inputPairBuffer</code>)
+   *
+   * @return The input pairs
+   */
+  public int[] getPairBuffer() {
+    return pairBuffer;
+  }
+
+  /**
+   * Returns the handle of each pair, indexed by left extent and label
+   * (<code>GLLSupport.inputPairIndex</code>)
+   *
+   * @return The handle of each pair
+   */
+  public int[][] getPairIndex() {
+    return pairIndex;
+  }
+
+  /**
+   * Returns the handle of the first pair at each left extent
+   * (<code>GLLSupport.inputFirstPairAtLeftExtent</code>)
+   *
+   * @return The handle of the first pair at each left extent
+   */
+  public int[] getFirstPairAtLeftExtent() {
+    return firstPairAtLeftExtent;
+  }
+
+  /**
+   * Returns the initial pairs followed by the successors of each pair, each run
+   * terminated by -1 (<code>GLLSupport.inputSuccessorBuffer</code>)
+   *
+   * @return The successor runs
+   */
+  public int[] getSuccessorBuffer() {
+    return successorBuffer;
+  }
+
+  /**
+   * Returns the start of the successors of each pair, indexed by left extent
+   * and label (<code>GLLSupport.inputSuccessorIndex</code>)
+   *
+   * @return The start of the successors of each pair
+   */
+  public int[][] getSuccessorIndex() {
+    return successorIndex;
+  }
+}
@@ -0,0 +1,96 @@
+package uk.ac.rhul.csle.tooling.parsing;
+
+/**
+ * Predicts the sizes of the structures built from a parse from the number of
+ * triples in the TWE set handed to the parser, so that they can be allocated at
+ * their final size rather than grown (and rehashed) while they are filled.
+ * <p>
+ * The ratios were calibrated on the <code>testSuite</code> corpus, using the
+ * sizes recorded by <code>PipelineProfile</code> for each file. Across the
+ * corpus the number of SPPF nodes is between 4.6 and 9.2 times the number of
+ * disambiguated triples (median 7.0), and the number of nodes visited when the
+ * derivation PPF is built is between 3.2 and 8.3 times (median 5.5). Each
+ * prediction is taken near the top of its range, so that only a handful of
+ * files grow past it.
+ * <p>
+ * The pool and hash tables of <code>GLLHashPool</code> itself cannot be sized
+ * this way: its bucket counts are fixed when the parser is constructed and its
+ * pool blocks are allocated privately, one block at a time.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public final class ParseSizeModel {
+
+  /**
+   * The predicted number of SPPF nodes for each triple handed to the parser
+   */
+  private static final int SPPF_NODES_PER_TRIPLE = 8;
+
+  /**
+   * The predicted number of nodes visited when building the derivation PPF
+   * for each triple handed to the parser
+   */
+  private static final int DERIVATION_NODES_PER_TRIPLE = 7;
+
+  /**
+   * The largest prediction made, so that a very large input does not reserve
+   * more than it is likely to use
+   */
+  private static final int MAXIMUM_PREDICTION = 1 << 24;
+
+  /**
+   * This class only has static methods
+   */
+  private ParseSizeModel() {
+  }
+
+  /**
+   * Predicts the number of SPPF nodes constructed by parsing a TWE set
+   *
+   * @param triples
+   *          The number of triples in the TWE set, or 0 if it is not known
+   * @return The predicted number of SPPF nodes, or 0 if there is no prediction
+   */
+  public static int expectedSPPFNodes(int triples) {
+    return predict(triples, SPPF_NODES_PER_TRIPLE);
+  }
+
+  /**
+   * Predicts the number of nodes visited when building the derivation PPF of a
+   * parse of a TWE set
+   *
+   * @param triples
+   *          The number of triples in the TWE set, or 0 if it is not known
+   * @return The predicted number of nodes, or 0 if there is no prediction
+   */
+  public static int expectedDerivationNodes(int triples) {
+    return predict(triples, DERIVATION_NODES_PER_TRIPLE);
+  }
+
+  /**
+   * Returns the initial capacity of a <code>HashMap</code> with the default
+   * load factor that holds the given number of entries without resizing (and
+   * is never less than the default capacity)
+   *
+   * @param entries
+   *          The expected number of entries
+   * @return The initial capacity
+   */
+  public static int hashMapCapacity(int entries) {
+    return (int) Math.max(Math.min((entries * 4L + 2) / 3, 1 << 30), 16);
+  }
+
+  /**
+   * Scales a triple count by a ratio
+   *
+   * @param triples
+   *          The number of triples
+   * @param ratio
+   *          The number of elements predicted for each triple
+   * @return The prediction
+   */
+  private static int predict(int triples, int ratio) {
+    return (int) Math.min(Math.max(triples, 0) * (long) ratio, MAXIMUM_PREDICTION);
+  }
+}
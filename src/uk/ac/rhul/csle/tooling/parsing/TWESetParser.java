@@ -0,0 +1,25 @@
+package uk.ac.rhul.csle.tooling.parsing;
+
+import uk.ac.rhul.csle.tooling.lexing.PackedTripleSet;
+
+/**
+ * An ART-generated parser that can read its input directly from a TWE set held
+ * by the lexer, rather than from the text produced by
+ * <code>MultiLexer.toTok</code>.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public interface TWESetParser {
+
+  /**
+   * Parses the given TWE set from the default start symbol. The result is
+   * the same as that of parsing <code>MultiLexer.toTok(triples)</code>.
+   *
+   * @param triples
+   *          The TWE set of the input string
+   * @param inputLength
+   *          The length of the input string plus one
+   */
+  void parse(PackedTripleSet triples, int inputLength);
+}
@@ -5,6 +5,7 @@ import java.util.Stack;
 import uk.ac.rhul.csle.gll.GLLHashPool;
 import uk.ac.rhul.csle.gll.GLLSupport;
 import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+import uk.ac.rhul.csle.tooling.parsing.ParseSizeModel;
 import uk.ac.rhul.csle.tooling.parsing.ParsingSupportFunctions;
 import uk.ac.rhul.csle.tooling.trees.BaseDerivationNode;
 import uk.ac.rhul.csle.tooling.trees.GIFTNode;
@@ -48,6 +49,12 @@ public class EmbeddedTreeReductor {
    */
   private String inputString;
 
+  /**
+   * The number of triples in the TWE set that was parsed, or 0 if it is not
+   * known
+   */
+  private int inputTriples;
+
   /**
    * A boolean value determining whether debugging information should be
    * displayed
@@ -243,7 +250,8 @@ public class EmbeddedTreeReductor {
     ((GLLHashPool) parsingContext).derivationSelectAll();
     // Initially just constructs a data structure that contains epsilon and
     // intermediate nodes
-    final GIFTVisitor visitor = new GIFTVisitor(parsingContext);
+    final GIFTVisitor visitor = new GIFTVisitor(parsingContext,
+            ParseSizeModel.expectedDerivationNodes(inputTriples));
     ((GLLHashPool) parsingContext).derivationVisit(visitor);
     final GIFTNode derivationTreeRoot = visitor.getRoot();
     // Remove the epsilon and intermediate nodes
@@ -251,6 +259,20 @@ public class EmbeddedTreeReductor {
     return derivationTreeRoot;
   }
 
+  /**
+   * Returns a hash of the derivation reduction rules of this reductor. Two
+   * reductors with the same <code>suppress</code>, <code>longest</code> and
+   * <code>shortest</code> rules have the same fingerprint.
+   *
+   * @return The fingerprint
+   */
+  public int getRuleFingerprint() {
+    int fingerprint = suppStrategy.getFingerprint();
+    fingerprint = 31 * fingerprint + longStrategy.getFingerprint();
+    fingerprint = 31 * fingerprint + shortStrategy.getFingerprint();
+    return fingerprint;
+  }
+
   /**
    * Adds a derivation reduction rule saying a packed node labelled with
    * <code>slotA</code> should be suppressed if it has a smaller pivot than a
@@ -360,6 +382,17 @@ public class EmbeddedTreeReductor {
     this.inputString = inputString;
   }
 
+  /**
+   * Sets the number of triples in the TWE set used as the input for the
+   * parser, from which the size of the derivation PPF is predicted
+   *
+   * @param inputTriples
+   *          The number of triples, or 0 if it is not known
+   */
+  public void setInputTriples(int inputTriples) {
+    this.inputTriples = inputTriples;
+  }
+
   /**
    * Adds a derivation reduction rule saying a packed node labelled with
    * <code>slotA</code> should be suppressed if it has a larger pivot than a
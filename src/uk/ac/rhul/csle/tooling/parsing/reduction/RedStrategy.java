@@ -91,6 +91,16 @@ public abstract class RedStrategy {
     matrix.clear();
   }
 
+  /**
+   * Returns a hash of the relations of this strategy, which does not depend on
+   * the order in which they were added
+   *
+   * @return The fingerprint
+   */
+  public int getFingerprint() {
+    return matrix.hashCode();
+  }
+
   /**
    * Marks <code>s1</code> for suppression if the element's grammar slot label
    * has a relation with the grammar slot label for <code>s2</code> and strategy
@@ -0,0 +1,289 @@
+package uk.ac.rhul.csle.tooling.preprocessing;
+
+import java.util.Arrays;
+
+/**
+ * Maps offsets in a preprocessed string back to offsets, lines and columns in
+ * the original string it was produced from.
+ * <p>
+ * A preprocessor copies parts of the original string unchanged and replaces
+ * the rest (layout) with single characters. The map is recorded as a list of
+ * runs in two parallel <code>int</code> arrays: a run starting at offset
+ * <em>s</em> of the preprocessed string either copies the original string from
+ * offset <em>o</em>, in which case every offset <em>s + k</em> in the run maps
+ * to <em>o + k</em>, or is a single character that replaced the layout ending
+ * at original offset <em>o</em>, which is stored as <em>-o - 1</em>. Runs are
+ * only recorded where the mapping changes, and the start of each line of the
+ * original string is kept in a third array, so all lookups are binary searches.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class SourcePositionMap {
+
+  /**
+   * The initial capacity of the run arrays
+   */
+  private static final int INITIAL_CAPACITY = 64;
+
+  /**
+   * The offset in the preprocessed string at which each run starts
+   */
+  private int[] preprocessedOffsets;
+
+  /**
+   * The original offset of the first character of each copied run, or
+   * <em>-o - 1</em> for a replaced run ending at original offset <em>o</em>
+   */
+  private int[] originalOffsets;
+
+  /**
+   * The number of runs recorded
+   */
+  private int runs;
+
+  /**
+   * The offset in the original string at which each line starts
+   */
+  private final int[] lineStarts;
+
+  /**
+   * The length of the original string
+   */
+  private final int originalLength;
+
+  /**
+   * Constructs an empty <code>SourcePositionMap</code> for the given original
+   * string. The start of each line is recorded, treating <code>\r\n</code>,
+   * <code>\r</code> and <code>\n</code> as line terminators.
+   *
+   * @param original
+   *          The string before preprocessing
+   */
+  public SourcePositionMap(String original) {
+    originalLength = original.length();
+    int[] starts = new int[INITIAL_CAPACITY];
+    int lines = 1;
+    for (int i = 0; i < original.length(); i++) {
+      final char c = original.charAt(i);
+      if (c == '\r' && i + 1 < original.length() && original.charAt(i + 1) == '\n') {
+        continue;
+      }
+      if (c == '\r' || c == '\n') {
+        if (lines == starts.length) {
+          starts = Arrays.copyOf(starts, lines * 2);
+        }
+        starts[lines++] = i + 1;
+      }
+    }
+    lineStarts = Arrays.copyOf(starts, lines);
+    preprocessedOffsets = new int[INITIAL_CAPACITY];
+    originalOffsets = new int[INITIAL_CAPACITY];
+  }
+
+  /**
+   * Records that the character at the given offset of the preprocessed string
+   * is a copy of the character at the given offset of the original string. A
+   * new run is only started if the character does not continue the last run.
+   *
+   * @param preprocessedOffset
+   *          The offset in the preprocessed string
+   * @param originalOffset
+   *          The offset in the original string
+   */
+  public void copied(int preprocessedOffset, int originalOffset) {
+    if (runs > 0 && originalOffsets[runs - 1] >= 0
+            && originalOffset - originalOffsets[runs - 1] == preprocessedOffset - preprocessedOffsets[runs - 1]) {
+      return;
+    }
+    addRun(preprocessedOffset, originalOffset);
+  }
+
+  /**
+   * Records that the character at the given offset of the preprocessed string
+   * replaced layout in the original string that ends at the given offset
+   *
+   * @param preprocessedOffset
+   *          The offset in the preprocessed string
+   * @param originalEndOffset
+   *          The offset in the original string after the end of the layout
+   */
+  public void replaced(int preprocessedOffset, int originalEndOffset) {
+    addRun(preprocessedOffset, -originalEndOffset - 1);
+  }
+
+  /**
+   * Extends the replaced run that ends at the given offset of the preprocessed
+   * string (if there is one) so that it covers layout in the original string
+   * up to the given offset. This is used when adjacent layout is merged into a
+   * single character.
+   *
+   * @param preprocessedOffset
+   *          The offset after the character that replaced the layout
+   * @param originalEndOffset
+   *          The offset in the original string after the end of the layout
+   */
+  public void extend(int preprocessedOffset, int originalEndOffset) {
+    if (runs > 0 && originalOffsets[runs - 1] < 0 && preprocessedOffsets[runs - 1] == preprocessedOffset - 1) {
+      originalOffsets[runs - 1] = -originalEndOffset - 1;
+    }
+  }
+
+  /**
+   * Removes the first <code>count</code> characters of the preprocessed string
+   * from the map, shifting every remaining offset down by <code>count</code>.
+   * This is used when leading characters are trimmed from the preprocessed
+   * string after it has been built.
+   *
+   * @param count
+   *          The number of leading characters that were removed
+   */
+  public void trimStart(int count) {
+    if (count == 0) {
+      return;
+    }
+    int first = runs;
+    for (int i = 0; i < runs; i++) {
+      if (i + 1 == runs || preprocessedOffsets[i + 1] > count) {
+        first = i;
+        break;
+      }
+    }
+    int kept = 0;
+    for (int i = first; i < runs; i++) {
+      int preprocessedOffset = preprocessedOffsets[i];
+      int originalOffset = originalOffsets[i];
+      if (preprocessedOffset < count) {
+        if (originalOffset >= 0) {
+          originalOffset += count - preprocessedOffset;
+        }
+        preprocessedOffset = count;
+      }
+      preprocessedOffsets[kept] = preprocessedOffset - count;
+      originalOffsets[kept] = originalOffset;
+      kept++;
+    }
+    runs = kept;
+  }
+
+  /**
+   * Returns the offset in the original string of the character at the given
+   * offset of the preprocessed string. A character that replaced layout is
+   * mapped to the end of that layout, so the start of a token (whose extent
+   * may include the character before it) is mapped to the start of the token
+   * in the original string.
+   *
+   * @param preprocessedOffset
+   *          An offset in the preprocessed string
+   * @return The corresponding offset in the original string
+   */
+  public int getOriginalOffset(int preprocessedOffset) {
+    if (runs == 0) {
+      return Math.min(preprocessedOffset, originalLength);
+    }
+    int run = Arrays.binarySearch(preprocessedOffsets, 0, runs, preprocessedOffset);
+    if (run < 0) {
+      run = Math.max(-run - 2, 0);
+    }
+    final int originalOffset = originalOffsets[run];
+    if (originalOffset < 0) {
+      return -originalOffset - 1;
+    }
+    return Math.min(originalOffset + preprocessedOffset - preprocessedOffsets[run], originalLength);
+  }
+
+  /**
+   * Returns the offset in the original string after the character that comes
+   * before the given offset of the preprocessed string. This maps the
+   * (exclusive) right extent of a token to the end of the token in the original
+   * string.
+   *
+   * @param preprocessedOffset
+   *          An offset in the preprocessed string
+   * @return The corresponding end offset in the original string
+   */
+  public int getOriginalEndOffset(int preprocessedOffset) {
+    if (preprocessedOffset == 0) {
+      return getOriginalOffset(0);
+    }
+    int run = Arrays.binarySearch(preprocessedOffsets, 0, runs, preprocessedOffset - 1);
+    if (run < 0) {
+      run = -run - 2;
+    }
+    if (run >= 0 && originalOffsets[run] < 0) {
+      // The character before is layout, so end before the layout
+      return getOriginalEndOffset(preprocessedOffsets[run]);
+    }
+    return getOriginalOffset(preprocessedOffset - 1) + 1;
+  }
+
+  /**
+   * Returns the line (counting from 1) of the given offset of the original
+   * string
+   *
+   * @param originalOffset
+   *          An offset in the original string
+   * @return The line containing the offset
+   */
+  public int getLine(int originalOffset) {
+    final int line = Arrays.binarySearch(lineStarts, originalOffset);
+    return line >= 0 ? line + 1 : -line - 1;
+  }
+
+  /**
+   * Returns the column (counting from 1) of the given offset of the original
+   * string
+   *
+   * @param originalOffset
+   *          An offset in the original string
+   * @return The column of the offset within its line
+   */
+  public int getColumn(int originalOffset) {
+    return originalOffset - lineStarts[getLine(originalOffset) - 1] + 1;
+  }
+
+  /**
+   * Returns the original position of the given extent of the preprocessed
+   * string in the form <em>line</em>:<em>column</em>-<em>line</em>:
+   * <em>column</em>, where the end position is that of the last character of
+   * the extent
+   *
+   * @param leftExtent
+   *          The start of the extent in the preprocessed string
+   * @param rightExtent
+   *          The end (exclusive) of the extent in the preprocessed string
+   * @return The original position of the extent
+   */
+  public String getPosition(int leftExtent, int rightExtent) {
+    final int start = getOriginalOffset(leftExtent);
+    final int end = Math.max(getOriginalEndOffset(rightExtent) - 1, start);
+    return getLine(start) + ":" + getColumn(start) + "-" + getLine(end) + ":" + getColumn(end);
+  }
+
+  /**
+   * Returns the number of runs in the map
+   *
+   * @return The number of runs
+   */
+  public int size() {
+    return runs;
+  }
+
+  /**
+   * Appends a run to the map
+   *
+   * @param preprocessedOffset
+   *          The offset in the preprocessed string at which the run starts
+   * @param originalOffset
+   *          The encoded original offset of the run
+   */
+  private void addRun(int preprocessedOffset, int originalOffset) {
+    if (runs == preprocessedOffsets.length) {
+      preprocessedOffsets = Arrays.copyOf(preprocessedOffsets, runs * 2);
+      originalOffsets = Arrays.copyOf(originalOffsets, runs * 2);
+    }
+    preprocessedOffsets[runs] = preprocessedOffset;
+    originalOffsets[runs] = originalOffset;
+    runs++;
+  }
+}
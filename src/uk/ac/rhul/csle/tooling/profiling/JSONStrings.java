@@ -0,0 +1,55 @@
+package uk.ac.rhul.csle.tooling.profiling;
+
+/**
+ * Writes strings as JSON string literals, for the JSON output of the
+ * profiling classes.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+final class JSONStrings {
+
+  private JSONStrings() {
+  }
+
+  /**
+   * Appends the given string to a builder as a JSON string literal, enclosed
+   * in double quotes. Quotes, backslashes and control characters are escaped,
+   * so the result is valid JSON whatever the string contains.
+   *
+   * @param sb
+   *          The builder to append to
+   * @param s
+   *          The string to append
+   */
+  static void appendQuoted(StringBuilder sb, String s) {
+    sb.append('"');
+    for (int i = 0; i < s.length(); i++) {
+      final char c = s.charAt(i);
+      switch (c) {
+        case '"':
+          sb.append("\\\"");
+          break;
+        case '\\':
+          sb.append("\\\\");
+          break;
+        case '\n':
+          sb.append("\\n");
+          break;
+        case '\r':
+          sb.append("\\r");
+          break;
+        case '\t':
+          sb.append("\\t");
+          break;
+        default:
+          if (c < 0x20) {
+            sb.append(String.format("\\u%04x", (int) c));
+          } else {
+            sb.append(c);
+          }
+      }
+    }
+    sb.append('"');
+  }
+}
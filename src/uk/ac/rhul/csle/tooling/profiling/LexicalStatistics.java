@@ -0,0 +1,317 @@
+package uk.ac.rhul.csle.tooling.profiling;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+import uk.ac.rhul.csle.tooling.lexing.DisambiguationScheme;
+import uk.ac.rhul.csle.tooling.lexing.PackedTripleSet;
+import uk.ac.rhul.csle.tooling.preprocessing.SourcePositionMap;
+
+/**
+ * Records how much lexical ambiguity the lexer found in a single input string,
+ * and how much of it was removed by pruning and by each group of lexical
+ * disambiguation rules, in total and for each line of the unprocessed string.
+ * <p>
+ * For every line the number of triples starting on the line is recorded, along
+ * with the number of those removed by pruning, the number that each rule group
+ * would remove from the pruned set if it were applied on its own, and the
+ * number left after lexical disambiguation. A triple may be removed by more
+ * than one group, so the counts of the groups need not add up to the number
+ * removed by the scheme as a whole. The number of tokenisations embedded in
+ * the TWE set before and after lexical disambiguation is recorded for the
+ * whole string.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class LexicalStatistics {
+
+  /**
+   * The names of the rule groups, in the order they are reported
+   */
+  private final String[] groups;
+
+  /**
+   * The number of triples starting on each line, indexed by line (index 0
+   * holds the total for the whole string)
+   */
+  private final long[] triples;
+
+  /**
+   * The number of triples removed by pruning, indexed by line
+   */
+  private final long[] pruned;
+
+  /**
+   * The number of triples each rule group removes from the pruned set,
+   * indexed by group and then by line
+   */
+  private final long[][] removed;
+
+  /**
+   * The number of triples left after lexical disambiguation, indexed by line
+   */
+  private final long[] disambiguated;
+
+  /**
+   * The number of tokenisations embedded in the pruned TWE set
+   */
+  private final BigInteger tokenisations;
+
+  /**
+   * The number of tokenisations embedded in the disambiguated TWE set
+   */
+  private final BigInteger disambiguatedTokenisations;
+
+  /**
+   * Computes the statistics of an input string
+   *
+   * @param input
+   *          The input string given to the lexer
+   * @param positions
+   *          The map from <code>input</code> back to the unprocessed string,
+   *          or <code>null</code> if the lines of <code>input</code> itself
+   *          should be reported
+   * @param lexed
+   *          The TWE set constructed by the lexer
+   * @param result
+   *          The pruned and disambiguated TWE set
+   * @param ruleGroups
+   *          The rules of each group, compiled for the tokens of
+   *          <code>lexed</code>, keyed by the name of the group
+   */
+  public LexicalStatistics(String input, SourcePositionMap positions, PackedTripleSet lexed, PackedTripleSet result,
+          Map<String, DisambiguationScheme> ruleGroups) {
+    if (positions == null) {
+      positions = new SourcePositionMap(input);
+      positions.copied(0, 0);
+    }
+    final int endIndex = input.length();
+    final int size = lexed.size();
+    final int[] lineOf = new int[size];
+    int lines = 1;
+    for (int i = 0; i < size; i++) {
+      lineOf[i] = positions.getLine(positions.getOriginalOffset(lexed.getLeftExtent(i)));
+      lines = Math.max(lines, lineOf[i] + 1);
+    }
+    groups = ruleGroups.keySet().toArray(new String[0]);
+    triples = new long[lines];
+    pruned = new long[lines];
+    removed = new long[groups.length][lines];
+    disambiguated = new long[lines];
+    for (int i = 0; i < size; i++) {
+      triples[lineOf[i]]++;
+    }
+
+    // Prune the TWE set as the lexer does
+    final boolean[] keep = new boolean[size];
+    final long[] reached = new long[(Math.max(lexed.getHighestRightExtent(), endIndex) >>> 6) + 1];
+    if (lexed.reachForward(keep, reached) >= endIndex) {
+      lexed.reachBackward(endIndex, keep, reached);
+    } else {
+      Arrays.fill(keep, false);
+    }
+    final int[] prunedLineOf = new int[size];
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      if (keep[i]) {
+        prunedLineOf[kept++] = lineOf[i];
+      } else {
+        pruned[lineOf[i]]++;
+      }
+    }
+    final PackedTripleSet tight = lexed.retain(keep, kept);
+
+    // Apply each rule group on its own to the pruned set
+    final int[] starts = new int[tight.getHighestRightExtent() + 1];
+    final int[] order = new int[kept];
+    for (int g = 0; g < groups.length; g++) {
+      ruleGroups.get(groups[g]).apply(tight, keep, starts, order);
+      for (int i = 0; i < kept; i++) {
+        if (!keep[i]) {
+          removed[g][prunedLineOf[i]]++;
+        }
+      }
+    }
+
+    for (int i = 0; i < result.size(); i++) {
+      disambiguated[positions.getLine(positions.getOriginalOffset(result.getLeftExtent(i)))]++;
+    }
+    tokenisations = tight.countPaths(endIndex);
+    disambiguatedTokenisations = result.countPaths(endIndex);
+
+    for (int line = 1; line < lines; line++) {
+      triples[0] += triples[line];
+      pruned[0] += pruned[line];
+      for (int g = 0; g < groups.length; g++) {
+        removed[g][0] += removed[g][line];
+      }
+      disambiguated[0] += disambiguated[line];
+    }
+  }
+
+  /**
+   * Returns the number of triples constructed by the lexer
+   *
+   * @return The number of triples
+   */
+  public long getTriples() {
+    return triples[0];
+  }
+
+  /**
+   * Returns the number of triples removed by pruning
+   *
+   * @return The number of pruned triples
+   */
+  public long getPrunedTriples() {
+    return pruned[0];
+  }
+
+  /**
+   * Returns the number of triples the given rule group removes from the pruned
+   * TWE set when it is applied on its own
+   *
+   * @param group
+   *          The name of the rule group
+   * @return The number of triples removed, or -1 if there is no such group
+   */
+  public long getRemovedTriples(String group) {
+    for (int g = 0; g < groups.length; g++) {
+      if (groups[g].equals(group)) {
+        return removed[g][0];
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the number of triples left after lexical disambiguation
+   *
+   * @return The number of disambiguated triples
+   */
+  public long getDisambiguatedTriples() {
+    return disambiguated[0];
+  }
+
+  /**
+   * Returns the number of tokenisations embedded in the pruned TWE set
+   *
+   * @return The number of tokenisations before lexical disambiguation
+   */
+  public BigInteger getTokenisations() {
+    return tokenisations;
+  }
+
+  /**
+   * Returns the number of tokenisations embedded in the disambiguated TWE set
+   *
+   * @return The number of tokenisations after lexical disambiguation
+   */
+  public BigInteger getDisambiguatedTokenisations() {
+    return disambiguatedTokenisations;
+  }
+
+  /**
+   * Returns the header line matching {@link LexicalStatistics#toCSV(String)}
+   *
+   * @return A comma-separated list of column names
+   */
+  public String csvHeader() {
+    final StringBuilder sb = new StringBuilder("file,line,triples,prunedTriples");
+    for (final String group : groups) {
+      sb.append(',').append(group).append("RemovedTriples");
+    }
+    sb.append(",disambiguatedTriples,tokenisations,disambiguatedTokenisations");
+    return sb.toString();
+  }
+
+  /**
+   * Returns the statistics as CSV lines (see
+   * {@link LexicalStatistics#csvHeader()}): one line for the whole string,
+   * with line number 0, followed by one line for each line of the string on
+   * which some triple starts. The tokenisation counts are only given for the
+   * whole string, and are -1 on the other lines.
+   *
+   * @param name
+   *          The name of the input string the statistics are for
+   * @return The statistics as comma-separated lines, separated by new-line
+   *         characters
+   */
+  public String toCSV(String name) {
+    final StringBuilder sb = new StringBuilder();
+    for (int line = 0; line < triples.length; line++) {
+      if (line != 0 && triples[line] == 0) {
+        continue;
+      }
+      if (line != 0) {
+        sb.append(System.lineSeparator());
+      }
+      sb.append(name).append(',').append(line).append(',').append(triples[line]).append(',').append(pruned[line]);
+      for (int g = 0; g < groups.length; g++) {
+        sb.append(',').append(removed[g][line]);
+      }
+      sb.append(',').append(disambiguated[line]);
+      sb.append(',').append(line == 0 ? tokenisations.toString() : "-1");
+      sb.append(',').append(line == 0 ? disambiguatedTokenisations.toString() : "-1");
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns the statistics as a single-line JSON object. The counts for the
+   * whole string are given at the top level, the counts of the rule groups in
+   * a <code>removedTriples</code> object, and the counts for each line on
+   * which some triple starts in a <code>lines</code> array.
+   *
+   * @param name
+   *          The name of the input string the statistics are for
+   * @return The statistics as a JSON object
+   */
+  public String toJSON(String name) {
+    final StringBuilder sb = new StringBuilder("{\"file\":");
+    JSONStrings.appendQuoted(sb, name);
+    sb.append(',');
+    appendJSONCounts(sb, 0);
+    sb.append(",\"tokenisations\":").append(tokenisations);
+    sb.append(",\"disambiguatedTokenisations\":").append(disambiguatedTokenisations);
+    sb.append(",\"lines\":[");
+    boolean first = true;
+    for (int line = 1; line < triples.length; line++) {
+      if (triples[line] == 0) {
+        continue;
+      }
+      if (!first) {
+        sb.append(',');
+      }
+      first = false;
+      sb.append("{\"line\":").append(line).append(',');
+      appendJSONCounts(sb, line);
+      sb.append('}');
+    }
+    sb.append("]}");
+    return sb.toString();
+  }
+
+  /**
+   * Appends the triple counts of a line as JSON members
+   *
+   * @param sb
+   *          The JSON being built
+   * @param line
+   *          The line, or 0 for the whole string
+   */
+  private void appendJSONCounts(StringBuilder sb, int line) {
+    sb.append("\"triples\":").append(triples[line]);
+    sb.append(",\"prunedTriples\":").append(pruned[line]);
+    sb.append(",\"removedTriples\":{");
+    for (int g = 0; g < groups.length; g++) {
+      if (g != 0) {
+        sb.append(',');
+      }
+      sb.append('"').append(groups[g]).append("\":").append(removed[g][line]);
+    }
+    sb.append("},\"disambiguatedTriples\":").append(disambiguated[line]);
+  }
+}
@@ -0,0 +1,291 @@
+package uk.ac.rhul.csle.tooling.profiling;
+
+import java.util.Arrays;
+
+import uk.ac.rhul.csle.gll.GLLHashPool;
+import uk.ac.rhul.csle.gll.GLLHistogram;
+
+/**
+ * Records the work done by a <code>GLLHashPool</code> parser on a single input
+ * string and the size of the structures it built: the number of descriptors,
+ * GSS nodes and edges, pop elements and SPPF nodes of each kind, the lengths of
+ * the hash chains in each of its tables and the number of bytes of its pool in
+ * use.
+ * <p>
+ * The statistics are computed by the parser itself (see
+ * <code>GLLHashPool.computeStatistics()</code>) and copied out, so they remain
+ * valid after the parser is reused for the next input string. The parser
+ * accumulates the SPPF node kind counts over every call to
+ * <code>computeStatistics()</code>, so a <code>ParseStatistics</code> must be
+ * constructed at most once for each parse.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class ParseStatistics {
+
+  /**
+   * The counts recorded for each parse
+   */
+  public enum Count {
+    DESCRIPTORS("descriptors"), POPPING_DESCRIPTORS("poppingDescriptors"), NONPOPPING_DESCRIPTORS(
+            "nonpoppingDescriptors"), GSS_NODES("gssNodes"), GSS_EDGES("gssEdges"), POP_ELEMENTS(
+                    "popElements"), PRIMARY_POPS("primaryPops"), CONTINGENT_POPS("contingentPops"), SPPF_NODES(
+                            "sppfNodes"), TERMINAL_NODES("terminalNodes"), EPSILON_NODES(
+                                    "epsilonNodes"), NONTERMINAL_NODES("nonterminalNodes"), INTERMEDIATE_NODES(
+                                            "intermediateNodes"), OTHER_NODES("otherNodes"), AMBIGUITY_NODES(
+                                                    "ambiguityNodes"), PACK_NODES("packNodes"), HASH_COLLISIONS(
+                                                            "hashCollisions"), POOL_BYTES("poolBytes");
+
+    /**
+     * The name used for this count in the CSV and JSON output
+     */
+    private final String name;
+
+    Count(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * The hash tables of the parser
+   */
+  public enum Table {
+    SPPF_NODE("sppfNode"), SPPF_PACK_NODE("sppfPackNode"), GSS_NODE("gssNode"), GSS_EDGE("gssEdge"), POP_ELEMENT(
+            "popElement"), DESCRIPTOR("descriptor"), TEST_REPEAT_ELEMENT(
+                    "testRepeatElement"), CLUSTER_ELEMENT("clusterElement");
+
+    /**
+     * The name used for this table in the CSV and JSON output
+     */
+    private final String name;
+
+    Table(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * The value of each count, indexed by <code>Count.ordinal()</code>
+   */
+  private final long[] counts = new long[Count.values().length];
+
+  /**
+   * The number of buckets of each table holding a chain of each length,
+   * indexed by <code>Table.ordinal()</code> and then by chain length
+   */
+  private final long[][] chainLengths = new long[Table.values().length][];
+
+  /**
+   * The number of finds performed on each table, indexed by
+   * <code>Table.ordinal()</code>
+   */
+  private final long[] finds = new long[Table.values().length];
+
+  /**
+   * Computes the statistics of the last parse performed by a parser
+   *
+   * @param parser
+   *          The parser, which must not have been reinitialised since the
+   *          parse
+   */
+  public ParseStatistics(GLLHashPool parser) {
+    parser.computeStatistics();
+
+    set(Count.DESCRIPTORS, parser.descriptorCardinality);
+    set(Count.POPPING_DESCRIPTORS, parser.poppingDescriptors);
+    set(Count.NONPOPPING_DESCRIPTORS, parser.nonpoppingDescriptors);
+    set(Count.GSS_NODES, parser.gssNodeCardinality);
+    set(Count.GSS_EDGES, parser.gssEdgeCardinality);
+    set(Count.POP_ELEMENTS, parser.popElementCardinality);
+    set(Count.PRIMARY_POPS, parser.primaryPops);
+    set(Count.CONTINGENT_POPS, parser.contingentPops);
+    set(Count.SPPF_NODES, parser.sppfNodeCardinality);
+    set(Count.TERMINAL_NODES, parser.sppfTerminalNodes);
+    set(Count.EPSILON_NODES, parser.sppfEpsilonNodes);
+    set(Count.NONTERMINAL_NODES, parser.sppfNonterminalNodes);
+    set(Count.INTERMEDIATE_NODES, parser.sppfIntermediateNodes);
+    set(Count.OTHER_NODES, parser.sppfOtherNodes);
+    set(Count.AMBIGUITY_NODES, parser.sppfAmbiguityNodes);
+    set(Count.PACK_NODES, parser.sppfPackNodeCardinality);
+    set(Count.HASH_COLLISIONS, parser.hashCollisions);
+    // The pool is an array of ints, allocated from the start
+    set(Count.POOL_BYTES, parser.getFirstUnusedElement() * 4L);
+
+    setTable(Table.SPPF_NODE, parser.sppfNodeHistogram, parser.sppfNodeFinds);
+    setTable(Table.SPPF_PACK_NODE, parser.sppfPackNodeHistogram, parser.sppfPackNodeFinds);
+    setTable(Table.GSS_NODE, parser.gssNodeHistogram, parser.gssNodeFinds);
+    setTable(Table.GSS_EDGE, parser.gssEdgeHistogram, parser.gssEdgeFinds);
+    setTable(Table.POP_ELEMENT, parser.popElementHistogram, parser.popElementFinds);
+    setTable(Table.DESCRIPTOR, parser.descriptorHistogram, parser.descriptorFinds);
+    setTable(Table.TEST_REPEAT_ELEMENT, parser.testRepeatElementHistogram, parser.testRepeatElementFinds);
+    setTable(Table.CLUSTER_ELEMENT, parser.clusterElementHistogram, parser.clusterElementFinds);
+  }
+
+  /**
+   * Returns the value of a count
+   *
+   * @param count
+   *          The count
+   * @return The value of the count
+   */
+  public long get(Count count) {
+    return counts[count.ordinal()];
+  }
+
+  /**
+   * Returns the number of buckets of a table holding a chain of each length
+   *
+   * @param table
+   *          The table
+   * @return An array, indexed by chain length, of the number of buckets whose
+   *         chain has that length (a copy, which may be modified)
+   */
+  public long[] getChainLengths(Table table) {
+    return chainLengths[table.ordinal()].clone();
+  }
+
+  /**
+   * Returns the length of the longest hash chain in a table
+   *
+   * @param table
+   *          The table
+   * @return The length of the longest chain
+   */
+  public int getLongestChain(Table table) {
+    return chainLengths[table.ordinal()].length - 1;
+  }
+
+  /**
+   * Returns the number of finds performed on a table during the parse
+   *
+   * @param table
+   *          The table
+   * @return The number of finds
+   */
+  public long getFinds(Table table) {
+    return finds[table.ordinal()];
+  }
+
+  /**
+   * Returns the header line matching {@link ParseStatistics#toCSV(String)}
+   *
+   * @return A comma-separated list of column names
+   */
+  public static String csvHeader() {
+    final StringBuilder sb = new StringBuilder("file");
+    for (final Count count : Count.values()) {
+      sb.append(',').append(count);
+    }
+    for (final Table table : Table.values()) {
+      sb.append(',').append(table).append("Finds,").append(table).append("LongestChain");
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns the statistics as a CSV line (see
+   * {@link ParseStatistics#csvHeader()}). Only the longest chain of each table
+   * is given; the full chain length histograms are only written by
+   * {@link ParseStatistics#toJSON(String)}.
+   *
+   * @param name
+   *          The name of the input string the statistics are for
+   * @return The statistics as a comma-separated line
+   */
+  public String toCSV(String name) {
+    final StringBuilder sb = new StringBuilder(name);
+    for (final long count : counts) {
+      sb.append(',').append(count);
+    }
+    for (final Table table : Table.values()) {
+      sb.append(',').append(getFinds(table)).append(',').append(getLongestChain(table));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Returns the statistics as a single-line JSON object. The counts are given
+   * at the top level, and the finds and chain length histogram of each table
+   * in a <code>tables</code> object keyed by the name of the table.
+   *
+   * @param name
+   *          The name of the input string the statistics are for
+   * @return The statistics as a JSON object
+   */
+  public String toJSON(String name) {
+    final StringBuilder sb = new StringBuilder("{\"file\":");
+    JSONStrings.appendQuoted(sb, name);
+    for (final Count count : Count.values()) {
+      sb.append(",\"").append(count).append("\":").append(get(count));
+    }
+    sb.append(",\"tables\":{");
+    for (final Table table : Table.values()) {
+      if (table.ordinal() != 0) {
+        sb.append(',');
+      }
+      sb.append('"').append(table).append("\":{\"finds\":").append(getFinds(table)).append(",\"chainLengths\":[");
+      final long[] lengths = chainLengths[table.ordinal()];
+      for (int length = 0; length < lengths.length; length++) {
+        if (length != 0) {
+          sb.append(',');
+        }
+        sb.append(lengths[length]);
+      }
+      sb.append("]}");
+    }
+    sb.append("}}");
+    return sb.toString();
+  }
+
+  /**
+   * Sets the value of a count
+   *
+   * @param count
+   *          The count
+   * @param value
+   *          The value of the count
+   */
+  private void set(Count count, long value) {
+    counts[count.ordinal()] = value;
+  }
+
+  /**
+   * Copies the chain length histogram and number of finds of a table
+   *
+   * @param table
+   *          The table
+   * @param histogram
+   *          The histogram of the chain lengths of the table, as computed by
+   *          the parser
+   * @param tableFinds
+   *          The number of finds performed on the table
+   */
+  private void setTable(Table table, GLLHistogram histogram, long tableFinds) {
+    // The histogram cannot be iterated from outside its package, so probe each
+    // chain length in turn until every bucket has been accounted for
+    final long buckets = histogram.sumBuckets();
+    long[] lengths = new long[8];
+    long seen = 0;
+    int length = 0;
+    for (; seen < buckets; length++) {
+      if (length == lengths.length) {
+        lengths = Arrays.copyOf(lengths, length * 2);
+      }
+      lengths[length] = histogram.bucketValue(length);
+      seen += lengths[length];
+    }
+    chainLengths[table.ordinal()] = Arrays.copyOf(lengths, Math.max(length, 1));
+    finds[table.ordinal()] = tableFinds;
+  }
+}
@@ -0,0 +1,407 @@
+package uk.ac.rhul.csle.tooling.profiling;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Records the cost of each stage of the pipeline run by a
+ * <code>TreeBuilder</code> for a single input string, along with the size of
+ * the structure each stage produced.
+ * <p>
+ * For every stage the wall time, the CPU time of the current thread and the
+ * number of bytes allocated by the current thread are recorded using the
+ * platform <code>ThreadMXBean</code>. CPU time and allocation are reported as
+ * -1 if the JVM does not support measuring them.
+ * <p>
+ * A disabled profile ignores all calls, so the instrumentation costs nothing
+ * unless it is switched on.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class PipelineProfile {
+
+  /**
+   * The stages of the pipeline, in the order they are run
+   */
+  public enum Stage {
+    PREPROCESS("preprocess"), LEX("lexSegmented"), DISAMBIGUATE("disambiguate"), TO_TOK("toTok"), PARSE(
+            "parse"), FILTER_SPPF("filterSPPF"), GENERATE_DPPF("generateDerivationPPF"), CLONE("clone"), TO_AST(
+                    "toAST");
+
+    /**
+     * The name used for this stage in the CSV and JSON output
+     */
+    private final String name;
+
+    Stage(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * The sizes recorded for the structures built by the pipeline
+   */
+  public enum Size {
+    INPUT_LENGTH("inputLength"), TRIPLES("triples"), DISAMBIGUATED_TRIPLES("disambiguatedTriples"), SPPF_NODES(
+            "sppfNodes"), PACK_NODES("packNodes"), DPPF_NODES("dppfNodes"), AST_NODES("astNodes");
+
+    /**
+     * The name used for this size in the CSV and JSON output
+     */
+    private final String name;
+
+    Size(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  /**
+   * The bean used to measure the CPU time and allocation of the current thread
+   */
+  private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+  /**
+   * True if the allocation of the current thread can be measured
+   */
+  private static final boolean allocationSupported = threads instanceof com.sun.management.ThreadMXBean
+          && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()
+          && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemoryEnabled();
+
+  /**
+   * True if the CPU time of the current thread can be measured
+   */
+  private static final boolean cpuTimeSupported = threads.isCurrentThreadCpuTimeSupported()
+          && threads.isThreadCpuTimeEnabled();
+
+  /**
+   * The measurements for each stage, indexed by <code>Stage.ordinal()</code>
+   * (-1 if the stage has not been run)
+   */
+  private final long[] wallTime, cpuTime, allocatedBytes;
+
+  /**
+   * The recorded sizes, indexed by <code>Size.ordinal()</code> (-1 if the size
+   * has not been recorded)
+   */
+  private final long[] sizes;
+
+  /**
+   * The number of derivations left in the SPPF after filtering
+   * (<code>null</code> if not recorded)
+   */
+  private BigInteger remainingDerivations;
+
+  /**
+   * The stage currently being measured (<code>null</code> if none)
+   */
+  private Stage current;
+
+  /**
+   * The measurements taken at the start of the current stage
+   */
+  private long startWallTime, startCpuTime, startAllocatedBytes;
+
+  /**
+   * True if measurements should be recorded
+   */
+  private boolean enabled;
+
+  /**
+   * Constructs a new, disabled, <code>PipelineProfile</code>
+   */
+  public PipelineProfile() {
+    wallTime = new long[Stage.values().length];
+    cpuTime = new long[Stage.values().length];
+    allocatedBytes = new long[Stage.values().length];
+    sizes = new long[Size.values().length];
+    clear();
+  }
+
+  /**
+   * Discards all measurements.
+   */
+  public void clear() {
+    Arrays.fill(wallTime, -1);
+    Arrays.fill(cpuTime, -1);
+    Arrays.fill(allocatedBytes, -1);
+    Arrays.fill(sizes, -1);
+    remainingDerivations = null;
+    current = null;
+  }
+
+  /**
+   * Returns true if measurements are being recorded
+   *
+   * @return True if measurements are being recorded
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Switches recording of measurements on or off
+   *
+   * @param enabled
+   *          True if measurements should be recorded
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Starts measuring the given stage. Any stage that is still being measured
+   * is stopped first.
+   *
+   * @param stage
+   *          The stage that is about to run
+   */
+  public void start(Stage stage) {
+    if (!enabled) {
+      return;
+    }
+    stop();
+    current = stage;
+    startAllocatedBytes = currentAllocatedBytes();
+    startCpuTime = cpuTimeSupported ? threads.getCurrentThreadCpuTime() : -1;
+    startWallTime = System.nanoTime();
+  }
+
+  /**
+   * Stops measuring the current stage. If a stage is run more than once its
+   * measurements are accumulated.
+   */
+  public void stop() {
+    if (!enabled || current == null) {
+      return;
+    }
+    final long endWallTime = System.nanoTime();
+    final long endCpuTime = cpuTimeSupported ? threads.getCurrentThreadCpuTime() : -1;
+    final long endAllocatedBytes = currentAllocatedBytes();
+    final int index = current.ordinal();
+    wallTime[index] = Math.max(wallTime[index], 0) + endWallTime - startWallTime;
+    if (cpuTimeSupported) {
+      cpuTime[index] = Math.max(cpuTime[index], 0) + endCpuTime - startCpuTime;
+    }
+    if (allocationSupported) {
+      allocatedBytes[index] = Math.max(allocatedBytes[index], 0) + endAllocatedBytes - startAllocatedBytes;
+    }
+    current = null;
+  }
+
+  /**
+   * Records a size
+   *
+   * @param size
+   *          The size being recorded
+   * @param value
+   *          The value of the size
+   */
+  public void setSize(Size size, long value) {
+    if (enabled) {
+      sizes[size.ordinal()] = value;
+    }
+  }
+
+  /**
+   * Records the number of derivations left in the SPPF after filtering
+   *
+   * @param remainingDerivations
+   *          The number of remaining derivations
+   */
+  public void setRemainingDerivations(BigInteger remainingDerivations) {
+    if (enabled) {
+      this.remainingDerivations = remainingDerivations;
+    }
+  }
+
+  /**
+   * Returns the number of derivations left in the SPPF after filtering
+   *
+   * @return The number of remaining derivations, or <code>null</code> if it
+   *         was not recorded
+   */
+  public BigInteger getRemainingDerivations() {
+    return remainingDerivations;
+  }
+
+  /**
+   * Returns the wall time of the given stage in nanoseconds
+   *
+   * @param stage
+   *          The stage
+   * @return The wall time of the stage, or -1 if it was not measured
+   */
+  public long getWallTime(Stage stage) {
+    return wallTime[stage.ordinal()];
+  }
+
+  /**
+   * Returns the CPU time of the given stage in nanoseconds
+   *
+   * @param stage
+   *          The stage
+   * @return The CPU time of the stage, or -1 if it was not measured
+   */
+  public long getCpuTime(Stage stage) {
+    return cpuTime[stage.ordinal()];
+  }
+
+  /**
+   * Returns the number of bytes allocated by the given stage
+   *
+   * @param stage
+   *          The stage
+   * @return The number of bytes allocated, or -1 if it was not measured
+   */
+  public long getAllocatedBytes(Stage stage) {
+    return allocatedBytes[stage.ordinal()];
+  }
+
+  /**
+   * Returns the given size
+   *
+   * @param size
+   *          The size
+   * @return The value of the size, or -1 if it was not recorded
+   */
+  public long getSize(Size size) {
+    return sizes[size.ordinal()];
+  }
+
+  /**
+   * Returns the total wall time of all measured stages in nanoseconds
+   *
+   * @return The total wall time of all measured stages
+   */
+  public long getTotalWallTime() {
+    long total = 0;
+    for (final long time : wallTime) {
+      total += Math.max(time, 0);
+    }
+    return total;
+  }
+
+  /**
+   * Returns the header line matching {@link PipelineProfile#toCSV(String)}.
+   * Wall and CPU times are given in microseconds.
+   *
+   * @return A comma-separated list of column names
+   */
+  public static String csvHeader() {
+    final StringBuilder sb = new StringBuilder("file");
+    for (final Stage stage : Stage.values()) {
+      sb.append(',').append(stage).append("WallMicros");
+      sb.append(',').append(stage).append("CpuMicros");
+      sb.append(',').append(stage).append("AllocatedBytes");
+    }
+    for (final Size size : Size.values()) {
+      sb.append(',').append(size);
+    }
+    sb.append(",remainingDerivations");
+    return sb.toString();
+  }
+
+  /**
+   * Returns the measurements as a single CSV line (see
+   * {@link PipelineProfile#csvHeader()})
+   *
+   * @param name
+   *          The name of the input string the measurements are for
+   * @return The measurements as a comma-separated line
+   */
+  public String toCSV(String name) {
+    final StringBuilder sb = new StringBuilder(name);
+    for (final Stage stage : Stage.values()) {
+      sb.append(',').append(toMicros(getWallTime(stage)));
+      sb.append(',').append(toMicros(getCpuTime(stage)));
+      sb.append(',').append(getAllocatedBytes(stage));
+    }
+    for (final Size size : Size.values()) {
+      sb.append(',').append(getSize(size));
+    }
+    sb.append(',').append(remainingDerivations == null ? "-1" : remainingDerivations.toString());
+    return sb.toString();
+  }
+
+  /**
+   * Returns the measurements as a single-line JSON object, with the stages in
+   * a <code>stages</code> object and the sizes in a <code>sizes</code> object.
+   * Times are given in nanoseconds.
+   *
+   * @param name
+   *          The name of the input string the measurements are for
+   * @return The measurements as a JSON object
+   */
+  public String toJSON(String name) {
+    final StringBuilder sb = new StringBuilder("{\"file\":");
+    JSONStrings.appendQuoted(sb, name);
+    sb.append(",\"stages\":{");
+    boolean first = true;
+    for (final Stage stage : Stage.values()) {
+      if (getWallTime(stage) == -1) {
+        continue;
+      }
+      if (!first) {
+        sb.append(',');
+      }
+      first = false;
+      sb.append('"').append(stage).append("\":{\"wallNanos\":").append(getWallTime(stage));
+      sb.append(",\"cpuNanos\":").append(getCpuTime(stage));
+      sb.append(",\"allocatedBytes\":").append(getAllocatedBytes(stage)).append('}');
+    }
+    sb.append("},\"sizes\":{");
+    first = true;
+    for (final Size size : Size.values()) {
+      if (getSize(size) == -1) {
+        continue;
+      }
+      if (!first) {
+        sb.append(',');
+      }
+      first = false;
+      sb.append('"').append(size).append("\":").append(getSize(size));
+    }
+    sb.append('}');
+    if (remainingDerivations != null) {
+      sb.append(",\"remainingDerivations\":").append(remainingDerivations);
+    }
+    sb.append('}');
+    return sb.toString();
+  }
+
+  /**
+   * Returns the number of bytes allocated so far by the current thread
+   *
+   * @return The number of bytes allocated, or -1 if this cannot be measured
+   */
+  private static long currentAllocatedBytes() {
+    if (!allocationSupported) {
+      return -1;
+    }
+    return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  /**
+   * Converts a time in nanoseconds to microseconds, leaving -1 unchanged
+   *
+   * @param nanos
+   *          A time in nanoseconds
+   * @return The time in microseconds
+   */
+  private static long toMicros(long nanos) {
+    return nanos == -1 ? -1 : nanos / 1000;
+  }
+}
@@ -1,8 +1,13 @@
 package uk.ac.rhul.csle.tooling.trees;
 
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicLong;
 
 import uk.ac.rhul.csle.gll.GLLSupport;
+import uk.ac.rhul.csle.tooling.preprocessing.SourcePositionMap;
 
 /**
  * A data structure representing a node in a derivation structure. This node can
@@ -14,16 +19,12 @@ import uk.ac.rhul.csle.gll.GLLSupport;
  */
 public class BaseDerivationNode {
 
-  /**
-   * A value used to keep track of indentation whilst printing this node
-   */
-  private static int stackDepth = 0;
-
   /**
    * A unique number that is generated for each new
-   * <code>BaseDerivationNode</code> created
+   * <code>BaseDerivationNode</code> created (shared by every thread that builds
+   * trees, so it must be updated atomically)
    */
-  private static long uniqueNumber = 0;
+  private static final AtomicLong uniqueNumber = new AtomicLong();
 
   /**
    * The type of symbol that this node represents (terminal, non-terminal,
@@ -53,6 +54,12 @@ public class BaseDerivationNode {
    */
   protected String textLabel;
 
+  /**
+   * The ID of the lexeme labelling this node in a <code>SymbolTable</code>, or
+   * -1 if the label has not been interned
+   */
+  protected int symbol = -1;
+
   /**
    * Creates a node that is a copy of an existing node
    *
@@ -63,6 +70,7 @@ public class BaseDerivationNode {
     initialise(cloneObject.leftExtent, cloneObject.rightExtent);
     labelKind = cloneObject.labelKind;
     textLabel = cloneObject.textLabel;
+    symbol = cloneObject.symbol;
   }
 
   /**
@@ -321,6 +329,18 @@ public class BaseDerivationNode {
     return sibling;
   }
 
+  /**
+   * Returns the ID of the lexeme labelling this node
+   *
+   * @return The ID in the <code>SymbolTable</code> the label was interned in,
+   *         or -1 if the label has not been interned
+   *
+   * @see BaseDerivationNode#internUnderlyingString(String, SymbolTable)
+   */
+  public int getSymbol() {
+    return symbol;
+  }
+
   /**
    * Returns the label of this node
    *
@@ -354,7 +374,23 @@ public class BaseDerivationNode {
   private void initialise(int leftExtent, int rightExtent) {
     this.leftExtent = leftExtent;
     this.rightExtent = rightExtent;
-    newID = uniqueNumber++;
+    newID = uniqueNumber.getAndIncrement();
+  }
+
+  /**
+   * Relabels this node with the underlying character sequence that it covers,
+   * interned in the given symbol table, and records the ID of the sequence.
+   * The label is the same as {@link #getUnderlyingString(String)}, but is
+   * shared with every other node covering the same sequence.
+   *
+   * @param inputString
+   *          The original input string (required for context)
+   * @param symbols
+   *          The table to intern the underlying character sequence in
+   */
+  public void internUnderlyingString(String inputString, SymbolTable symbols) {
+    symbol = symbols.intern(inputString, leftExtent, rightExtent);
+    textLabel = symbols.getSymbol(symbol);
   }
 
   /**
@@ -430,13 +466,26 @@ public class BaseDerivationNode {
   }
 
   /**
-   * Sets the label of this node
+   * Sets the ID of the lexeme labelling this node
+   *
+   * @param symbol
+   *          The ID of the label in a <code>SymbolTable</code>, or -1 if it
+   *          has not been interned
+   */
+  public void setSymbol(int symbol) {
+    this.symbol = symbol;
+  }
+
+  /**
+   * Sets the label of this node. The label is no longer an interned lexeme, so
+   * the ID of the label is reset to -1.
    *
    * @param textLabel
    *          The new label for this node
    */
   public void setTextLabel(String textLabel) {
     this.textLabel = textLabel;
+    symbol = -1;
   }
 
   @Override
@@ -454,10 +503,42 @@ public class BaseDerivationNode {
    */
   public String toTreeString() {
     final StringBuilder sb = new StringBuilder();
+    appendTreeString(sb, 0, null);
+    return sb.toString();
+  }
 
-    if (getParent() == null) {
-      stackDepth = 0;
-    }
+  /**
+   * Returns the tree string of this node as described in
+   * {@link BaseDerivationNode#toTreeString()}, with the position of every node
+   * in the original string appended to its label in the form
+   * <code>@</code><em>line</em>:<em>column</em>-<em>line</em>:<em>column</em>
+   *
+   * @param positions
+   *          The map from the string the extents refer to back to the
+   *          original string
+   * @return A string representation of the tree with original positions
+   */
+  public String toTreeString(SourcePositionMap positions) {
+    final StringBuilder sb = new StringBuilder();
+    appendTreeString(sb, 0, positions);
+    return sb.toString();
+  }
+
+  /**
+   * Appends the tree string of this node (as described in
+   * {@link BaseDerivationNode#toTreeString()}) to the given builder. The
+   * indentation depth is passed down the recursion rather than being kept in
+   * shared state, so that trees can be printed from several threads at once.
+   *
+   * @param sb
+   *          The builder to append to
+   * @param stackDepth
+   *          The indentation depth of this node
+   * @param positions
+   *          The map used to append the original position of each node, or
+   *          <code>null</code> if no positions should be appended
+   */
+  private void appendTreeString(StringBuilder sb, int stackDepth, SourcePositionMap positions) {
     if (labelKind != GLLSupport.ART_K_EPSILON) {
       if (labelKind == GLLSupport.ART_K_CASE_INSENSITIVE_TERMINAL) {
         sb.append('\"');
@@ -482,6 +563,9 @@ public class BaseDerivationNode {
       } else if (labelKind == GLLSupport.ART_K_CASE_SENSITIVE_TERMINAL) {
         sb.append('\'');
       }
+      if (positions != null) {
+        sb.append('@').append(positions.getPosition(leftExtent, rightExtent));
+      }
 
       if (child != null) {
         if (child.getLabelKind() != GLLSupport.ART_K_EPSILON && child.getSibling() == null) {
@@ -493,18 +577,16 @@ public class BaseDerivationNode {
             sb.append("  ");
           }
         }
-        stackDepth++;
-        sb.append(child.toTreeString());
+        child.appendTreeString(sb, stackDepth + 1, positions);
         for (BaseDerivationNode tmp = child.getSibling(); tmp != null; tmp = tmp.getSibling()) {
           if (tmp.getLabelKind() != GLLSupport.ART_K_EPSILON) {
             sb.append(' ' + "\n");
-            for (int i = 0; i < stackDepth; i++) {
+            for (int i = 0; i < stackDepth + 1; i++) {
               sb.append("  ");
             }
-            sb.append(tmp.toTreeString());
+            tmp.appendTreeString(sb, stackDepth + 1, positions);
           }
         }
-        stackDepth--;
         if (child.getLabelKind() != GLLSupport.ART_K_EPSILON && child.getSibling() == null) {
           sb.append(")");
 
@@ -518,6 +600,43 @@ public class BaseDerivationNode {
 
       }
     }
-    return sb.toString();
+  }
+
+  /**
+   * Writes the tree rooted at this node in a compact binary form. Nodes are
+   * written in pre-order, each as
+   * <ul>
+   * <li>the label kind (one byte)</li>
+   * <li>the length of the UTF-8 encoded label (int) followed by the label</li>
+   * <li>the left and right extents (two ints)</li>
+   * <li>the number of children that follow (int)</li>
+   * </ul>
+   * As with {@link BaseDerivationNode#toTreeString()}, epsilon nodes are
+   * omitted and ambiguity nodes are labelled <code>ambig</code>.
+   *
+   * @param out
+   *          The output to write the tree to
+   * @throws IOException
+   *           If the tree cannot be written to <code>out</code>
+   */
+  public void writeTree(DataOutput out) throws IOException {
+    final byte[] label = (textLabel.equals(" EOS $") ? "ambig" : textLabel).getBytes(StandardCharsets.UTF_8);
+    out.writeByte(labelKind);
+    out.writeInt(label.length);
+    out.write(label);
+    out.writeInt(leftExtent);
+    out.writeInt(rightExtent);
+    int children = 0;
+    for (BaseDerivationNode tmp = child; tmp != null; tmp = tmp.getSibling()) {
+      if (tmp.getLabelKind() != GLLSupport.ART_K_EPSILON) {
+        children++;
+      }
+    }
+    out.writeInt(children);
+    for (BaseDerivationNode tmp = child; tmp != null; tmp = tmp.getSibling()) {
+      if (tmp.getLabelKind() != GLLSupport.ART_K_EPSILON) {
+        tmp.writeTree(out);
+      }
+    }
   }
 }
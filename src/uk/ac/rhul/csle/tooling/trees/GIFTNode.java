@@ -121,6 +121,7 @@ public class GIFTNode extends BaseDerivationNode {
   public void foldOver() {
     if (parent != null) {
       parent.setTextLabel(textLabel);
+      parent.setSymbol(symbol);
       parent.deleteChild(this);
     } else {
       System.err.println("Cannot fold the root.");
@@ -4,6 +4,7 @@ import java.util.HashMap;
 
 import uk.ac.rhul.csle.gll.GLLSupport;
 import uk.ac.rhul.csle.gll.GLLVisitor;
+import uk.ac.rhul.csle.tooling.parsing.ParseSizeModel;
 
 /**
  * A class which extends <code>GLLVisitor</code> providing an interface for ART
@@ -47,6 +48,21 @@ public class GIFTVisitor extends GLLVisitor {
     nodeMatrix = new HashMap<Integer, GIFTNode>();
   }
 
+  /**
+   * Constructs a new <code>GIFTVisitor</code> with the given ART generated
+   * parser context, sized for the given number of nodes
+   * 
+   * @param parser
+   *          The ART generated parser context
+   * @param expectedNodes
+   *          The number of nodes expected to be visited (see
+   *          {@link ParseSizeModel#expectedDerivationNodes(int)})
+   */
+  public GIFTVisitor(GLLSupport parser, int expectedNodes) {
+    super(parser);
+    nodeMatrix = new HashMap<Integer, GIFTNode>(ParseSizeModel.hashMapCapacity(expectedNodes));
+  }
+
   /**
    * @see GLLVisitor#visit(int, int, int, int, int, int)
    */
@@ -0,0 +1,175 @@
+package uk.ac.rhul.csle.tooling.trees;
+
+/**
+ * Interns the lexemes of identifiers and literals as integer IDs, so that every
+ * occurrence of a name in the trees built from one or more input strings shares
+ * a single <code>String</code> and can be compared with other names by ID.
+ * <p>
+ * IDs are allocated from 0 in the order that lexemes are first interned, and
+ * remain valid until the table is cleared. A table that outlives a batch of
+ * inputs, such as the table of a builder kept by a server, should be cleared
+ * between inputs so that it does not grow without bound. Lexemes are looked
+ * up directly in the input string, so no substring is made for a lexeme that
+ * has already been interned. The methods are synchronized, so a single table
+ * may be shared by builders running on different threads.
+ *
+ * @author Robert Michael Walsh
+ *
+ */
+public class SymbolTable {
+
+  /**
+   * The lexeme of each ID
+   */
+  private String[] symbols = new String[64];
+
+  /**
+   * The hash code of the lexeme of each ID
+   */
+  private int[] hashes = new int[64];
+
+  /**
+   * The open-addressed hash table from lexemes to IDs, holding ID + 1 in each
+   * occupied slot and 0 in each free slot. Its length is a power of two, at
+   * least twice the number of IDs.
+   */
+  private int[] table = new int[128];
+
+  /**
+   * The number of IDs allocated
+   */
+  private int size;
+
+  /**
+   * Returns the ID of the given region of an input string, with leading and
+   * trailing white space removed as by <code>String.trim()</code>, allocating
+   * a new ID if the lexeme has not been interned before
+   *
+   * @param input
+   *          The input string
+   * @param start
+   *          The index of the first character of the region
+   * @param end
+   *          The index after the last character of the region
+   * @return The ID of the lexeme
+   */
+  public synchronized int intern(CharSequence input, int start, int end) {
+    while (start < end && input.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && input.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + input.charAt(i);
+    }
+
+    int mask = table.length - 1;
+    int slot = (hash ^ hash >>> 16) & mask;
+    for (int entry; (entry = table[slot]) != 0; slot = slot + 1 & mask) {
+      if (hashes[entry - 1] == hash && matches(symbols[entry - 1], input, start, end)) {
+        return entry - 1;
+      }
+    }
+
+    if (size == symbols.length) {
+      final String[] newSymbols = new String[size * 2];
+      System.arraycopy(symbols, 0, newSymbols, 0, size);
+      symbols = newSymbols;
+      final int[] newHashes = new int[size * 2];
+      System.arraycopy(hashes, 0, newHashes, 0, size);
+      hashes = newHashes;
+    }
+    symbols[size] = input.subSequence(start, end).toString();
+    hashes[size] = hash;
+    table[slot] = ++size;
+
+    if (size * 2 > table.length) {
+      table = new int[table.length * 2];
+      mask = table.length - 1;
+      for (int id = 0; id < size; id++) {
+        slot = (hashes[id] ^ hashes[id] >>> 16) & mask;
+        while (table[slot] != 0) {
+          slot = slot + 1 & mask;
+        }
+        table[slot] = id + 1;
+      }
+    }
+    return size - 1;
+  }
+
+  /**
+   * Returns the ID of the given lexeme, allocating a new ID if it has not been
+   * interned before
+   *
+   * @param symbol
+   *          The lexeme
+   * @return The ID of the lexeme
+   */
+  public int intern(String symbol) {
+    return intern(symbol, 0, symbol.length());
+  }
+
+  /**
+   * Returns the lexeme of an ID
+   *
+   * @param id
+   *          The ID
+   * @return The interned lexeme
+   * @throws IndexOutOfBoundsException
+   *           If no such ID has been allocated
+   */
+  public synchronized String getSymbol(int id) {
+    if (id < 0 || id >= size) {
+      throw new IndexOutOfBoundsException("No symbol with ID " + id);
+    }
+    return symbols[id];
+  }
+
+  /**
+   * Discards every ID, returning the table to its initial size. Trees built
+   * before the table was cleared keep their lexemes, but their IDs no longer
+   * identify them.
+   */
+  public synchronized void clear() {
+    symbols = new String[64];
+    hashes = new int[64];
+    table = new int[128];
+    size = 0;
+  }
+
+  /**
+   * Returns the number of IDs allocated
+   *
+   * @return The number of distinct lexemes interned
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  /**
+   * Determines whether a lexeme is equal to a region of an input string
+   *
+   * @param symbol
+   *          The lexeme
+   * @param input
+   *          The input string
+   * @param start
+   *          The index of the first character of the region
+   * @param end
+   *          The index after the last character of the region
+   * @return True if the lexeme and the region are equal
+   */
+  private static boolean matches(String symbol, CharSequence input, int start, int end) {
+    if (symbol.length() != end - start) {
+      return false;
+    }
+    for (int i = 0; i < symbol.length(); i++) {
+      if (symbol.charAt(i) != input.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -1,13 +1,39 @@
 package uk.ac.rhul.csle.tooling.trees;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigInteger;
-
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import uk.ac.rhul.csle.gll.GLLHashPool;
 import uk.ac.rhul.csle.gll.GLLSupport;
-import uk.ac.rhul.csle.tooling.CSCompiler.CSLexer;
 import uk.ac.rhul.csle.tooling.lexer.MultiLexer;
+import uk.ac.rhul.csle.tooling.lexer.TokenTriple;
+import uk.ac.rhul.csle.tooling.lexing.DisambiguationScheme;
+import uk.ac.rhul.csle.tooling.lexing.PackedTripleSet;
+import uk.ac.rhul.csle.tooling.lexing.ProductLexer;
+import uk.ac.rhul.csle.tooling.parsing.CompactSPPF;
+import uk.ac.rhul.csle.tooling.parsing.CompactingParser;
 import uk.ac.rhul.csle.tooling.parsing.DerivationCounter;
 import uk.ac.rhul.csle.tooling.parsing.InvalidParseException;
+import uk.ac.rhul.csle.tooling.parsing.ParseSizeModel;
+import uk.ac.rhul.csle.tooling.parsing.TWESetParser;
 import uk.ac.rhul.csle.tooling.parsing.reduction.EmbeddedTreeReductor;
+import uk.ac.rhul.csle.tooling.preprocessing.SourcePositionMap;
+import uk.ac.rhul.csle.tooling.profiling.LexicalStatistics;
+import uk.ac.rhul.csle.tooling.profiling.ParseStatistics;
+import uk.ac.rhul.csle.tooling.profiling.PipelineProfile;
+import uk.ac.rhul.csle.tooling.profiling.PipelineProfile.Size;
+import uk.ac.rhul.csle.tooling.profiling.PipelineProfile.Stage;
 
 /**
  * A class that brings together a lexer, parser, derivation tree reduction
@@ -24,6 +50,20 @@ public class TreeBuilder {
    */
   private String currentInput;
 
+  /**
+   * The map from the input string back to the unprocessed string it was
+   * produced from (<code>null</code> if the input string was not preprocessed
+   * by this <code>TreeBuilder</code>)
+   */
+  private SourcePositionMap positions;
+
+  /**
+   * The number of triples in the TWE set handed to the parser for the input
+   * string (0 if the parser read <code>toTok</code> text), from which the sizes
+   * of the structures built from the parse are predicted
+   */
+  private int currentTriples;
+
   /**
    * The root of the derivation tree that was constructed by the parser
    */
@@ -60,6 +100,63 @@ public class TreeBuilder {
    */
   protected boolean debugging;
 
+  /**
+   * The per-stage measurements of the last input string processed (only
+   * recorded while profiling is enabled)
+   */
+  private final PipelineProfile profile = new PipelineProfile();
+
+  /**
+   * The rule groups whose effect is recorded in the lexical statistics, keyed
+   * by name (<code>null</code> if no statistics are recorded)
+   */
+  private Map<String, DisambiguationScheme> ruleGroups;
+
+  /**
+   * The lexical statistics of the last input string (<code>null</code> if none
+   * were recorded)
+   */
+  private LexicalStatistics lexicalStatistics;
+
+  /**
+   * True if the parse statistics of each input string should be recorded
+   */
+  private boolean recordParseStatistics;
+
+  /**
+   * The parse statistics of the last input string (<code>null</code> if none
+   * were recorded)
+   */
+  private ParseStatistics parseStatistics;
+
+  /**
+   * The directory that filtered SPPFs are cached in (<code>null</code> if
+   * SPPFs are not cached)
+   */
+  private Path sppfCache;
+
+  /**
+   * The cache file for the SPPF of the current input string
+   * (<code>null</code> if it is not cached)
+   */
+  private Path sppfCacheFile;
+
+  /**
+   * The input string that <code>sppfCacheFile</code> is for
+   */
+  private String sppfCacheInput;
+
+  /**
+   * The SHA-256 digest of the grammar, lexer, derivation reduction rules and
+   * input string of the cached SPPF
+   */
+  private byte[] sppfCacheKey;
+
+  /**
+   * True if the SPPF of the current input string was loaded from the cache
+   */
+  private boolean cachedSPPF;
+
   /**
    * Constructs a new <code>TreeBuilder</code> with the given parser, lexer,
    * derivation tree reduction scheme, and set of GIFT transformations
@@ -122,6 +219,47 @@ public class TreeBuilder {
     return astTreeRoot.toTreeString();
   }
 
+  /**
+   * Returns the AST in the tree string format described in
+   * {@link TreeBuilder#astToTreeString()}, with the line and column of every
+   * node in the unprocessed string appended to its label. If the input string
+   * was not preprocessed by
+   * {@link TreeBuilder#generateASTFromSource(String, String)} the positions
+   * refer to the input string itself.
+   *
+   * @return The AST in tree string format with original positions
+   */
+  public String astToTreeStringWithPositions() {
+    if (astTreeRoot == null) {
+      return "";
+    }
+    if (positions == null) {
+      final SourcePositionMap identity = new SourcePositionMap(currentInput);
+      identity.copied(0, 0);
+      return astTreeRoot.toTreeString(identity);
+    }
+    return astTreeRoot.toTreeString(positions);
+  }
+
+  /**
+   * Returns the AST in the binary form described by
+   * {@link BaseDerivationNode#writeTree(java.io.DataOutput)}
+   *
+   * @return The AST in binary form (empty if no AST has been constructed)
+   */
+  public byte[] astToBinary() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    if (astTreeRoot != null) {
+      try {
+        astTreeRoot.writeTree(new DataOutputStream(bytes));
+      } catch (final IOException e) {
+        // Writing to a byte array cannot fail
+        throw new UncheckedIOException(e);
+      }
+    }
+    return bytes.toByteArray();
+  }
+
   /**
    * If the root of the derivation tree is T and the list of its children is
    * T1,...,TN then this method returns the string
@@ -140,6 +278,10 @@ public class TreeBuilder {
   /**
    * Disambiguates the ESPPF.
    * <p>
+   * If the SPPF was loaded from the SPPF cache it was saved already filtered,
+   * so only the derivation PPF is built. Otherwise the filtered SPPF is saved
+   * to the cache, when there is one.
+   * <p>
    * (NOTE: This requires {@link TreeBuilder#parse(string)} or
    * {@link TreeBuilder#parse(String, String)} to have been called first)
    *
@@ -152,10 +294,22 @@ public class TreeBuilder {
       return null;
     }
 
-    disScheme.filterSPPF();
+    profile.start(Stage.FILTER_SPPF);
+    disScheme.setInputTriples(currentTriples);
+    if (!cachedSPPF) {
+      disScheme.filterSPPF();
+      saveCachedSPPF();
+    }
+    profile.start(Stage.GENERATE_DPPF);
     derivationTreeRoot = disScheme.generateDerivationPPF();
 
+    profile.start(Stage.CLONE);
     astTreeRoot = derivationTreeRoot.clone();
+    profile.stop();
+    if (profile.isEnabled()) {
+      profile.setSize(Size.DPPF_NODES, derivationTreeRoot.countNodes());
+      profile.setRemainingDerivations(getRemainingDerivations());
+    }
 
     if (debugging) {
       System.out.println("Derivation tree constructed.");
@@ -167,6 +321,10 @@ public class TreeBuilder {
    * Takes the given input string, tokenises it, passes the tokenisations to the
    * parser, and then performs derivation tree reduction and GIFT
    * transformations on the result.
+   * <p>
+   * Any trees and lexer state left over from a previous call are discarded
+   * first, so a single <code>TreeBuilder</code> can be reused for a sequence of
+   * input strings.
    * 
    * @param filename
    *          The filename of the string being parsed (for error reporting
@@ -177,18 +335,218 @@ public class TreeBuilder {
    *           If the program is either unable to tokenise or parse the string.
    */
   public void generateAST(String filename, String input) throws InvalidParseException {
-    CSLexer.longestMatchesCS(lex);
-    CSLexer.equalPriorityMatchesCS(lex);
+    reset();
+    buildAST(filename, null, input);
+  }
 
-    lex.lexSegmented(filename, input);
+  /**
+   * Takes the given unprocessed input string, applies
+   * {@link TreeBuilder#preprocess(String, SourcePositionMap)} to it and then
+   * constructs its AST as described in
+   * {@link TreeBuilder#generateAST(String, String)}. The position in the
+   * unprocessed string of each character of the input string is recorded
+   * during preprocessing (see {@link TreeBuilder#getSourcePositionMap()}).
+   * When profiling is enabled the preprocessing step is measured as well.
+   *
+   * @param filename
+   *          The filename of the string being parsed (for error reporting
+   *          purposes. Use the empty string if input does not come from a file)
+   * @param source
+   *          The unprocessed input string to parse
+   * @throws InvalidParseException
+   *           If the program is either unable to tokenise or parse the string.
+   */
+  public void generateASTFromSource(String filename, String source) throws InvalidParseException {
+    generateASTFromSource(filename, source, null);
+  }
+
+  /**
+   * Constructs the AST of an unprocessed input string read from the given
+   * file, as described in
+   * {@link TreeBuilder#generateASTFromSource(String, String)}. When SPPF
+   * caching is on (see {@link TreeBuilder#setSPPFCache(Path)}) the filtered
+   * SPPF of the string is saved under a name derived from the path of the
+   * file, so that files with the same name in different directories are
+   * cached separately.
+   *
+   * @param filename
+   *          The filename of the string being parsed (for error reporting
+   *          purposes)
+   * @param source
+   *          The unprocessed input string to parse
+   * @param file
+   *          The file the string was read from, or <code>null</code> if its
+   *          SPPF should not be cached
+   * @throws InvalidParseException
+   *           If the program is either unable to tokenise or parse the string.
+   */
+  public void generateASTFromSource(String filename, String source, Path file) throws InvalidParseException {
+    reset();
+    profile.start(Stage.PREPROCESS);
+    positions = new SourcePositionMap(source);
+    final String input = preprocess(source, positions);
+    profile.stop();
+    buildAST(filename, file, input);
+  }
 
-    parse(lex.toTok(lex.getDisambiguated()), input);
+  /**
+   * Runs the pipeline on an input string, recording each stage in the profile.
+   *
+   * @param filename
+   *          The filename of the string being parsed
+   * @param file
+   *          The file the string was read from, or <code>null</code> if its
+   *          SPPF should not be cached
+   * @param input
+   *          The input string to parse
+   * @throws InvalidParseException
+   *           If the program is either unable to tokenise or parse the string.
+   */
+  private void buildAST(String filename, Path file, String input) throws InvalidParseException {
+    profile.setSize(Size.INPUT_LENGTH, input.length());
+    if (!loadCachedSPPF(filename, file, input)) {
+      lexAndParse(filename, input);
+    }
     currentInput = input;
     reductor.setInputString(input);
     filter(reductor);
     toAST(transforms);
   }
 
+  /**
+   * Lexes and parses an input string, recording each stage in the profile.
+   *
+   * @param filename
+   *          The filename of the string being parsed
+   * @param input
+   *          The input string to parse
+   * @throws InvalidParseException
+   *           If the program is either unable to tokenise or parse the string.
+   */
+  private void lexAndParse(String filename, String input) throws InvalidParseException {
+    // Lexing and lexical disambiguation are run as separate steps (rather than
+    // through lexSegmented) so that they can be measured separately
+    if (input.contains("\n\n")) {
+      System.err.println("WARNING: String contains a blank line. Possibly not initially processed?");
+    }
+    profile.start(Stage.LEX);
+    lex.lexSegmentedWithoutSideEffects(filename, input);
+    profile.stop();
+    if (lex.getTriples().isEmpty() && input.length() != 0) {
+      System.err.printf("String %s rejected by lexer%n", filename);
+      throw new InvalidParseException();
+    }
+    profile.start(Stage.DISAMBIGUATE);
+    final Set<TokenTriple> disambiguated = lex.disambiguate(lex.getTriples());
+    profile.stop();
+    if (disambiguated.isEmpty() && input.length() != 0) {
+      System.err.printf("String %s rejected by lexer%n", filename);
+      throw new InvalidParseException();
+    }
+    profile.setSize(Size.TRIPLES, lex.getTriples().size());
+    profile.setSize(Size.DISAMBIGUATED_TRIPLES, disambiguated.size());
+    if (ruleGroups != null && lex.getTriples() instanceof PackedTripleSet
+            && disambiguated instanceof PackedTripleSet) {
+      lexicalStatistics = new LexicalStatistics(input, positions, (PackedTripleSet) lex.getTriples(),
+              (PackedTripleSet) disambiguated, ruleGroups);
+    }
+
+    if (parser instanceof TWESetParser && disambiguated instanceof PackedTripleSet) {
+      // Hand the TWE set straight to the parser; the toTok text is only built
+      // to report a failed parse
+      profile.start(Stage.PARSE);
+      ((TWESetParser) parser).parse((PackedTripleSet) disambiguated, input.length() + 1);
+      profile.stop();
+      currentTriples = disambiguated.size();
+      checkParse(() -> lex.toTok(disambiguated));
+    } else {
+      profile.start(Stage.TO_TOK);
+      final String tok = lex.toTok(disambiguated);
+      profile.stop();
+      parse(tok, input);
+    }
+  }
+
+  /**
+   * Loads the SPPF of an input string from the SPPF cache into the parser, if
+   * the cache holds one that was built from the same input string by a parser
+   * for the same grammar, a lexer with the same tokens and lexical
+   * disambiguation rules and a reductor with the same derivation reduction
+   * rules. If it does not, the file the SPPF should be saved to is remembered
+   * instead.
+   *
+   * @param filename
+   *          The filename of the string being parsed
+   * @param file
+   *          The file the string was read from, or <code>null</code> if its
+   *          SPPF should not be cached
+   * @param input
+   *          The input string to parse
+   * @return True if the SPPF was loaded
+   */
+  private boolean loadCachedSPPF(String filename, Path file, String input) {
+    if (sppfCache == null || file == null || !(parser instanceof CompactingParser)
+            || !(lex instanceof ProductLexer)) {
+      return false;
+    }
+    final MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      // Every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+    // The SPPF depends on the tokens and lexical disambiguation rules as well
+    // as the grammar, and is filtered by the derivation reduction rules
+    final int[] fingerprints = { ((CompactingParser) parser).getGrammarFingerprint(),
+        ((ProductLexer) lex).getFingerprint(), reductor.getRuleFingerprint() };
+    for (final int fingerprint : fingerprints) {
+      digest.update(new byte[] { (byte) (fingerprint >>> 24), (byte) (fingerprint >>> 16), (byte) (fingerprint >>> 8),
+          (byte) fingerprint });
+    }
+    digest.update(input.getBytes(StandardCharsets.UTF_8));
+    sppfCacheKey = digest.digest();
+    // The name is only a hint for a reader of the cache directory; the hash of
+    // the full path keeps files with the same name apart
+    sppfCacheFile = sppfCache
+            .resolve(String.format("%s-%08x.sppf", filename, file.toAbsolutePath().normalize().toString().hashCode()));
+    sppfCacheInput = input;
+    // Statistics are computed while lexing and parsing, so a saved SPPF is not
+    // reused while they are being recorded, although it is still saved
+    if (ruleGroups == null && !recordParseStatistics && Files.isRegularFile(sppfCacheFile)) {
+      try {
+        final CompactSPPF sppf = CompactSPPF.map(sppfCacheFile);
+        if (MessageDigest.isEqual(sppf.getKey(), sppfCacheKey)) {
+          ((CompactingParser) parser).loadSPPF(sppf);
+          cachedSPPF = true;
+          System.out.println("Parse forest loaded from cache.");
+          return true;
+        }
+      } catch (final IOException e) {
+        // An unreadable file is replaced once the input has been parsed
+        System.err.println("Unable to read SPPF cache file " + sppfCacheFile + ": " + e.getMessage());
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Saves the filtered SPPF of the input string to the SPPF cache, if it was
+   * not loaded from there
+   */
+  private void saveCachedSPPF() {
+    // The parser may have been given a different string directly since the
+    // cache file was chosen
+    if (sppfCacheFile == null || cachedSPPF || sppfCacheInput != currentInput) {
+      return;
+    }
+    try {
+      new CompactSPPF(parser).write(sppfCacheFile, sppfCacheKey);
+    } catch (final IOException e) {
+      System.err.println("Unable to write SPPF cache file " + sppfCacheFile + ": " + e.getMessage());
+    }
+  }
+
   /**
    * Returns the number of nodes in the AST (0 if no AST constructed)
    * 
@@ -252,7 +610,7 @@ public class TreeBuilder {
    *           parser)
    */
   public BigInteger getRemainingDerivations() throws InvalidParseException {
-    final DerivationCounter count = new DerivationCounter(parser);
+    final DerivationCounter count = new DerivationCounter(parser, ParseSizeModel.expectedSPPFNodes(currentTriples));
     return count.countDerivations();
 
   }
@@ -266,15 +624,43 @@ public class TreeBuilder {
    *           If there is no valid parse
    */
   public void parse(String input) throws InvalidParseException {
+    currentTriples = 0;
+    profile.start(Stage.PARSE);
     parser.parse(input);
+    profile.stop();
     currentInput = input;
+    checkParse(() -> input);
+  }
 
+  /**
+   * Checks that the last call to the parser accepted its input, then records
+   * the enabled measurements of the parse and lets the parser release the
+   * memory that is not needed to read the SPPF
+   *
+   * @param input
+   *          Supplies the parser input, which is displayed if it was rejected
+   * @throws InvalidParseException
+   *           If there is no valid parse
+   */
+  private void checkParse(Supplier<String> input) throws InvalidParseException {
+    parseStatistics = null;
+    cachedSPPF = false;
     if (!parser.getInLanguage()) {
-      System.out.println(input);
+      System.out.println(input.get());
       throw new InvalidParseException();
     }
 
     System.out.println("Parse successful.");
+    if (profile.isEnabled()) {
+      recordSPPFSize();
+    }
+    if (recordParseStatistics && parser instanceof GLLHashPool) {
+      parseStatistics = new ParseStatistics((GLLHashPool) parser);
+    }
+    // Only the SPPF is needed from here on
+    if (parser instanceof CompactingParser) {
+      ((CompactingParser) parser).compactSPPF();
+    }
   }
 
   /**
@@ -293,6 +679,166 @@ public class TreeBuilder {
     currentInput = input;
   }
 
+  /**
+   * Discards the trees and the lexer state built for the previous input string
+   * so that the parser, lexer, reductor and transformations held by this
+   * <code>TreeBuilder</code> can be reused for the next one.
+   */
+  public void reset() {
+    currentInput = null;
+    positions = null;
+    currentTriples = 0;
+    derivationTreeRoot = null;
+    astTreeRoot = null;
+    lex.resetLexer();
+    profile.clear();
+    lexicalStatistics = null;
+    parseStatistics = null;
+    sppfCacheFile = null;
+    sppfCacheInput = null;
+    cachedSPPF = false;
+  }
+
+  /**
+   * Returns the per-stage measurements for the last input string processed by
+   * {@link TreeBuilder#generateAST(String, String)} or
+   * {@link TreeBuilder#generateASTFromSource(String, String)}. Measurements are
+   * only recorded while profiling is enabled.
+   *
+   * @return The profile of the last input string
+   */
+  public PipelineProfile getProfile() {
+    return profile;
+  }
+
+  /**
+   * Returns the lexical statistics of the last input string processed by
+   * {@link TreeBuilder#generateAST(String, String)} or
+   * {@link TreeBuilder#generateASTFromSource(String, String)}. Statistics are
+   * only recorded while they are enabled, and only for the TWE sets of a
+   * <code>ProductLexer</code>.
+   *
+   * @return The lexical statistics of the last input string, or
+   *         <code>null</code> if none were recorded
+   */
+  public LexicalStatistics getLexicalStatistics() {
+    return lexicalStatistics;
+  }
+
+  /**
+   * Switches recording of lexical statistics on or off
+   *
+   * @param ruleGroups
+   *          The lexical disambiguation rule groups whose effect should be
+   *          recorded, keyed by name, or <code>null</code> if no statistics
+   *          should be recorded
+   */
+  public void setLexicalStatistics(Map<String, DisambiguationScheme> ruleGroups) {
+    this.ruleGroups = ruleGroups;
+  }
+
+  /**
+   * Returns the parse statistics of the last input string accepted by the
+   * parser. Statistics are only recorded while they are enabled, and only for
+   * a parser derived from <code>GLLHashPool</code>.
+   *
+   * @return The parse statistics of the last input string, or
+   *         <code>null</code> if none were recorded
+   */
+  public ParseStatistics getParseStatistics() {
+    return parseStatistics;
+  }
+
+  /**
+   * Switches recording of parse statistics on or off
+   *
+   * @param recordParseStatistics
+   *          True if the parse statistics of each input string should be
+   *          recorded
+   */
+  public void setParseStatistics(boolean recordParseStatistics) {
+    this.recordParseStatistics = recordParseStatistics;
+  }
+
+  /**
+   * Switches caching of filtered SPPFs on or off. While caching is on, the
+   * filtered SPPF of each input string read from a file (see
+   * {@link TreeBuilder#generateASTFromSource(String, String, Path)}) is saved
+   * (see {@link CompactSPPF}) to
+   * <em>directory</em>/<em>filename</em>-<em>hash</em>.sppf, where
+   * <em>hash</em> is a hash of the absolute path of the file, and an input
+   * string that has not changed since its SPPF was saved is not
+   * lexed or parsed again: the saved SPPF is memory-mapped and the trees are
+   * built from it. While lexical or parse statistics are being recorded (see
+   * {@link TreeBuilder#setLexicalStatistics(Map)} and
+   * {@link TreeBuilder#setParseStatistics(boolean)}) SPPFs are saved but not
+   * reused, so that every input string is lexed and parsed. A saved SPPF is only reused by a pipeline with the same
+   * grammar, tokens, lexical disambiguation rules and derivation reduction
+   * rules as the one that saved it. Caching needs a parser that implements
+   * {@link CompactingParser} and a {@link ProductLexer}.
+   *
+   * @param directory
+   *          The directory to cache SPPFs in, or <code>null</code> if they
+   *          should not be cached
+   */
+  public void setSPPFCache(Path directory) {
+    sppfCache = directory;
+  }
+
+  /**
+   * Returns the map from the last input string back to the unprocessed string
+   * given to {@link TreeBuilder#generateASTFromSource(String, String)}
+   *
+   * @return The source position map, or <code>null</code> if the last input
+   *         string was not preprocessed by this <code>TreeBuilder</code>
+   */
+  public SourcePositionMap getSourcePositionMap() {
+    return positions;
+  }
+
+  /**
+   * Switches per-stage profiling on or off
+   *
+   * @param profiling
+   *          True if each stage should be measured
+   */
+  public void setProfiling(boolean profiling) {
+    profile.setEnabled(profiling);
+  }
+
+  /**
+   * Converts an unprocessed input string into the form expected by the lexer,
+   * recording the position in the unprocessed string of each character of the
+   * result. The default implementation returns the string unchanged.
+   *
+   * @param source
+   *          The unprocessed input string
+   * @param positions
+   *          The map to record the original positions in
+   * @return The processed input string
+   */
+  protected String preprocess(String source, SourcePositionMap positions) {
+    positions.copied(0, 0);
+    return source;
+  }
+
+  /**
+   * Records the number of SPPF nodes and packed nodes constructed by the parser
+   * in the profile.
+   */
+  private void recordSPPFSize() {
+    long nodes = 0;
+    long packNodes = 0;
+    for (int node = parser.sppfNodeFirst(); node != 0; node = parser.sppfNodeNext()) {
+      nodes++;
+      for (int pack = parser.sppfNodePackNodeList(node); pack != 0; pack = parser.sppfPackNodePackNodeList(pack)) {
+        packNodes++;
+      }
+    }
+    profile.setSize(Size.SPPF_NODES, nodes);
+    profile.setSize(Size.PACK_NODES, packNodes);
+  }
+
   /**
    * Sets the derivation tree
    * 
@@ -318,7 +864,12 @@ public class TreeBuilder {
       return null;
     }
 
+    profile.start(Stage.TO_AST);
     astTreeRoot = transforms.toAST(astTreeRoot, currentInput);
+    profile.stop();
+    if (profile.isEnabled()) {
+      profile.setSize(Size.AST_NODES, astTreeRoot.countNodes());
+    }
     System.out.println("AST constructed.");
     return astTreeRoot;
   }